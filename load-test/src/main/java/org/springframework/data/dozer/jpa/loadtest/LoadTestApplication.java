@@ -0,0 +1,37 @@
+package org.springframework.data.dozer.jpa.loadtest;
+
+import java.io.File;
+
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.data.dozer.jpa.loadtest.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.repository.support.DozerQueryStatisticsRegistry;
+
+/**
+ * Runs the load test and writes its report. See {@link LoadTestOptions} for the
+ * supported arguments.
+ */
+public class LoadTestApplication {
+
+	public static void main(String[] args) throws Exception {
+		LoadTestOptions options = LoadTestOptions.parse(args);
+
+		try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+				LoadTestConfiguration.class)) {
+			LoadTestRunner runner = new LoadTestRunner(context.getBean(BookRepository.class), options);
+
+			System.out.println("Seeding " + options.getRows() + " rows");
+			runner.seed();
+
+			System.out.println("Running " + options.getThreads() + " threads for " + options.getWarmupSeconds()
+					+ "s warmup and " + options.getDurationSeconds() + "s measurement");
+			File report = runner.run().writeReport();
+
+			System.out.println("Report written to " + report.getAbsolutePath());
+
+			System.out.println("Query method statistics:");
+			for (String line : DozerQueryStatisticsRegistry.getInstance().getSummary()) {
+				System.out.println("  " + line);
+			}
+		}
+	}
+}
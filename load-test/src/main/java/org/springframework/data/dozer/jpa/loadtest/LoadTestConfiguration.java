@@ -0,0 +1,86 @@
+package org.springframework.data.dozer.jpa.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.dozer.jpa.loadtest.domain.Book;
+import org.springframework.data.dozer.jpa.loadtest.domain.BookEntity;
+import org.springframework.data.dozer.jpa.loadtest.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.loadtest.repository.jpa.BookEntityRepository;
+import org.springframework.data.dozer.jpa.repository.config.EnableDozerJpaRepositories;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.EclipseLinkJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+
+/**
+ * Application context of the load test: an embedded H2 database, EclipseLink,
+ * a JPA repository for {@link BookEntity} and the dozer repository for
+ * {@link Book} adapting it.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackageClasses = BookEntityRepository.class)
+@EnableDozerJpaRepositories(basePackageClasses = BookRepository.class)
+public class LoadTestConfiguration {
+
+	@Bean
+	public DataSource dataSource() {
+		return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+	}
+
+	@Bean
+	public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		EclipseLinkJpaVendorAdapter vendorAdapter = new EclipseLinkJpaVendorAdapter();
+		vendorAdapter.setDatabase(Database.H2);
+		vendorAdapter.setGenerateDdl(true);
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("eclipselink.weaving", "false");
+		properties.put("eclipselink.logging.level", "WARNING");
+		properties.put("eclipselink.jdbc.batch-writing", "JDBC");
+
+		LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+		factory.setDataSource(dataSource);
+		factory.setJpaVendorAdapter(vendorAdapter);
+		factory.setPackagesToScan(BookEntity.class.getPackage().getName());
+		factory.setJpaPropertyMap(properties);
+		return factory;
+	}
+
+	@Bean
+	public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+		return new JpaTransactionManager(entityManagerFactory);
+	}
+
+	@Bean
+	public Mapper dozerMapper() {
+		return DozerBeanMapperBuilder.create().withMappingBuilder(new BeanMappingBuilder() {
+			@Override
+			protected void configure() {
+				mapping(Book.class, BookEntity.class);
+			}
+		}).build();
+	}
+
+	@Bean
+	public ConversionService defaultConversionService() {
+		return new DefaultConversionService();
+	}
+}
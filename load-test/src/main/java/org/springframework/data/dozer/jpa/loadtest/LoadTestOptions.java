@@ -0,0 +1,119 @@
+package org.springframework.data.dozer.jpa.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Options of a load test run, parsed from {@code --name=value} arguments.
+ */
+public class LoadTestOptions {
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int durationSeconds = 30;
+	private int warmupSeconds = 10;
+	private int rows = 10000;
+	private int rate;
+	private Map<String, Integer> mix = parseMix("findById=50,findByAuthor=30,findByAuthorPaged=10,save=10");
+	private String label;
+	private String report = "target/load-test-report.json";
+
+	public static LoadTestOptions parse(String[] args) {
+		LoadTestOptions options = new LoadTestOptions();
+
+		for (String arg : args) {
+			if (!StringUtils.hasText(arg)) {
+				continue;
+			}
+			Assert.isTrue(arg.startsWith("--") && arg.indexOf('=') > 2, "Expected --name=value but got " + arg);
+
+			String name = arg.substring(2, arg.indexOf('='));
+			String value = arg.substring(arg.indexOf('=') + 1);
+			switch (name) {
+			case "threads":
+				options.threads = Integer.parseInt(value);
+				break;
+			case "duration":
+				options.durationSeconds = Integer.parseInt(value);
+				break;
+			case "warmup":
+				options.warmupSeconds = Integer.parseInt(value);
+				break;
+			case "rows":
+				options.rows = Integer.parseInt(value);
+				break;
+			case "rate":
+				options.rate = Integer.parseInt(value);
+				break;
+			case "mix":
+				options.mix = parseMix(value);
+				break;
+			case "label":
+				options.label = value;
+				break;
+			case "report":
+				options.report = value;
+				break;
+			default:
+				throw new IllegalArgumentException("Unknown option " + name);
+			}
+		}
+
+		Assert.isTrue(options.threads > 0, "Threads must be greater than zero!");
+		Assert.isTrue(options.durationSeconds > 0, "Duration must be greater than zero!");
+		Assert.isTrue(options.warmupSeconds >= 0, "Warmup must not be negative!");
+		Assert.isTrue(options.rows > 0, "Rows must be greater than zero!");
+		Assert.isTrue(options.rate >= 0, "Rate must not be negative!");
+
+		return options;
+	}
+
+	private static Map<String, Integer> parseMix(String value) {
+		Map<String, Integer> mix = new LinkedHashMap<>();
+		for (String entry : StringUtils.commaDelimitedListToStringArray(value)) {
+			String[] weight = StringUtils.split(entry.trim(), "=");
+			Assert.notNull(weight, "Expected operation=weight but got " + entry);
+			mix.put(weight[0], Integer.valueOf(weight[1]));
+		}
+		return mix;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	public int getDurationSeconds() {
+		return durationSeconds;
+	}
+
+	public int getWarmupSeconds() {
+		return warmupSeconds;
+	}
+
+	public int getRows() {
+		return rows;
+	}
+
+	/**
+	 * The operations per second each thread starts, {@literal 0} to start the
+	 * next operation as soon as the previous one completed.
+	 *
+	 * @return
+	 */
+	public int getRate() {
+		return rate;
+	}
+
+	public Map<String, Integer> getMix() {
+		return mix;
+	}
+
+	public String getLabel() {
+		return label;
+	}
+
+	public String getReport() {
+		return report;
+	}
+}
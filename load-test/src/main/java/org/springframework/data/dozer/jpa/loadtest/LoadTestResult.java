@@ -0,0 +1,108 @@
+package org.springframework.data.dozer.jpa.loadtest;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.data.dozer.jpa.repository.config.EnableDozerJpaRepositories;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Latency histograms and error counts of a load test run, merged over all
+ * threads, and their JSON report.
+ */
+public class LoadTestResult {
+	private static final double[] PERCENTILES = { 50, 90, 99, 99.9, 99.99 };
+	private static final String[] PERCENTILE_NAMES = { "p50", "p90", "p99", "p99_9", "p99_99" };
+
+	private final LoadTestOptions options;
+	private final long measuredMillis;
+	private final Map<String, Histogram> histograms = new TreeMap<>();
+	private final Map<String, Long> errors = new TreeMap<>();
+
+	LoadTestResult(LoadTestOptions options, long measuredMillis) {
+		this.options = options;
+		this.measuredMillis = measuredMillis;
+	}
+
+	void add(Map<String, Histogram> threadHistograms, Map<String, Long> threadErrors) {
+		threadHistograms.forEach((operation, histogram) -> {
+			Histogram merged = histograms.get(operation);
+			if (merged == null) {
+				histograms.put(operation, histogram.copy());
+			} else {
+				merged.add(histogram);
+			}
+		});
+		threadErrors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+	}
+
+	/**
+	 * Writes the report to the configured file.
+	 *
+	 * @return the report file.
+	 * @throws IOException
+	 */
+	public File writeReport() throws IOException {
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("label", options.getLabel() != null ? options.getLabel() : getLibraryVersion());
+		report.put("timestamp", Instant.now().toString());
+		report.put("javaVersion", System.getProperty("java.version"));
+		report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+		report.put("threads", options.getThreads());
+		report.put("warmupSeconds", options.getWarmupSeconds());
+		report.put("measuredMillis", measuredMillis);
+		report.put("rows", options.getRows());
+		report.put("rate", options.getRate());
+		report.put("mix", options.getMix());
+
+		Map<String, Object> operations = new LinkedHashMap<>();
+		histograms.forEach((operation, histogram) -> operations.put(operation, toReport(operation, histogram)));
+		errors.keySet().stream().filter(operation -> !histograms.containsKey(operation))
+				.forEach(operation -> operations.put(operation, toReport(operation, null)));
+		report.put("operations", operations);
+
+		File file = new File(options.getReport());
+		if (file.getParentFile() != null) {
+			file.getParentFile().mkdirs();
+		}
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(file, report);
+
+		return file;
+	}
+
+	private Map<String, Object> toReport(String operation, Histogram histogram) {
+		Map<String, Object> result = new LinkedHashMap<>();
+		long count = histogram == null ? 0 : histogram.getTotalCount();
+
+		result.put("count", count);
+		result.put("errors", errors.getOrDefault(operation, 0L));
+		if (!LoadTestRunner.FIRST_CALL.equals(operation)) {
+			result.put("throughputPerSecond", measuredMillis == 0 ? 0 : count * 1000.0 / measuredMillis);
+		}
+
+		if (histogram != null) {
+			Map<String, Object> latency = new LinkedHashMap<>();
+			latency.put("min", histogram.getMinValue());
+			latency.put("mean", histogram.getMean());
+			for (int i = 0; i < PERCENTILES.length; i++) {
+				latency.put(PERCENTILE_NAMES[i], histogram.getValueAtPercentile(PERCENTILES[i]));
+			}
+			latency.put("max", histogram.getMaxValue());
+			result.put("latencyMicros", latency);
+		}
+
+		return result;
+	}
+
+	private static String getLibraryVersion() {
+		String version = EnableDozerJpaRepositories.class.getPackage().getImplementationVersion();
+		return version != null ? version : "unknown";
+	}
+}
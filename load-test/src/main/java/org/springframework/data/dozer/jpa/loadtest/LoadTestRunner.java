@@ -0,0 +1,227 @@
+package org.springframework.data.dozer.jpa.loadtest;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+import org.HdrHistogram.Histogram;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.dozer.jpa.loadtest.domain.Book;
+import org.springframework.data.dozer.jpa.loadtest.repository.dozer.BookRepository;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drives the configured operation mix through a {@link BookRepository} from
+ * several threads and records the latency of each operation. All threads are
+ * released at the same instant; the first call of every thread is recorded
+ * separately as {@value #FIRST_CALL}.
+ * <p>
+ * With a rate configured, every thread starts operations on a fixed schedule
+ * and latencies are measured from the scheduled start, so that a stalled
+ * operation is charged to the operations it delayed instead of hiding them
+ * (coordinated omission). Without a rate, threads run closed-loop and
+ * latencies are service times.
+ */
+@Slf4j
+public class LoadTestRunner {
+	static final String FIRST_CALL = "first-call";
+	static final int AUTHORS = 100;
+	static final int UPSERT_BATCH = 100;
+	private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+	private static final int SIGNIFICANT_DIGITS = 3;
+
+	private final BookRepository repository;
+	private final LoadTestOptions options;
+	private final Map<String, Consumer<ThreadLocalRandom>> operations = new LinkedHashMap<>();
+	private final int totalWeight;
+	private final Set<String> loggedFailures = ConcurrentHashMap.newKeySet();
+
+	public LoadTestRunner(BookRepository repository, LoadTestOptions options) {
+		this.repository = repository;
+		this.options = options;
+
+		operations.put("findById", random -> repository.findById(randomId(random)));
+		operations.put("findByAuthor",
+				random -> repository.findByAuthor(randomAuthor(random), Sort.by("title")));
+		operations.put("findByAuthorPaged", random -> repository.findByAuthor(randomAuthor(random),
+				PageRequest.of(random.nextInt(5), 20, Sort.by(Sort.Direction.DESC, "pages"))));
+		operations.put("save", random -> repository.findById(randomId(random)).ifPresent(book -> {
+			book.setPages(random.nextInt(1, 1000));
+			repository.save(book);
+		}));
+		operations.put("upsert", random -> {
+			List<Book> books = new ArrayList<>(UPSERT_BATCH);
+			for (int i = 0; i < UPSERT_BATCH; i++) {
+				books.add(newBook(randomId(random), random.nextInt(1, 1000)));
+			}
+			repository.upsertAll(books);
+		});
+
+		for (String name : options.getMix().keySet()) {
+			Assert.isTrue(operations.containsKey(name), "Unknown operation " + name);
+		}
+		this.totalWeight = options.getMix().values().stream().mapToInt(Integer::intValue).sum();
+		Assert.isTrue(totalWeight > 0, "Operation weights must add up to more than zero!");
+	}
+
+	/**
+	 * Inserts the rows the operations work on.
+	 */
+	public void seed() {
+		List<Book> books = new ArrayList<>();
+		for (long id = 1; id <= options.getRows(); id++) {
+			books.add(newBook(id, (int) (id % 1000) + 1));
+
+			if (books.size() == 1000) {
+				repository.saveAll(books);
+				books.clear();
+			}
+		}
+		repository.saveAll(books);
+	}
+
+	public LoadTestResult run() throws InterruptedException {
+		CountDownLatch start = new CountDownLatch(1);
+		List<Worker> workers = new ArrayList<>();
+		for (int i = 0; i < options.getThreads(); i++) {
+			Worker worker = new Worker(start);
+			worker.setName("load-test-" + i);
+			worker.start();
+			workers.add(worker);
+		}
+
+		long startedAt = System.nanoTime();
+		long measureFrom = startedAt + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+		long measureUntil = measureFrom + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+		for (Worker worker : workers) {
+			worker.measureFrom = measureFrom;
+			worker.measureUntil = measureUntil;
+		}
+		start.countDown();
+
+		LoadTestResult result = new LoadTestResult(options, TimeUnit.NANOSECONDS.toMillis(measureUntil - measureFrom));
+		for (Worker worker : workers) {
+			worker.join();
+			result.add(worker.histograms, worker.errors);
+		}
+		return result;
+	}
+
+	private String pickOperation(ThreadLocalRandom random) {
+		int pick = random.nextInt(totalWeight);
+		for (Map.Entry<String, Integer> entry : options.getMix().entrySet()) {
+			pick -= entry.getValue();
+			if (pick < 0) {
+				return entry.getKey();
+			}
+		}
+		throw new IllegalStateException();
+	}
+
+	private static Book newBook(long id, int pages) {
+		Book book = new Book();
+		book.setId(id);
+		book.setTitle("title-" + id);
+		book.setAuthor("author-" + id % AUTHORS);
+		book.setPages(pages);
+		return book;
+	}
+
+	private long randomId(ThreadLocalRandom random) {
+		return random.nextLong(1, options.getRows() + 1);
+	}
+
+	private static String randomAuthor(ThreadLocalRandom random) {
+		return "author-" + random.nextInt(AUTHORS);
+	}
+
+	/**
+	 * Logs the first failure of every operation and exception type.
+	 */
+	private void logFailure(String operation, RuntimeException ex) {
+		if (loggedFailures.add(operation + ":" + ex.getClass().getName())) {
+			log.warn("Operation {} failed on {}, further failures of this kind are only counted", operation,
+					Thread.currentThread().getName(), ex);
+		}
+	}
+
+	private static Histogram newHistogram() {
+		return new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+	}
+
+	private class Worker extends Thread {
+		private final CountDownLatch start;
+		private final Map<String, Histogram> histograms = new LinkedHashMap<>();
+		private final Map<String, Long> errors = new LinkedHashMap<>();
+		private volatile long measureFrom;
+		private volatile long measureUntil;
+
+		Worker(CountDownLatch start) {
+			this.start = start;
+		}
+
+		@Override
+		public void run() {
+			try {
+				start.await();
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			ThreadLocalRandom random = ThreadLocalRandom.current();
+			long intervalNanos = options.getRate() > 0 ? TimeUnit.SECONDS.toNanos(1) / options.getRate() : 0;
+			boolean first = true;
+			long now = System.nanoTime();
+			long scheduled = now;
+
+			while (now < measureUntil) {
+				String operation = pickOperation(random);
+
+				long begin;
+				if (intervalNanos > 0) {
+					while (scheduled - System.nanoTime() > 0) {
+						LockSupport.parkNanos(scheduled - System.nanoTime());
+					}
+					begin = scheduled;
+					scheduled += intervalNanos;
+				} else {
+					begin = System.nanoTime();
+				}
+
+				boolean failed = false;
+				try {
+					operations.get(operation).accept(random);
+				} catch (RuntimeException ex) {
+					failed = true;
+					logFailure(operation, ex);
+				}
+				now = System.nanoTime();
+
+				long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(now - begin), HIGHEST_TRACKABLE_MICROS);
+				if (first) {
+					histograms.computeIfAbsent(FIRST_CALL, name -> newHistogram()).recordValue(micros);
+					first = false;
+				}
+				if (begin >= measureFrom && now < measureUntil) {
+					if (failed) {
+						errors.merge(operation, 1L, Long::sum);
+					} else {
+						histograms.computeIfAbsent(operation, name -> newHistogram()).recordValue(micros);
+					}
+				}
+			}
+		}
+	}
+}
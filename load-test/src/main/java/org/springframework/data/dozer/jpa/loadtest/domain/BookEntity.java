@@ -0,0 +1,67 @@
+package org.springframework.data.dozer.jpa.loadtest.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+@Entity
+@Table(name = "BOOK", indexes = @Index(columnList = "AUTHOR"))
+public class BookEntity {
+	@Id
+	private Long id;
+
+	@Column(name = "TITLE", length = 200)
+	private String title;
+
+	@Column(name = "AUTHOR", length = 100)
+	private String author;
+
+	@Column(name = "PAGES")
+	private int pages;
+
+	@Version
+	private long version;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(String author) {
+		this.author = author;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public void setPages(int pages) {
+		this.pages = pages;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+}
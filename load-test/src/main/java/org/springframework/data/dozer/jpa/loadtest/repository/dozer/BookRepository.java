@@ -0,0 +1,20 @@
+package org.springframework.data.dozer.jpa.loadtest.repository.dozer;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.repository.DozerUpsertExecutor;
+import org.springframework.data.dozer.jpa.loadtest.domain.Book;
+import org.springframework.data.dozer.jpa.loadtest.repository.jpa.BookEntityRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+@DozerRepository(adaptedRepositoryClass = BookEntityRepository.class)
+public interface BookRepository extends PagingAndSortingRepository<Book, Long>, DozerUpsertExecutor<Book> {
+
+	List<Book> findByAuthor(String author, Sort sort);
+
+	Page<Book> findByAuthor(String author, Pageable pageable);
+}
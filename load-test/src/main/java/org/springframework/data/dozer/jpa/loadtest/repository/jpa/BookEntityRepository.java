@@ -0,0 +1,16 @@
+package org.springframework.data.dozer.jpa.loadtest.repository.jpa;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.dozer.jpa.loadtest.domain.BookEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookEntityRepository extends JpaRepository<BookEntity, Long> {
+
+	List<BookEntity> findByAuthor(String author, Sort sort);
+
+	Page<BookEntity> findByAuthor(String author, Pageable pageable);
+}
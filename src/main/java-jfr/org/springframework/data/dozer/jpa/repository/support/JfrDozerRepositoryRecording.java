@@ -0,0 +1,119 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * {@link DozerRepositoryRecording} backed by JFR events. Compiled separately
+ * from the other sources by the {@code jfr} build profile, which requires JDK 11
+ * or later, and only loaded reflectively when {@code jdk.jfr} is available at
+ * runtime.
+ */
+class JfrDozerRepositoryRecording extends DozerRepositoryRecording {
+
+	private final OperationEvent operation;
+	private PhaseEvent phase;
+
+	private JfrDozerRepositoryRecording(OperationEvent operation) {
+		this.operation = operation;
+	}
+
+	static DozerRepositoryRecording start(Class<?> repository, String operation) {
+		OperationEvent event = new OperationEvent();
+		if (!event.isEnabled()) {
+			return NONE;
+		}
+
+		event.repository = repository.getName();
+		event.method = operation;
+		event.begin();
+
+		return new JfrDozerRepositoryRecording(event);
+	}
+
+	/**
+	 * Instantiated reflectively by {@link DozerRepositoryRecording}.
+	 */
+	static class Factory implements RecordingFactory {
+
+		@Override
+		public DozerRepositoryRecording start(Class<?> repository, String operation) {
+			return JfrDozerRepositoryRecording.start(repository, operation);
+		}
+	}
+
+	@Override
+	public boolean isEnabled() {
+		return true;
+	}
+
+	@Override
+	public void beginPhase(String name) {
+		endPhase(UNKNOWN_ROW_COUNT);
+
+		phase = new PhaseEvent();
+		phase.repository = operation.repository;
+		phase.method = operation.method;
+		phase.phase = name;
+		phase.begin();
+	}
+
+	@Override
+	public void endPhase(long rowCount) {
+		if (phase != null) {
+			phase.rowCount = rowCount;
+			phase.commit();
+			phase = null;
+		}
+	}
+
+	@Override
+	public void end(long rowCount, String mappingStrategy) {
+		endPhase(rowCount);
+
+		operation.rowCount = rowCount;
+		operation.mappingStrategy = mappingStrategy;
+		operation.commit();
+	}
+
+	@Name("org.springframework.data.dozer.jpa.RepositoryOperation")
+	@Label("Dozer Repository Operation")
+	@Category({ "Spring Data", "Dozer JPA" })
+	@Description("Execution of a dozer repository method")
+	static class OperationEvent extends Event {
+
+		@Label("Repository")
+		String repository;
+
+		@Label("Method")
+		String method;
+
+		@Label("Row Count")
+		long rowCount;
+
+		@Label("Mapping Strategy")
+		String mappingStrategy;
+	}
+
+	@Name("org.springframework.data.dozer.jpa.RepositoryPhase")
+	@Label("Dozer Repository Phase")
+	@Category({ "Spring Data", "Dozer JPA" })
+	@Description("Phase of a dozer repository method execution")
+	static class PhaseEvent extends Event {
+
+		@Label("Repository")
+		String repository;
+
+		@Label("Method")
+		String method;
+
+		@Label("Phase")
+		String phase;
+
+		@Label("Row Count")
+		long rowCount;
+	}
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.dozer.jpa.datasource;
+
+import org.springframework.core.NamedThreadLocal;
+
+/**
+ * Holds the routing preference of the current thread for
+ * {@link ReadReplicaRoutingDataSource} and the time of the last committed write
+ * used for read-your-writes stickiness.
+ */
+public final class ReadReplicaRoutingContextHolder {
+
+	private static final ThreadLocal<Boolean> replicaPreferred = new NamedThreadLocal<>(
+			"Read replica routing preference");
+	private static final ThreadLocal<Long> lastWrite = new NamedThreadLocal<>("Last primary write");
+
+	private ReadReplicaRoutingContextHolder() {
+	}
+
+	public static boolean isReplicaPreferred() {
+		return Boolean.TRUE.equals(replicaPreferred.get());
+	}
+
+	public static void setReplicaPreferred(boolean preferred) {
+		if (preferred) {
+			replicaPreferred.set(Boolean.TRUE);
+		} else {
+			replicaPreferred.remove();
+		}
+	}
+
+	/**
+	 * Records the commit of a write through the primary at the given
+	 * {@link System#nanoTime()}.
+	 *
+	 * @param nanoTime
+	 */
+	public static void markWrite(long nanoTime) {
+		lastWrite.set(nanoTime);
+	}
+
+	/**
+	 * Returns the {@link System#nanoTime()} of the last write of the current thread
+	 * or {@literal null} if none was recorded.
+	 *
+	 * @return
+	 */
+	public static Long getLastWrite() {
+		return lastWrite.get();
+	}
+
+	public static void resetLastWrite() {
+		lastWrite.remove();
+	}
+}
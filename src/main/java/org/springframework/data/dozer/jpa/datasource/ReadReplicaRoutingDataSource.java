@@ -0,0 +1,193 @@
+package org.springframework.data.dozer.jpa.datasource;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link DataSource} routing read-only work to a replica and everything else to
+ * the primary. Work is considered read-only when the current transaction is
+ * read-only or when a dozer repository method bound a replica preference through
+ * {@link ReadReplicaRoutingContextHolder}.
+ * <p>
+ * The replica is skipped when its replication lag, as reported by the
+ * configured {@link ReplicaLagProvider}, exceeds the maximum lag, and for the
+ * read-your-writes window following the commit of a read-write transaction of
+ * the same thread. Work outside of a transaction without a replica preference
+ * uses the primary but does not open the window.
+ * <p>
+ * Since the route is chosen when a connection is obtained, the data source
+ * should be wrapped in a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy} so
+ * that the connection is only fetched once the transaction characteristics are
+ * known.
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Route {
+		PRIMARY, REPLICA
+	}
+
+	private @Nullable ReplicaLagProvider replicaLagProvider;
+	private Duration maxReplicaLag = Duration.ofSeconds(5);
+	private Duration lagCheckInterval = Duration.ofSeconds(1);
+	private Duration readYourWritesWindow = Duration.ZERO;
+
+	private volatile boolean lagChecked;
+	private volatile long lagCheckedAt;
+	private volatile boolean replicaWithinLag = true;
+
+	public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+		Assert.notNull(primary, "Primary DataSource must not be null!");
+		Assert.notNull(replica, "Replica DataSource must not be null!");
+
+		Map<Object, Object> targetDataSources = new HashMap<>();
+		targetDataSources.put(Route.PRIMARY, primary);
+		targetDataSources.put(Route.REPLICA, replica);
+
+		setTargetDataSources(targetDataSources);
+		setDefaultTargetDataSource(primary);
+	}
+
+	public void setReplicaLagProvider(@Nullable ReplicaLagProvider replicaLagProvider) {
+		this.replicaLagProvider = replicaLagProvider;
+	}
+
+	/**
+	 * The maximum replication lag tolerated for reads. Defaults to 5 seconds.
+	 *
+	 * @param maxReplicaLag must not be {@literal null}.
+	 */
+	public void setMaxReplicaLag(Duration maxReplicaLag) {
+		Assert.notNull(maxReplicaLag, "Max replica lag must not be null!");
+
+		this.maxReplicaLag = maxReplicaLag;
+	}
+
+	/**
+	 * How often the {@link ReplicaLagProvider} is consulted. Defaults to 1 second.
+	 *
+	 * @param lagCheckInterval must not be {@literal null}.
+	 */
+	public void setLagCheckInterval(Duration lagCheckInterval) {
+		Assert.notNull(lagCheckInterval, "Lag check interval must not be null!");
+
+		this.lagCheckInterval = lagCheckInterval;
+	}
+
+	/**
+	 * The time after the commit of a read-write transaction during which reads of
+	 * the same thread stick to the primary. Defaults to {@link Duration#ZERO},
+	 * i.e. no stickiness.
+	 *
+	 * @param readYourWritesWindow must not be {@literal null}.
+	 */
+	public void setReadYourWritesWindow(Duration readYourWritesWindow) {
+		Assert.notNull(readYourWritesWindow, "Read your writes window must not be null!");
+
+		this.readYourWritesWindow = readYourWritesWindow;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource#
+	 * determineCurrentLookupKey()
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		boolean transactional = TransactionSynchronizationManager.isActualTransactionActive();
+		boolean readOnly = transactional ? TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				: ReadReplicaRoutingContextHolder.isReplicaPreferred();
+
+		if (!readOnly) {
+			if (transactional) {
+				registerWriteSynchronization();
+			}
+			return Route.PRIMARY;
+		}
+
+		long now = System.nanoTime();
+		if (isWithinReadYourWritesWindow(now) || !isReplicaWithinLag(now)) {
+			return Route.PRIMARY;
+		}
+
+		return Route.REPLICA;
+	}
+
+	/**
+	 * Opens the read-your-writes window once the current transaction commits, so
+	 * that it starts after the writes became visible on the primary.
+	 */
+	private void registerWriteSynchronization() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+
+		for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+			if (synchronization instanceof WriteSynchronization) {
+				return;
+			}
+		}
+
+		TransactionSynchronizationManager.registerSynchronization(new WriteSynchronization());
+	}
+
+	private boolean isWithinReadYourWritesWindow(long now) {
+		Long lastWrite = ReadReplicaRoutingContextHolder.getLastWrite();
+
+		return lastWrite != null && now - lastWrite < readYourWritesWindow.toNanos();
+	}
+
+	private boolean isReplicaWithinLag(long now) {
+		if (replicaLagProvider == null) {
+			return true;
+		}
+
+		if (!lagChecked || now - lagCheckedAt >= lagCheckInterval.toNanos()) {
+			synchronized (this) {
+				if (!lagChecked || now - lagCheckedAt >= lagCheckInterval.toNanos()) {
+					replicaWithinLag = checkReplicaLag();
+					lagCheckedAt = now;
+					lagChecked = true;
+				}
+			}
+		}
+
+		return replicaWithinLag;
+	}
+
+	private boolean checkReplicaLag() {
+		try {
+			Duration lag = replicaLagProvider.getReplicaLag();
+			if (lag.compareTo(maxReplicaLag) > 0) {
+				log.debug("Replica lag {} exceeds {}, routing reads to the primary", lag, maxReplicaLag);
+				return false;
+			}
+			return true;
+		} catch (Exception ex) {
+			log.warn("Unable to determine the replica lag, routing reads to the primary", ex);
+			return false;
+		}
+	}
+
+	private static final class WriteSynchronization extends TransactionSynchronizationAdapter {
+
+		@Override
+		public void afterCommit() {
+			ReadReplicaRoutingContextHolder.markWrite(System.nanoTime());
+		}
+	}
+}
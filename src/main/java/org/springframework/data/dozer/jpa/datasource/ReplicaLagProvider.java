@@ -0,0 +1,18 @@
+package org.springframework.data.dozer.jpa.datasource;
+
+import java.time.Duration;
+
+/**
+ * Reports the replication lag of a read replica, e.g. by querying the
+ * replication status of the database.
+ */
+@FunctionalInterface
+public interface ReplicaLagProvider {
+
+	/**
+	 * @return the current replication lag, never {@literal null}.
+	 * @throws Exception when the lag cannot be determined, the replica is then
+	 *                   considered unavailable.
+	 */
+	Duration getReplicaLag() throws Exception;
+}
@@ -0,0 +1,100 @@
+package org.springframework.data.dozer.jpa.domain;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Query root of a {@link DozerSpecification}. Resolves dozer entity properties
+ * to paths of the adapted entity using the dozer field name mapping.
+ */
+public class DozerRoot {
+
+	private final Root<?> adaptedRoot;
+	private final Map<String, String> dozerEntityFieldNameToAdaptedFieldName;
+
+	public DozerRoot(Root<?> adaptedRoot, @Nullable Map<String, String> dozerEntityFieldNameToAdaptedFieldName) {
+		Assert.notNull(adaptedRoot, "Root must not be null!");
+
+		this.adaptedRoot = adaptedRoot;
+		this.dozerEntityFieldNameToAdaptedFieldName = dozerEntityFieldNameToAdaptedFieldName == null
+				? Collections.emptyMap()
+				: dozerEntityFieldNameToAdaptedFieldName;
+	}
+
+	/**
+	 * Returns the path of the adapted entity mapped to the given dozer entity
+	 * property. Nested properties are separated by {@literal .}.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public <Y> Path<Y> get(String property) {
+		Assert.hasText(property, "Property must not be empty!");
+
+		Path<?> path = adaptedRoot;
+		for (String segment : StringUtils.delimitedListToStringArray(toAdaptedProperty(property), ".")) {
+			path = path.get(segment);
+		}
+
+		@SuppressWarnings("unchecked")
+		Path<Y> result = (Path<Y>) path;
+		return result;
+	}
+
+	/**
+	 * Translates the given dozer entity property to the property of the adapted
+	 * entity. The longest mapped prefix of a nested property is translated.
+	 *
+	 * @param property must not be {@literal null}.
+	 * @return
+	 */
+	public String toAdaptedProperty(String property) {
+		return toAdaptedProperty(property, dozerEntityFieldNameToAdaptedFieldName);
+	}
+
+	/**
+	 * Translates the given dozer entity property to the property of the adapted
+	 * entity using the given dozer field name mapping.
+	 *
+	 * @param property                               must not be {@literal null}.
+	 * @param dozerEntityFieldNameToAdaptedFieldName can be {@literal null}.
+	 * @return
+	 */
+	public static String toAdaptedProperty(String property,
+			@Nullable Map<String, String> dozerEntityFieldNameToAdaptedFieldName) {
+		if (dozerEntityFieldNameToAdaptedFieldName == null || dozerEntityFieldNameToAdaptedFieldName.isEmpty()) {
+			return property;
+		}
+
+		String prefix = property;
+		while (true) {
+			String adapted = dozerEntityFieldNameToAdaptedFieldName.get(prefix);
+			if (adapted != null) {
+				return adapted + property.substring(prefix.length());
+			}
+
+			int index = prefix.lastIndexOf('.');
+			if (index < 0) {
+				return property;
+			}
+			prefix = prefix.substring(0, index);
+		}
+	}
+
+	/**
+	 * Returns the root of the adapted entity for joins and other criteria not
+	 * expressible through dozer entity properties.
+	 *
+	 * @return
+	 */
+	public Root<?> getAdaptedRoot() {
+		return adaptedRoot;
+	}
+}
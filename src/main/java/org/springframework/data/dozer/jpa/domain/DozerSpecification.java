@@ -0,0 +1,64 @@
+package org.springframework.data.dozer.jpa.domain;
+
+import java.io.Serializable;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Predicate;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Specification expressed in terms of dozer entity properties. Properties are
+ * resolved against the adapted entity through {@link DozerRoot} so the
+ * resulting predicate runs in the database.
+ *
+ * @param <T> the dozer entity type
+ */
+@FunctionalInterface
+public interface DozerSpecification<T> extends Serializable {
+
+	static <T> DozerSpecification<T> not(@Nullable DozerSpecification<T> spec) {
+		return spec == null ? (root, query, builder) -> null
+				: (root, query, builder) -> builder.not(spec.toPredicate(root, query, builder));
+	}
+
+	static <T> DozerSpecification<T> where(@Nullable DozerSpecification<T> spec) {
+		return spec == null ? (root, query, builder) -> null : spec;
+	}
+
+	default DozerSpecification<T> and(@Nullable DozerSpecification<T> other) {
+		return combine(other, true);
+	}
+
+	default DozerSpecification<T> or(@Nullable DozerSpecification<T> other) {
+		return combine(other, false);
+	}
+
+	default DozerSpecification<T> combine(@Nullable DozerSpecification<T> other, boolean conjunction) {
+		return (root, query, builder) -> {
+			Predicate thisPredicate = toPredicate(root, query, builder);
+			Predicate otherPredicate = other == null ? null : other.toPredicate(root, query, builder);
+
+			if (thisPredicate == null) {
+				return otherPredicate;
+			}
+			if (otherPredicate == null) {
+				return thisPredicate;
+			}
+			return conjunction ? builder.and(thisPredicate, otherPredicate) : builder.or(thisPredicate, otherPredicate);
+		};
+	}
+
+	/**
+	 * Creates a WHERE clause for a query of the adapted entity in form of a
+	 * {@link Predicate}.
+	 *
+	 * @param root            must not be {@literal null}.
+	 * @param query           must not be {@literal null}.
+	 * @param criteriaBuilder must not be {@literal null}.
+	 * @return a {@link Predicate}, may be {@literal null}.
+	 */
+	@Nullable
+	Predicate toPredicate(DozerRoot root, CriteriaQuery<?> query, CriteriaBuilder criteriaBuilder);
+}
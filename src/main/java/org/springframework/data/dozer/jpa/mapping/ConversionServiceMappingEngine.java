@@ -0,0 +1,34 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import org.springframework.core.convert.ConversionService;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MappingEngine} delegating to a {@link ConversionService}. Map ids are
+ * ignored.
+ */
+public class ConversionServiceMappingEngine implements MappingEngine {
+	private final ConversionService conversionService;
+
+	public ConversionServiceMappingEngine(ConversionService conversionService) {
+		Assert.notNull(conversionService, "ConversionService must not be null!");
+
+		this.conversionService = conversionService;
+	}
+
+	@Override
+	public boolean canMap(Class<?> sourceType, Class<?> targetType, @Nullable String mapId) {
+		return conversionService.canConvert(sourceType, targetType);
+	}
+
+	@Override
+	public <T> T map(Object source, Class<T> targetType, @Nullable String mapId) {
+		return conversionService.convert(source, targetType);
+	}
+
+	@Override
+	public String getName() {
+		return "conversion-service";
+	}
+}
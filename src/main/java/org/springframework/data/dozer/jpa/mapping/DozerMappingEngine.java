@@ -0,0 +1,39 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import org.springframework.data.dozer.repository.support.DozerUtilFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * {@link MappingEngine} delegating to a Dozer {@link Mapper}. It can map the
+ * types for which the mapper has a mapping definition.
+ */
+public class DozerMappingEngine implements MappingEngine {
+	private final Mapper dozerMapper;
+
+	public DozerMappingEngine(Mapper dozerMapper) {
+		Assert.notNull(dozerMapper, "Mapper must not be null!");
+
+		this.dozerMapper = dozerMapper;
+	}
+
+	@Override
+	public boolean canMap(Class<?> sourceType, Class<?> targetType, @Nullable String mapId) {
+		return DozerUtilFactory.getInstance().getDozerUtil(dozerMapper).hasDozerMapping(sourceType, targetType,
+				mapId);
+	}
+
+	@Override
+	public <T> T map(Object source, Class<T> targetType, @Nullable String mapId) {
+		return StringUtils.hasText(mapId) ? dozerMapper.map(source, targetType, mapId)
+				: dozerMapper.map(source, targetType);
+	}
+
+	@Override
+	public String getName() {
+		return "dozer";
+	}
+}
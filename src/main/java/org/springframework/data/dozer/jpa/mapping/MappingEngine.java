@@ -0,0 +1,44 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Maps dozer entities from and to their adapted domain classes. Implementations
+ * must be thread-safe.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerEntityMapping
+ */
+public interface MappingEngine {
+
+	/**
+	 * Returns whether this engine can map instances of the given source type to
+	 * the given target type.
+	 *
+	 * @param sourceType must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @param mapId      the map id declared by the dozer entity, can be
+	 *                   {@literal null}.
+	 * @return
+	 */
+	boolean canMap(Class<?> sourceType, Class<?> targetType, @Nullable String mapId);
+
+	/**
+	 * Maps the given source to a new instance of the given target type.
+	 *
+	 * @param source     must not be {@literal null}.
+	 * @param targetType must not be {@literal null}.
+	 * @param mapId      the map id declared by the dozer entity, can be
+	 *                   {@literal null}.
+	 * @return
+	 */
+	<T> T map(Object source, Class<T> targetType, @Nullable String mapId);
+
+	/**
+	 * Returns the name of this engine as reported by repository recordings.
+	 *
+	 * @return
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
+}
@@ -0,0 +1,127 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.dozer.jpa.repository.DozerEntityMapping;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+import org.springframework.data.dozer.repository.query.DozerEntityMetadata;
+import org.springframework.data.util.Lazy;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.metadata.MetadataLookupException;
+
+/**
+ * Resolves the {@link MappingEngine} of a dozer entity type. The engine named
+ * by {@link DozerEntityMapping} is used when present, otherwise Dozer if it has
+ * a mapping definition for the type, otherwise the conversion service if it can
+ * convert the adapted domain class to the type. Resolved engines are cached per
+ * dozer entity type. Types annotated with {@link DozerMappingCache} get their
+ * engine wrapped in a {@link MemoizingMappingEngine}.
+ */
+public class MappingEngineResolver {
+	private final DozerMappingEngine dozerMappingEngine;
+	private final Lazy<ConversionServiceMappingEngine> conversionServiceMappingEngine;
+	private final BeanFactory beanFactory;
+	private final Map<Class<?>, MappingEngine> engines = new ConcurrentHashMap<>();
+
+	public MappingEngineResolver(Mapper dozerMapper, String conversionServiceName, BeanFactory beanFactory) {
+		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory, "beanFactory must be of type ListableBeanFactory!");
+
+		this.dozerMappingEngine = new DozerMappingEngine(dozerMapper);
+		this.beanFactory = beanFactory;
+		this.conversionServiceMappingEngine = Lazy.of(() -> {
+			ConversionService conversionService = ((ListableBeanFactory) beanFactory)
+					.getBeansOfType(ConversionService.class).get(conversionServiceName);
+			return conversionService == null ? null : new ConversionServiceMappingEngine(conversionService);
+		});
+	}
+
+	/**
+	 * Returns the engine mapping the given dozer entity type.
+	 *
+	 * @param entityMetadata must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws MetadataLookupException if no engine can map the type.
+	 */
+	public MappingEngine getMappingEngine(DozerEntityMetadata<?> entityMetadata) {
+		MappingEngine engine = engines.get(entityMetadata.getJavaType());
+		if (engine == null) {
+			engine = resolveMappingEngine(entityMetadata);
+
+			DozerMappingCache mappingCache = AnnotatedElementUtils
+					.findMergedAnnotation(entityMetadata.getJavaType(), DozerMappingCache.class);
+			if (mappingCache != null) {
+				engine = new MemoizingMappingEngine(engine, entityMetadata.getJavaType(),
+						entityMetadata.getAdaptedJavaType(), mappingCache);
+			}
+
+			MappingEngine existing = engines.putIfAbsent(entityMetadata.getJavaType(), engine);
+			if (existing != null) {
+				engine = existing;
+			}
+		}
+
+		return engine;
+	}
+
+	/**
+	 * Returns whether the given dozer entity type is mapped by the default Dozer
+	 * engine.
+	 *
+	 * @param entityMetadata must not be {@literal null}.
+	 * @return
+	 */
+	public boolean isDozerMapped(DozerEntityMetadata<?> entityMetadata) {
+		return getMappingEngine(entityMetadata) == dozerMappingEngine;
+	}
+
+	/**
+	 * Returns the label of the strategy mapping the given dozer entity type: the
+	 * name of its engine, qualified by the dozer map id when mapped by Dozer.
+	 *
+	 * @param entityMetadata must not be {@literal null}.
+	 * @return
+	 */
+	public String getMappingStrategy(DozerEntityMetadata<?> entityMetadata) {
+		MappingEngine engine = getMappingEngine(entityMetadata);
+
+		return engine != dozerMappingEngine || StringUtils.isEmpty(entityMetadata.getDozerMapId()) ? engine.getName()
+				: engine.getName() + ":" + entityMetadata.getDozerMapId();
+	}
+
+	private MappingEngine resolveMappingEngine(DozerEntityMetadata<?> entityMetadata) {
+		Class<?> javaType = entityMetadata.getJavaType();
+		Class<?> adaptedType = entityMetadata.getAdaptedJavaType();
+		String mapId = entityMetadata.getDozerMapId();
+
+		DozerEntityMapping entityMapping = AnnotatedElementUtils.findMergedAnnotation(javaType,
+				DozerEntityMapping.class);
+		if (entityMapping != null) {
+			MappingEngine engine = beanFactory.getBean(entityMapping.engine(), MappingEngine.class);
+			if (!engine.canMap(adaptedType, javaType, mapId)) {
+				throw new MetadataLookupException("Mapping engine " + entityMapping.engine() + " cannot map: "
+						+ javaType.getName() + " -> " + adaptedType.getName() + ".");
+			}
+			return engine;
+		}
+
+		if (dozerMappingEngine.canMap(javaType, adaptedType, mapId)) {
+			return dozerMappingEngine;
+		}
+
+		ConversionServiceMappingEngine conversionServiceEngine = conversionServiceMappingEngine.getNullable();
+		if (conversionServiceEngine != null && conversionServiceEngine.canMap(adaptedType, javaType, mapId)) {
+			return conversionServiceEngine;
+		}
+
+		throw new MetadataLookupException("No mapping definition found for: " + javaType.getName() + " -> "
+				+ adaptedType.getName() + ".");
+	}
+}
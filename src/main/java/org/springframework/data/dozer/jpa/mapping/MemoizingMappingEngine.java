@@ -0,0 +1,226 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import java.beans.PropertyDescriptor;
+import java.lang.annotation.Annotation;
+import java.lang.ref.SoftReference;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.persistence.EmbeddedId;
+import javax.persistence.Id;
+import javax.persistence.Version;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link MappingEngine} caching the results of mapping adapted entities to a
+ * dozer entity type by the id and version of the adapted entity and the map id.
+ * The cache is bounded, least recently used entries are evicted first, and
+ * results are only softly referenced. Mapping in the other direction is
+ * delegated unchanged. The version of a managed entity only changes when it is
+ * flushed, so callers mapping entities they have just modified must flush
+ * first or map through the {@link #getDelegate() delegate}.
+ *
+ * @see DozerMappingCache
+ */
+public class MemoizingMappingEngine implements MappingEngine {
+	private final MappingEngine delegate;
+	private final Class<?> dozerEntityType;
+	private final Class<?> adaptedType;
+	private final boolean immutable;
+	private final @Nullable Accessor idAccessor;
+	private final @Nullable Accessor versionAccessor;
+	private final List<PropertyDescriptor> properties = new ArrayList<>();
+	private final Map<Key, SoftReference<Object>> cache;
+
+	public MemoizingMappingEngine(MappingEngine delegate, Class<?> dozerEntityType, Class<?> adaptedType,
+			DozerMappingCache configuration) {
+		this.delegate = delegate;
+		this.dozerEntityType = dozerEntityType;
+		this.adaptedType = adaptedType;
+		this.immutable = configuration.immutable();
+		this.idAccessor = Accessor.find(adaptedType, Id.class, EmbeddedId.class);
+		this.versionAccessor = Accessor.find(adaptedType, Version.class, null);
+
+		for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(dozerEntityType)) {
+			if (descriptor.getReadMethod() != null && descriptor.getWriteMethod() != null) {
+				properties.add(descriptor);
+			}
+		}
+
+		int maxEntries = configuration.maxEntries();
+		this.cache = new LinkedHashMap<Key, SoftReference<Object>>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, SoftReference<Object>> eldest) {
+				return size() > maxEntries || eldest.getValue().get() == null;
+			}
+		};
+	}
+
+	@Override
+	public boolean canMap(Class<?> sourceType, Class<?> targetType, @Nullable String mapId) {
+		return delegate.canMap(sourceType, targetType, mapId);
+	}
+
+	@Override
+	public <T> T map(Object source, Class<T> targetType, @Nullable String mapId) {
+		if (targetType != dozerEntityType || !adaptedType.isInstance(source) || idAccessor == null
+				|| versionAccessor == null) {
+			return delegate.map(source, targetType, mapId);
+		}
+
+		Object id = idAccessor.get(source);
+		Object version = versionAccessor.get(source);
+		if (id == null || version == null) {
+			return delegate.map(source, targetType, mapId);
+		}
+
+		Key key = new Key(id, version, mapId);
+		Object cached;
+		synchronized (cache) {
+			SoftReference<Object> reference = cache.get(key);
+			cached = reference == null ? null : reference.get();
+		}
+		if (cached != null) {
+			return targetType.cast(copy(cached));
+		}
+
+		T result = delegate.map(source, targetType, mapId);
+		if (result != null) {
+			Object entry = copy(result);
+			synchronized (cache) {
+				cache.put(key, new SoftReference<>(entry));
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the engine that maps without the cache.
+	 *
+	 * @return
+	 */
+	public MappingEngine getDelegate() {
+		return delegate;
+	}
+
+	@Override
+	public String getName() {
+		return "cached-" + delegate.getName();
+	}
+
+	/**
+	 * Copies the given dozer entity unless the type is immutable. Collection and
+	 * map properties are copied one level deep.
+	 */
+	private Object copy(Object source) {
+		if (immutable) {
+			return source;
+		}
+
+		Object target = BeanUtils.instantiateClass(source.getClass());
+		for (PropertyDescriptor descriptor : properties) {
+			Object value = ReflectionUtils.invokeMethod(descriptor.getReadMethod(), source);
+			if (value instanceof Collection) {
+				Collection<Object> copy = CollectionFactory
+						.createApproximateCollection(value, ((Collection<?>) value).size());
+				copy.addAll((Collection<?>) value);
+				value = copy;
+			} else if (value instanceof Map) {
+				Map<Object, Object> copy = CollectionFactory.createApproximateMap(value, ((Map<?, ?>) value).size());
+				copy.putAll((Map<?, ?>) value);
+				value = copy;
+			}
+			ReflectionUtils.invokeMethod(descriptor.getWriteMethod(), target, value);
+		}
+
+		return target;
+	}
+
+	/**
+	 * Reads an attribute of the adapted entity from the field or getter carrying
+	 * one of the given JPA annotations.
+	 */
+	private static final class Accessor {
+		private final @Nullable Field field;
+		private final @Nullable Method getter;
+
+		private Accessor(@Nullable Field field, @Nullable Method getter) {
+			this.field = field;
+			this.getter = getter;
+		}
+
+		@Nullable
+		static Accessor find(Class<?> type, Class<? extends Annotation> annotation,
+				@Nullable Class<? extends Annotation> alternative) {
+			Field[] found = new Field[1];
+			ReflectionUtils.doWithFields(type, field -> found[0] = field,
+					field -> found[0] == null && (field.isAnnotationPresent(annotation)
+							|| alternative != null && field.isAnnotationPresent(alternative)));
+			if (found[0] != null) {
+				ReflectionUtils.makeAccessible(found[0]);
+				return new Accessor(found[0], null);
+			}
+
+			for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+				Method getter = descriptor.getReadMethod();
+				if (getter != null && (AnnotatedElementUtils.hasAnnotation(getter, annotation)
+						|| alternative != null && AnnotatedElementUtils.hasAnnotation(getter, alternative))) {
+					ReflectionUtils.makeAccessible(getter);
+					return new Accessor(null, getter);
+				}
+			}
+
+			return null;
+		}
+
+		@Nullable
+		Object get(Object entity) {
+			return field != null ? ReflectionUtils.getField(field, entity)
+					: ReflectionUtils.invokeMethod(getter, entity);
+		}
+	}
+
+	private static final class Key {
+		private final Object id;
+		private final Object version;
+		private final @Nullable String mapId;
+
+		private Key(Object id, Object version, @Nullable String mapId) {
+			this.id = id;
+			this.version = version;
+			this.mapId = mapId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return id.equals(other.id) && version.equals(other.version) && Objects.equals(mapId, other.mapId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(id, version, mapId);
+		}
+	}
+}
@@ -0,0 +1,40 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures how query methods of a dozer repository adapt their execution to
+ * the statistics collected for them at runtime. Without this annotation,
+ * statistics are collected and {@link DozerJdbcQuery JDBC queries} tune their
+ * fetch size, but mapping always happens on the calling thread. When declared
+ * on the repository interface it applies to all of its query methods.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.support.DozerQueryStatisticsRegistry
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerAutoTuning {
+
+	/**
+	 * Whether the execution of the query method is tuned from its statistics.
+	 * Statistics are collected either way.
+	 *
+	 * @return
+	 */
+	boolean enabled() default true;
+
+	/**
+	 * Whether large collection results may be mapped on the common fork-join pool
+	 * once their observed mapping cost makes it worthwhile. Only enable this when
+	 * mapping does not touch uninitialized lazy associations, since the
+	 * persistence context of the adapted entities is not thread-safe.
+	 *
+	 * @return
+	 */
+	boolean parallelMapping() default false;
+}
@@ -0,0 +1,28 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the watermark property of a repository extending
+ * {@link DozerChangeFeedExecutor}. Repositories without this annotation use
+ * the adapted entity field annotated with
+ * {@link org.springframework.data.annotation.LastModifiedDate}; without either,
+ * the change feed fails with an {@link IllegalStateException}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerChangeFeed {
+
+	/**
+	 * The dozer entity property holding the watermark. It is translated to the
+	 * adapted entity through the dozer field name mapping.
+	 *
+	 * @return
+	 */
+	String property() default "";
+}
@@ -0,0 +1,44 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow reading the dozer entities changed since a
+ * {@link DozerWatermark}, in watermark order and in bounded chunks. The
+ * watermark property is configured with {@link DozerChangeFeed}.
+ * <p>
+ * The watermark must increase with every change of an entity, across all
+ * entities: a last-modified timestamp or a version derived from a global
+ * sequence or timestamp, not a per-row {@code @Version} counter. Changes
+ * committed after changes with a later watermark were read are missed, so with
+ * long-running transactions callers should re-read from a watermark slightly
+ * before the returned one.
+ *
+ * @param <T> the dozer entity type
+ */
+public interface DozerChangeFeedExecutor<T> {
+
+	/**
+	 * Returns at most {@code limit} entities changed after the given watermark.
+	 *
+	 * @param watermark the watermark returned by the previous chunk,
+	 *                  {@literal null} to read from the start.
+	 * @param limit     must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	DozerChangeSet<T> findChanges(@Nullable DozerWatermark watermark, int limit);
+
+	/**
+	 * Returns at most {@code limit} entities matching the given
+	 * {@link DozerSpecification} changed after the given watermark.
+	 *
+	 * @param spec      can be {@literal null}.
+	 * @param watermark the watermark returned by the previous chunk,
+	 *                  {@literal null} to read from the start.
+	 * @param limit     must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	DozerChangeSet<T> findChanges(@Nullable DozerSpecification<T> spec, @Nullable DozerWatermark watermark,
+			int limit);
+}
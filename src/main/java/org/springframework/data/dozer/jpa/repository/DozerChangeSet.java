@@ -0,0 +1,55 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A chunk of a change feed read through {@link DozerChangeFeedExecutor}.
+ *
+ * @param <T> the dozer entity type
+ */
+public final class DozerChangeSet<T> {
+	private final List<T> changes;
+	private final @Nullable DozerWatermark watermark;
+	private final boolean hasMore;
+
+	public DozerChangeSet(List<T> changes, @Nullable DozerWatermark watermark, boolean hasMore) {
+		Assert.notNull(changes, "Changes must not be null!");
+
+		this.changes = Collections.unmodifiableList(changes);
+		this.watermark = watermark;
+		this.hasMore = hasMore;
+	}
+
+	/**
+	 * Returns the changed entities in watermark order.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public List<T> getChanges() {
+		return changes;
+	}
+
+	/**
+	 * Returns the watermark to read the next chunk from: the position of the last
+	 * changed entity, or the requested watermark if there were no changes.
+	 *
+	 * @return
+	 */
+	@Nullable
+	public DozerWatermark getWatermark() {
+		return watermark;
+	}
+
+	/**
+	 * Returns whether more changes were available beyond the requested limit.
+	 *
+	 * @return
+	 */
+	public boolean hasMore() {
+		return hasMore;
+	}
+}
@@ -0,0 +1,27 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the {@link org.springframework.data.dozer.jpa.mapping.MappingEngine}
+ * used to map a {@code @DozerEntity} type from and to its adapted domain class.
+ * Types without this annotation are mapped with Dozer, falling back to the
+ * conversion service of the repositories.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerEntityMapping {
+
+	/**
+	 * The name of the
+	 * {@link org.springframework.data.dozer.jpa.mapping.MappingEngine} bean.
+	 *
+	 * @return
+	 */
+	String engine();
+}
@@ -0,0 +1,44 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow writing dozer entities straight to a character or byte
+ * sink. Entities are fetched in chunks, mapped and written one at a time, so
+ * exports never hold more than a single chunk in memory.
+ *
+ * @param <T> the dozer entity type
+ * @see org.springframework.data.dozer.jpa.repository.support.DozerExporter
+ */
+public interface DozerExportExecutor<T> {
+
+	/**
+	 * Writes all entities matching the given {@link DozerSpecification} in id
+	 * order. The writer is flushed but not closed.
+	 *
+	 * @param spec   can be {@literal null}.
+	 * @param format must not be {@literal null}.
+	 * @param writer must not be {@literal null}.
+	 * @return the number of entities written.
+	 * @throws IOException
+	 */
+	long export(@Nullable DozerSpecification<T> spec, DozerExportFormat format, Writer writer) throws IOException;
+
+	/**
+	 * Writes all entities matching the given {@link DozerSpecification} in id
+	 * order encoded as UTF-8. The stream is flushed but not closed.
+	 *
+	 * @param spec   can be {@literal null}.
+	 * @param format must not be {@literal null}.
+	 * @param out    must not be {@literal null}.
+	 * @return the number of entities written.
+	 * @throws IOException
+	 */
+	long export(@Nullable DozerSpecification<T> spec, DozerExportFormat format, OutputStream out)
+			throws IOException;
+}
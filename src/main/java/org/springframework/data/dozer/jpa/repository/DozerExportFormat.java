@@ -0,0 +1,17 @@
+package org.springframework.data.dozer.jpa.repository;
+
+/**
+ * The formats supported by {@link DozerExportExecutor}.
+ */
+public enum DozerExportFormat {
+
+	/**
+	 * One JSON object per line. Requires Jackson on the classpath.
+	 */
+	JSON_LINES,
+
+	/**
+	 * Comma separated values with a header line, quoted as described by RFC 4180.
+	 */
+	CSV
+}
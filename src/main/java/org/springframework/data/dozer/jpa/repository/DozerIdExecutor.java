@@ -0,0 +1,45 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.stream.LongStream;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow reading the numeric ids of dozer entities into primitive
+ * arrays and streams. Ids are read in ascending order, in chunks, without
+ * mapping any entity.
+ *
+ * @param <T> the dozer entity type
+ */
+public interface DozerIdExecutor<T> {
+
+	/**
+	 * Returns the ids of all entities matching the given
+	 * {@link DozerSpecification}.
+	 *
+	 * @param spec can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	long[] findAllLongIds(@Nullable DozerSpecification<T> spec);
+
+	/**
+	 * Returns the ids of all entities matching the given
+	 * {@link DozerSpecification}.
+	 *
+	 * @param spec can be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws ArithmeticException if an id does not fit into an {@code int}.
+	 */
+	int[] findAllIntIds(@Nullable DozerSpecification<T> spec);
+
+	/**
+	 * Returns a lazily populated stream over the ids of all entities matching the
+	 * given {@link DozerSpecification}. Only a single chunk of ids is held in
+	 * memory at a time.
+	 *
+	 * @param spec can be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	LongStream streamAllLongIds(@Nullable DozerSpecification<T> spec);
+}
@@ -0,0 +1,41 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Executes a query method of a dozer repository with plain JDBC instead of the
+ * JPA provider. Result set columns are mapped straight into the dozer entity:
+ * no adapted entity is instantiated or registered with a persistence context
+ * and no dozer mapping takes place. Columns are matched to dozer entity
+ * properties through the column names of the adapted entity and the dozer field
+ * name mapping, or by property name.
+ * <p>
+ * Without a {@link #value() declared query}, the SQL is derived from the method
+ * name like a JPA derived query. Supported are finders returning entities,
+ * collections or streams of entities, {@code count} and {@code exists}
+ * projections, {@code Top}/{@code First} limits, {@code Distinct}, static
+ * {@code OrderBy} clauses and {@link org.springframework.data.domain.Sort}
+ * parameters. Pageable parameters, projections, custom mapping engines,
+ * {@link DozerView views} and {@link DozerLazyCollection lazy collections} are
+ * not applied. Pending changes of the persistence context are not flushed
+ * before the query runs.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.support.AdaptedTableMetadata
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerJdbcQuery {
+
+	/**
+	 * The native SQL query, with named parameters bound by the names of the method
+	 * parameters. Defaults to a query derived from the method name.
+	 *
+	 * @return
+	 */
+	String value() default "";
+}
@@ -0,0 +1,48 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link java.util.List}, {@link java.util.Set} or
+ * {@link java.util.Collection} property of a {@code @DozerEntity} type as lazily
+ * mapped. The repository populates the property with a lightweight collection
+ * that loads the source association of the adapted entity and maps its elements
+ * only when first accessed. The association is read from the adapted entity
+ * while it is still attached to an open persistence context and re-fetched by
+ * the owner id otherwise.
+ * <p>
+ * The property must be excluded from the dozer mapping of the entity (e.g.
+ * using {@code field-exclude}) so that dozer does not traverse the association.
+ */
+@Target(ElementType.FIELD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerLazyCollection {
+
+	/**
+	 * The association of the adapted entity backing the collection. Defaults to the
+	 * property name.
+	 *
+	 * @return
+	 */
+	String source() default "";
+
+	/**
+	 * The element type of the collection. Defaults to the declared generic element
+	 * type of the property.
+	 *
+	 * @return
+	 */
+	Class<?> elementType() default void.class;
+
+	/**
+	 * Dozer mapping id used to map the elements.
+	 *
+	 * @return
+	 */
+	String mapId() default "";
+}
@@ -0,0 +1,39 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables memoization of the mapping of a {@code @DozerEntity} type. Mapping
+ * results are cached by the id and version of the adapted entity and the map
+ * id, so the adapted domain class must declare a JPA {@code @Version}
+ * attribute; entities without an id or version are mapped every time. Cached
+ * results are held through soft references and handed out as copies unless the
+ * type is declared {@link #immutable()}.
+ * <p>
+ * Results restricted to a {@link DozerView} are never cached.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerMappingCache {
+
+	/**
+	 * The maximum number of cached mapping results of the type.
+	 *
+	 * @return
+	 */
+	int maxEntries() default 10000;
+
+	/**
+	 * Whether instances of the type are never modified once mapped, so that the
+	 * cached instance itself can be returned. Immutable types must not declare
+	 * {@link DozerLazyCollection} properties.
+	 *
+	 * @return
+	 */
+	boolean immutable() default false;
+}
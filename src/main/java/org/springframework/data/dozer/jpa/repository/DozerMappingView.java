@@ -0,0 +1,25 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Selects the {@link DozerView} used to map the results of a repository method.
+ * When declared on the repository interface the view applies to all of its
+ * methods. A view bound through {@link DozerMappingViewHolder} takes precedence.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerMappingView {
+
+	/**
+	 * The name of the {@link DozerView} to use.
+	 *
+	 * @return
+	 */
+	String value();
+}
@@ -0,0 +1,60 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.function.Supplier;
+
+import org.springframework.core.NamedThreadLocal;
+import org.springframework.lang.Nullable;
+
+/**
+ * Holds the name of the {@link DozerView} bound to the current thread. Used to
+ * select a view per call:
+ *
+ * <pre class="code">
+ * List&lt;CustomerDto&gt; customers = DozerMappingViewHolder.withView("summary", () -&gt; repository.findAll());
+ * </pre>
+ *
+ * The view applies to every repository called while it is bound. Repositories
+ * whose dozer entity type does not declare a view of that name map in full.
+ */
+public final class DozerMappingViewHolder {
+
+	private static final ThreadLocal<String> currentView = new NamedThreadLocal<>("Current dozer mapping view");
+
+	private DozerMappingViewHolder() {
+	}
+
+	@Nullable
+	public static String getView() {
+		return currentView.get();
+	}
+
+	public static void setView(@Nullable String view) {
+		if (view == null) {
+			currentView.remove();
+		} else {
+			currentView.set(view);
+		}
+	}
+
+	public static void resetView() {
+		currentView.remove();
+	}
+
+	/**
+	 * Runs the given action with the given view bound to the current thread,
+	 * restoring the previously bound view afterwards.
+	 *
+	 * @param view   the view name, can be {@literal null}.
+	 * @param action must not be {@literal null}.
+	 * @return the result of the action
+	 */
+	public static <R> R withView(@Nullable String view, Supplier<R> action) {
+		String previous = currentView.get();
+		setView(view);
+		try {
+			return action.get();
+		} finally {
+			setView(previous);
+		}
+	}
+}
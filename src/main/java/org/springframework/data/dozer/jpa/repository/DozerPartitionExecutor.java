@@ -0,0 +1,73 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow reading all dozer entities with parallel range scans. The
+ * value range of an integral property, the id by default, is split into
+ * partitions of equal width that are read concurrently, each in its own
+ * read-only transaction on a worker thread, and mapped independently. The
+ * number of worker threads is bounded by
+ * {@link DozerScroll#maxPartitionThreads()}.
+ * Entities are read in keyset chunks as with {@link DozerScrollExecutor}, so
+ * the order of the entities across partitions is undefined.
+ *
+ * @param <T> the dozer entity type
+ */
+public interface DozerPartitionExecutor<T> {
+
+	/**
+	 * Passes all entities matching the given {@link DozerSpecification} to the
+	 * given action, partitioning by id. The action is invoked concurrently from
+	 * the worker threads and must be thread-safe.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param partitions the number of partitions, must be greater than zero.
+	 * @param action     must not be {@literal null}.
+	 */
+	void findAllPartitioned(@Nullable DozerSpecification<T> spec, int partitions, Consumer<? super T> action);
+
+	/**
+	 * Passes all entities matching the given {@link DozerSpecification} to the
+	 * given action, partitioning by the given property. The action is invoked
+	 * concurrently from the worker threads and must be thread-safe. The first
+	 * failure of a partition stops the others and is rethrown.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param property   the integral, ideally indexed, dozer entity property to
+	 *                   partition by, {@literal null} for the id.
+	 * @param partitions the number of partitions, must be greater than zero.
+	 * @param action     must not be {@literal null}.
+	 */
+	void findAllPartitioned(@Nullable DozerSpecification<T> spec, @Nullable String property, int partitions,
+			Consumer<? super T> action);
+
+	/**
+	 * Returns a stream merging the entities of all partitions as they are read,
+	 * partitioning by id. The stream must be closed to stop the worker threads if
+	 * it is not consumed completely.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param partitions the number of partitions, must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	Stream<T> streamAllPartitioned(@Nullable DozerSpecification<T> spec, int partitions);
+
+	/**
+	 * Returns a stream merging the entities of all partitions as they are read,
+	 * partitioning by the given property. The stream must be closed to stop the
+	 * worker threads if it is not consumed completely.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param property   the integral, ideally indexed, dozer entity property to
+	 *                   partition by, {@literal null} for the id.
+	 * @param partitions the number of partitions, must be greater than zero.
+	 * @return never {@literal null}.
+	 */
+	Stream<T> streamAllPartitioned(@Nullable DozerSpecification<T> spec, @Nullable String property,
+			int partitions);
+}
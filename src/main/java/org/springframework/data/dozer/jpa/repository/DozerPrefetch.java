@@ -0,0 +1,45 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables background prefetching of the next page for {@code Slice} and
+ * {@code Page} query methods. Whenever a page having a next one is returned,
+ * the next page is fetched and mapped in the background and kept for the
+ * follow-up request with the same arguments. When declared on the repository
+ * interface it applies to all of its paged query methods.
+ * <p>
+ * Prefetched pages are read in a read-only transaction of their own, outside of
+ * the caller's transaction, and may be up to {@link #expireAfterMillis()} old.
+ */
+@Target({ ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerPrefetch {
+
+	/**
+	 * The maximum number of prefetched pages kept per query method.
+	 *
+	 * @return
+	 */
+	int cacheSize() default 16;
+
+	/**
+	 * How long in milliseconds a prefetched page is kept before it is discarded.
+	 *
+	 * @return
+	 */
+	long expireAfterMillis() default 30000;
+
+	/**
+	 * How long in milliseconds a request waits for a prefetch of its page that is
+	 * still running before querying the page itself.
+	 *
+	 * @return
+	 */
+	long awaitMillis() default 1000;
+}
@@ -0,0 +1,56 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures how a repository extending {@link DozerScrollExecutor} or
+ * {@link DozerPartitionExecutor} sizes the chunks it fetches. Repositories
+ * without this annotation use the defaults.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerScroll {
+
+	/**
+	 * The approximate number of bytes the rows of a single chunk may occupy. The
+	 * fetch size is derived from it and the observed row width.
+	 *
+	 * @return
+	 */
+	long memoryBudget() default 16 * 1024 * 1024;
+
+	/**
+	 * The fetch size of the first chunk, before any row width was observed.
+	 *
+	 * @return
+	 */
+	int initialFetchSize() default 100;
+
+	/**
+	 * The lower bound of the fetch size.
+	 *
+	 * @return
+	 */
+	int minFetchSize() default 10;
+
+	/**
+	 * The upper bound of the fetch size.
+	 *
+	 * @return
+	 */
+	int maxFetchSize() default 10000;
+
+	/**
+	 * The maximum number of worker threads of a partitioned scan. Each worker
+	 * holds its own transaction and connection, so this should not exceed the
+	 * size of the connection pool. Further partitions wait for a free worker.
+	 *
+	 * @return
+	 */
+	int maxPartitionThreads() default 8;
+}
@@ -0,0 +1,45 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow iterating over large numbers of dozer entities in id
+ * order. Entities are fetched in chunks whose size adapts to the observed row
+ * width and the configured memory budget, and mapped one at a time while
+ * iterating. An iteration can be resumed after a failure from the checkpoint
+ * of the last entity processed.
+ * <p>
+ * Outside of a transaction every chunk is read in a read-only transaction of
+ * its own, so that the iteration does not hold a connection between chunks.
+ * Entities are then mapped after the transaction of their chunk completed, and
+ * lazy associations of the adapted entities have to be fetched eagerly or the
+ * iteration has to run in a surrounding transaction.
+ *
+ * @param <T> the dozer entity type
+ * @see DozerScroll
+ */
+public interface DozerScrollExecutor<T> {
+
+	/**
+	 * Iterates over all entities following the given checkpoint.
+	 *
+	 * @param checkpoint a checkpoint obtained from
+	 *                   {@link DozerScrollIterator#getCheckpoint()}, can be
+	 *                   {@literal null} to start from the first entity.
+	 * @return never {@literal null}.
+	 */
+	DozerScrollIterator<T> scroll(@Nullable Object checkpoint);
+
+	/**
+	 * Iterates over all entities matching the given {@link DozerSpecification}
+	 * following the given checkpoint.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param checkpoint a checkpoint obtained from
+	 *                   {@link DozerScrollIterator#getCheckpoint()}, can be
+	 *                   {@literal null} to start from the first entity.
+	 * @return never {@literal null}.
+	 */
+	DozerScrollIterator<T> scroll(@Nullable DozerSpecification<T> spec, @Nullable Object checkpoint);
+}
@@ -0,0 +1,33 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link CloseableIterator} over dozer entities that exposes a checkpoint to
+ * resume the iteration from.
+ *
+ * @param <T> the dozer entity type
+ * @see DozerScrollExecutor
+ */
+public interface DozerScrollIterator<T> extends CloseableIterator<T> {
+
+	/**
+	 * Returns the checkpoint of the last entity returned by {@link #next()}.
+	 * Passing it to {@link DozerScrollExecutor} continues with the entity
+	 * following it. Before the first entity is returned this is the checkpoint the
+	 * iteration was started from.
+	 *
+	 * @return the checkpoint or {@literal null} if no entity was returned yet and
+	 *         the iteration started from the first entity.
+	 */
+	@Nullable
+	Object getCheckpoint();
+
+	/**
+	 * Returns the fetch size used for the most recent chunk.
+	 *
+	 * @return
+	 */
+	int getFetchSize();
+}
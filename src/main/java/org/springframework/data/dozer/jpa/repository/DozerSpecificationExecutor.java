@@ -0,0 +1,29 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.lang.Nullable;
+
+/**
+ * Interface to allow execution of {@link DozerSpecification}s against the
+ * adapted entities of a dozer repository.
+ *
+ * @param <T> the dozer entity type
+ */
+public interface DozerSpecificationExecutor<T> {
+
+	Optional<T> findOne(@Nullable DozerSpecification<T> spec);
+
+	List<T> findAll(@Nullable DozerSpecification<T> spec);
+
+	Page<T> findAll(@Nullable DozerSpecification<T> spec, Pageable pageable);
+
+	List<T> findAll(@Nullable DozerSpecification<T> spec, Sort sort);
+
+	long count(@Nullable DozerSpecification<T> spec);
+}
@@ -0,0 +1,39 @@
+package org.springframework.data.dozer.jpa.repository;
+
+/**
+ * Interface to allow writing dozer entities with batched native upserts
+ * ({@code MERGE}, {@code INSERT ... ON CONFLICT} or
+ * {@code INSERT ... ON DUPLICATE KEY UPDATE} depending on the database)
+ * instead of {@link javax.persistence.EntityManager#merge(Object)}, which reads
+ * every entity before writing it.
+ * <p>
+ * The statements are generated from the JPA metamodel of the adapted entity:
+ * table and column names are taken from {@code @Table}, {@code @Column},
+ * {@code @JoinColumn} and {@code @AttributeOverride} and default to the entity
+ * and attribute names, so physical naming strategies that rename tables or
+ * columns must be reflected by explicit annotations. Upserts bypass the
+ * persistence context: lifecycle callbacks, optimistic locking checks and
+ * cascades do not apply and collection associations are not written. The
+ * version column is maintained by the statement instead of being written from
+ * the entity: inserted rows start at version {@literal 1} and updated rows are
+ * incremented, so concurrent {@code save} calls still detect the change.
+ * <p>
+ * Pending changes of the persistence context are flushed before the upsert,
+ * and afterwards the persistence context is cleared, detaching all managed
+ * entities, and the written entities are evicted from the second-level cache.
+ *
+ * @param <T> the dozer entity type
+ */
+public interface DozerUpsertExecutor<T> {
+
+	/**
+	 * Inserts the given entities or updates the rows with the same ids. Entities
+	 * are mapped and written in batches; all of them must have an id.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @return the number of written entities.
+	 * @throws UnsupportedOperationException if upserts are not supported for the
+	 *                                       database or the adapted entity.
+	 */
+	long upsertAll(Iterable<? extends T> entities);
+}
@@ -0,0 +1,50 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Repeatable;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares a named mapping view on a {@code @DozerEntity} type. A view restricts
+ * the mapping of the adapted entity to a subset of the dozer entity properties.
+ * Views are selected per repository method using {@link DozerMappingView} or
+ * per call using {@link DozerMappingViewHolder}. They apply to every read of a
+ * dozer repository, while the entities returned by saves are always mapped in
+ * full.
+ * <p>
+ * When {@link #mapId()} is set the mapping is delegated to that dozer mapping
+ * id, otherwise only the properties listed in {@link #fields()} are mapped and
+ * all other properties are left untouched.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Repeatable(DozerViews.class)
+public @interface DozerView {
+
+	/**
+	 * The name of the view.
+	 *
+	 * @return
+	 */
+	String name();
+
+	/**
+	 * The dozer entity properties mapped by this view. Nested paths of the adapted
+	 * entity are resolved through the dozer field mapping of the entity.
+	 *
+	 * @return
+	 */
+	String[] fields() default {};
+
+	/**
+	 * Dozer mapping id used to map the view. Takes precedence over
+	 * {@link #fields()}.
+	 *
+	 * @return
+	 */
+	String mapId() default "";
+}
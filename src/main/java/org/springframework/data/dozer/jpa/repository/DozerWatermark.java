@@ -0,0 +1,80 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Position in a change feed read through {@link DozerChangeFeedExecutor}: the
+ * watermark value of the last read entity and its id, which orders entities
+ * sharing the same watermark value.
+ */
+public final class DozerWatermark implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	private final Object value;
+	private final @Nullable Object id;
+
+	private DozerWatermark(Object value, @Nullable Object id) {
+		Assert.notNull(value, "Watermark value must not be null!");
+
+		this.value = value;
+		this.id = id;
+	}
+
+	/**
+	 * Creates a watermark positioned after all entities with the given watermark
+	 * value.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return
+	 */
+	public static DozerWatermark of(Object value) {
+		return new DozerWatermark(value, null);
+	}
+
+	/**
+	 * Creates a watermark positioned after the entity with the given watermark
+	 * value and id.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param id    can be {@literal null}.
+	 * @return
+	 */
+	public static DozerWatermark of(Object value, @Nullable Object id) {
+		return new DozerWatermark(value, id);
+	}
+
+	public Object getValue() {
+		return value;
+	}
+
+	@Nullable
+	public Object getId() {
+		return id;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof DozerWatermark)) {
+			return false;
+		}
+		DozerWatermark other = (DozerWatermark) obj;
+		return value.equals(other.value) && Objects.equals(id, other.id);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(value, id);
+	}
+
+	@Override
+	public String toString() {
+		return "DozerWatermark [value=" + value + ", id=" + id + "]";
+	}
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Configures the write-behind queue of a repository extending
+ * {@link DozerWriteBehindExecutor}. Repositories without this annotation use the
+ * defaults.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface DozerWriteBehind {
+
+	/**
+	 * The maximum number of entities written in a single transaction. Reaching it
+	 * triggers a flush.
+	 *
+	 * @return
+	 */
+	int maxBatchSize() default 500;
+
+	/**
+	 * The interval in milliseconds at which pending saves are flushed.
+	 *
+	 * @return
+	 */
+	long flushIntervalMillis() default 100;
+
+	/**
+	 * The maximum number of pending entities. Saves beyond it block for up to
+	 * {@link #offerTimeoutMillis()}.
+	 *
+	 * @return
+	 */
+	int capacity() default 10000;
+
+	/**
+	 * How long in milliseconds a save waits for room in a full queue before it is
+	 * rejected.
+	 *
+	 * @return
+	 */
+	long offerTimeoutMillis() default 1000;
+}
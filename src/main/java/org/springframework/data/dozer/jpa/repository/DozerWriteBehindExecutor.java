@@ -0,0 +1,32 @@
+package org.springframework.data.dozer.jpa.repository;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Interface to allow asynchronous, coalescing saves of dozer entities. Entities
+ * are mapped to their adapted entities immediately and queued. The queue is
+ * flushed in batches, each batch in a single transaction, when it reaches the
+ * configured batch size or flush interval. Repeated saves of an entity with the
+ * same id before a flush are coalesced into a single write of the latest state.
+ *
+ * @param <T> the dozer entity type
+ * @see DozerWriteBehind
+ */
+public interface DozerWriteBehindExecutor<T> {
+
+	/**
+	 * Queues the given entity for saving.
+	 *
+	 * @param entity must not be {@literal null}.
+	 * @return a future completed with the saved entity once its batch is committed.
+	 * @throws java.util.concurrent.RejectedExecutionException when the queue stays
+	 *                                                         full for longer than
+	 *                                                         the offer timeout.
+	 */
+	CompletableFuture<T> saveAsync(T entity);
+
+	/**
+	 * Writes all pending saves in the calling thread.
+	 */
+	void flushSaves();
+}
@@ -4,13 +4,16 @@ import java.util.Optional;
 
 import org.springframework.beans.factory.support.AbstractBeanDefinition;
 import org.springframework.beans.factory.support.BeanDefinitionBuilder;
+import org.springframework.core.annotation.AnnotationAttributes;
 import org.springframework.data.dozer.jpa.repository.support.DozerJpaRepositoryFactoryBean;
 import org.springframework.data.dozer.repository.config.DozerRepositoryConfigExtension;
+import org.springframework.data.repository.config.AnnotationRepositoryConfigurationSource;
 import org.springframework.data.repository.config.RepositoryConfigurationSource;
 import org.springframework.lang.Nullable;
 
 public class DozerJpaRepositoryConfigExtension extends DozerRepositoryConfigExtension {
 	private static final String DEFAULT_TRANSACTION_MANAGER_BEAN_NAME = "transactionManager";
+	private static final String READ_REPLICA_ROUTING_ATTRIBUTE = "readReplicaRouting";
 
 	/*
 	 * (non-Javadoc)
@@ -54,6 +57,24 @@ public class DozerJpaRepositoryConfigExtension extends DozerRepositoryConfigExte
 
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.springframework.data.repository.config.
+	 * RepositoryConfigurationExtensionSupport#postProcess(org.springframework.beans
+	 * .factory.support.BeanDefinitionBuilder,
+	 * org.springframework.data.repository.config.
+	 * AnnotationRepositoryConfigurationSource)
+	 */
+	@Override
+	public void postProcess(BeanDefinitionBuilder builder, AnnotationRepositoryConfigurationSource config) {
+		super.postProcess(builder, config);
+
+		AnnotationAttributes attributes = config.getAttributes();
+		builder.addPropertyValue(READ_REPLICA_ROUTING_ATTRIBUTE,
+				attributes.getBoolean(READ_REPLICA_ROUTING_ATTRIBUTE));
+	}
+
 	/**
 	 * Creates an anonymous factory to extract the actual
 	 * {@link javax.persistence.EntityManager} from the
@@ -171,4 +171,17 @@ public @interface EnableDozerJpaRepositories {
 	 */
 	String transactionManagerRef() default "transactionManager";
 
+	/**
+	 * Configures whether read-only repository methods, i.e. non-modifying query
+	 * methods and read-only CRUD methods not joining an existing transaction,
+	 * prefer the read replica of a
+	 * {@link org.springframework.data.dozer.jpa.datasource.ReadReplicaRoutingDataSource}
+	 * backing the {@link EntityManagerFactory}. Replication lag tolerance and
+	 * read-your-writes stickiness are configured on the data source. Defaults to
+	 * {@literal false}.
+	 *
+	 * @return
+	 */
+	boolean readReplicaRouting() default false;
+
 }
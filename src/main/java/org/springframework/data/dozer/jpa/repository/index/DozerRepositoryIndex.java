@@ -0,0 +1,204 @@
+package org.springframework.data.dozer.jpa.repository.index;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.StringUtils;
+
+/**
+ * Build-time index of dozer repositories and dozer entities generated by
+ * {@link DozerRepositoryIndexProcessor}. All
+ * {@value #INDEX_LOCATION} resources visible to a class loader are merged.
+ * Types that are not part of the index are resolved reflectively by the
+ * callers.
+ */
+public final class DozerRepositoryIndex {
+
+	public static final String INDEX_LOCATION = "META-INF/spring-data-dozer-jpa.index";
+
+	static final String REPOSITORY = "repository";
+	static final String ENTITY = "entity";
+	static final String ADAPTED_REPOSITORY_SUFFIX = ".adaptedRepository";
+	static final String DOMAIN_TYPE_SUFFIX = ".domainType";
+	static final String STREAM_SUFFIX = ".stream";
+	static final String MAPPING_VIEWS_SUFFIX = ".mappingViews";
+	static final String ADAPTED_DOMAIN_TYPE_SUFFIX = ".adaptedDomainType";
+
+	private static final DozerRepositoryIndex EMPTY = new DozerRepositoryIndex(new Properties());
+
+	private static final Map<ClassLoader, DozerRepositoryIndex> cache = new ConcurrentReferenceHashMap<>();
+
+	private final Properties entries;
+
+	private DozerRepositoryIndex(Properties entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Returns the index for the given class loader.
+	 *
+	 * @param classLoader can be {@literal null} for the default class loader.
+	 * @return never {@literal null}.
+	 */
+	public static DozerRepositoryIndex get(@Nullable ClassLoader classLoader) {
+		ClassLoader classLoaderToUse = classLoader == null ? ClassUtils.getDefaultClassLoader() : classLoader;
+		if (classLoaderToUse == null) {
+			return EMPTY;
+		}
+
+		return cache.computeIfAbsent(classLoaderToUse, DozerRepositoryIndex::load);
+	}
+
+	private static DozerRepositoryIndex load(ClassLoader classLoader) {
+		try {
+			Enumeration<URL> urls = classLoader.getResources(INDEX_LOCATION);
+			if (!urls.hasMoreElements()) {
+				return EMPTY;
+			}
+
+			Properties entries = new Properties();
+			while (urls.hasMoreElements()) {
+				try (InputStream in = urls.nextElement().openStream()) {
+					entries.load(in);
+				}
+			}
+
+			return new DozerRepositoryIndex(entries);
+		} catch (IOException ex) {
+			throw new IllegalStateException("Unable to load indexes from location [" + INDEX_LOCATION + "]", ex);
+		}
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public boolean isRepository(Class<?> repositoryInterface) {
+		return REPOSITORY.equals(entries.getProperty(repositoryInterface.getName()));
+	}
+
+	public boolean isEntity(Class<?> domainType) {
+		return ENTITY.equals(entries.getProperty(domainType.getName()));
+	}
+
+	/**
+	 * @return the names of all indexed repository interfaces.
+	 */
+	public Set<String> getRepositories() {
+		return getKeys(REPOSITORY);
+	}
+
+	/**
+	 * @return the names of all indexed {@code @DozerEntity} types.
+	 */
+	public Set<String> getEntities() {
+		return getKeys(ENTITY);
+	}
+
+	private Set<String> getKeys(String kind) {
+		Set<String> result = new LinkedHashSet<>();
+		for (String name : entries.stringPropertyNames()) {
+			if (kind.equals(entries.getProperty(name))) {
+				result.add(name);
+			}
+		}
+		return Collections.unmodifiableSet(result);
+	}
+
+	/**
+	 * Returns the adapted domain class declared by {@code @DozerEntity} on the
+	 * given type.
+	 *
+	 * @param domainType must not be {@literal null}.
+	 * @return the adapted domain class, the given type itself when it is indexed
+	 *         but not a dozer entity, or {@literal null} when it is not indexed.
+	 */
+	@Nullable
+	public Class<?> getAdaptedDomainType(Class<?> domainType) {
+		return resolve(domainType, ENTITY, ADAPTED_DOMAIN_TYPE_SUFFIX);
+	}
+
+	/**
+	 * Returns the adapted repository interface declared by
+	 * {@code @DozerRepository} on the given type.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return the adapted repository interface, the given type itself when it is
+	 *         indexed but not a dozer repository, or {@literal null} when it is
+	 *         not indexed.
+	 */
+	@Nullable
+	public Class<?> getAdaptedRepositoryInterface(Class<?> repositoryInterface) {
+		return resolve(repositoryInterface, REPOSITORY, ADAPTED_REPOSITORY_SUFFIX);
+	}
+
+	@Nullable
+	public String getDomainTypeName(String repositoryInterface) {
+		return entries.getProperty(repositoryInterface + DOMAIN_TYPE_SUFFIX);
+	}
+
+	@Nullable
+	public String getAdaptedDomainTypeName(String domainType) {
+		return entries.getProperty(domainType + ADAPTED_DOMAIN_TYPE_SUFFIX);
+	}
+
+	@Nullable
+	public String getAdaptedRepositoryInterfaceName(String repositoryInterface) {
+		return entries.getProperty(repositoryInterface + ADAPTED_REPOSITORY_SUFFIX);
+	}
+
+	/**
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return whether the repository declares a method returning a
+	 *         {@link java.util.stream.Stream} or {@literal null} when it is not
+	 *         indexed.
+	 */
+	@Nullable
+	public Boolean hasMethodReturningStream(Class<?> repositoryInterface) {
+		return getFlag(repositoryInterface, STREAM_SUFFIX);
+	}
+
+	/**
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @return whether the repository declares
+	 *         {@link org.springframework.data.dozer.jpa.repository.DozerMappingView}
+	 *         annotations or {@literal null} when it is not indexed.
+	 */
+	@Nullable
+	public Boolean hasMappingViews(Class<?> repositoryInterface) {
+		return getFlag(repositoryInterface, MAPPING_VIEWS_SUFFIX);
+	}
+
+	@Nullable
+	private Boolean getFlag(Class<?> repositoryInterface, String suffix) {
+		if (!isRepository(repositoryInterface)) {
+			return null;
+		}
+
+		return Boolean.valueOf(entries.getProperty(repositoryInterface.getName() + suffix));
+	}
+
+	@Nullable
+	private Class<?> resolve(Class<?> type, String kind, String suffix) {
+		if (!kind.equals(entries.getProperty(type.getName()))) {
+			return null;
+		}
+
+		String target = entries.getProperty(type.getName() + suffix);
+		if (!StringUtils.hasText(target)) {
+			return type;
+		}
+
+		return ClassUtils.resolveClassName(target, type.getClassLoader());
+	}
+}
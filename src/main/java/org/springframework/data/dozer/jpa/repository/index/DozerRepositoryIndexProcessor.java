@@ -0,0 +1,208 @@
+package org.springframework.data.dozer.jpa.repository.index;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Annotation processor generating the {@value DozerRepositoryIndex#INDEX_LOCATION}
+ * index. The index records, for every repository interface and
+ * {@code @DozerEntity} type of the compilation, the metadata otherwise resolved
+ * reflectively while bootstrapping the repositories: adapted repository
+ * interfaces and domain types, the repository domain type and whether the
+ * repository declares {@link java.util.stream.Stream} returning methods or
+ * mapping views.
+ * <p>
+ * The processor is not registered as a service, so it never runs unless it is
+ * requested explicitly for the compilation declaring the repositories, e.g.
+ * with {@code -processor} or the {@code annotationProcessors} setting of the
+ * maven-compiler-plugin, with this module on the processor path. Naming
+ * processors disables their discovery, so other processors such as Lombok have
+ * to be named as well.
+ */
+public class DozerRepositoryIndexProcessor extends AbstractProcessor {
+
+	static final String REPOSITORY_TYPE = "org.springframework.data.repository.Repository";
+	static final String DOZER_ENTITY_TYPE = "org.springframework.data.dozer.annotation.DozerEntity";
+	static final String DOZER_REPOSITORY_TYPE = "org.springframework.data.dozer.annotation.DozerRepository";
+	static final String MAPPING_VIEW_TYPE = "org.springframework.data.dozer.jpa.repository.DozerMappingView";
+	static final String STREAM_TYPE = "java.util.stream.Stream";
+
+	private final Properties entries = new Properties();
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes() {
+		return Collections.singleton("*");
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion() {
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+		if (roundEnv.processingOver()) {
+			writeIndex();
+			return false;
+		}
+
+		TypeElement repositoryType = processingEnv.getElementUtils().getTypeElement(REPOSITORY_TYPE);
+
+		for (TypeElement type : ElementFilter.typesIn(roundEnv.getRootElements())) {
+			processType(type, repositoryType);
+		}
+
+		return false;
+	}
+
+	private void processType(TypeElement type, TypeElement repositoryType) {
+		if (type.getKind() == ElementKind.INTERFACE && repositoryType != null && processingEnv.getTypeUtils()
+				.isAssignable(processingEnv.getTypeUtils().erasure(type.asType()), processingEnv.getTypeUtils()
+						.erasure(repositoryType.asType()))) {
+			processRepository(type, repositoryType);
+		}
+
+		AnnotationMirror dozerEntity = findAnnotation(type, DOZER_ENTITY_TYPE, new HashSet<>());
+		if (dozerEntity != null) {
+			String name = getName(type);
+			entries.setProperty(name, DozerRepositoryIndex.ENTITY);
+			putTypeAttribute(name + DozerRepositoryIndex.ADAPTED_DOMAIN_TYPE_SUFFIX, dozerEntity,
+					"adaptedDomainClass");
+		}
+
+		for (TypeElement nested : ElementFilter.typesIn(type.getEnclosedElements())) {
+			processType(nested, repositoryType);
+		}
+	}
+
+	private void processRepository(TypeElement type, TypeElement repositoryType) {
+		String name = getName(type);
+		entries.setProperty(name, DozerRepositoryIndex.REPOSITORY);
+
+		AnnotationMirror dozerRepository = findAnnotation(type, DOZER_REPOSITORY_TYPE, new HashSet<>());
+		if (dozerRepository != null) {
+			putTypeAttribute(name + DozerRepositoryIndex.ADAPTED_REPOSITORY_SUFFIX, dozerRepository,
+					"adaptedRepositoryClass");
+		}
+
+		TypeMirror domainType = findDomainType(type.asType(), repositoryType);
+		if (domainType != null && domainType.getKind() == TypeKind.DECLARED) {
+			entries.setProperty(name + DozerRepositoryIndex.DOMAIN_TYPE_SUFFIX,
+					getName((TypeElement) ((DeclaredType) domainType).asElement()));
+		}
+
+		TypeElement streamType = processingEnv.getElementUtils().getTypeElement(STREAM_TYPE);
+		boolean stream = false;
+		boolean mappingViews = findAnnotation(type, MAPPING_VIEW_TYPE, new HashSet<>()) != null;
+
+		for (ExecutableElement method : ElementFilter
+				.methodsIn(processingEnv.getElementUtils().getAllMembers(type))) {
+			TypeMirror returnType = processingEnv.getTypeUtils().erasure(method.getReturnType());
+			if (returnType.getKind() == TypeKind.DECLARED && processingEnv.getTypeUtils().isAssignable(returnType,
+					processingEnv.getTypeUtils().erasure(streamType.asType()))) {
+				stream = true;
+			}
+			if (!mappingViews && findAnnotation(method, MAPPING_VIEW_TYPE, new HashSet<>()) != null) {
+				mappingViews = true;
+			}
+		}
+
+		entries.setProperty(name + DozerRepositoryIndex.STREAM_SUFFIX, String.valueOf(stream));
+		entries.setProperty(name + DozerRepositoryIndex.MAPPING_VIEWS_SUFFIX, String.valueOf(mappingViews));
+	}
+
+	private TypeMirror findDomainType(TypeMirror type, TypeElement repositoryType) {
+		for (TypeMirror supertype : processingEnv.getTypeUtils().directSupertypes(type)) {
+			if (supertype.getKind() != TypeKind.DECLARED) {
+				continue;
+			}
+
+			DeclaredType declaredType = (DeclaredType) supertype;
+			if (declaredType.asElement().equals(repositoryType)) {
+				return declaredType.getTypeArguments().isEmpty() ? null : declaredType.getTypeArguments().get(0);
+			}
+
+			TypeMirror domainType = findDomainType(supertype, repositoryType);
+			if (domainType != null) {
+				return domainType;
+			}
+		}
+
+		return null;
+	}
+
+	private AnnotationMirror findAnnotation(Element element, String annotationType, Set<String> visited) {
+		for (AnnotationMirror annotation : element.getAnnotationMirrors()) {
+			TypeElement type = (TypeElement) annotation.getAnnotationType().asElement();
+			String name = type.getQualifiedName().toString();
+
+			if (name.equals(annotationType)) {
+				return annotation;
+			}
+
+			if (!name.startsWith("java.lang.annotation.") && visited.add(name)) {
+				AnnotationMirror meta = findAnnotation(type, annotationType, visited);
+				if (meta != null) {
+					return meta;
+				}
+			}
+		}
+
+		return null;
+	}
+
+	private void putTypeAttribute(String key, AnnotationMirror annotation, String attribute) {
+		for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : processingEnv
+				.getElementUtils().getElementValuesWithDefaults(annotation).entrySet()) {
+			if (entry.getKey().getSimpleName().contentEquals(attribute)) {
+				Object value = entry.getValue().getValue();
+				if (value instanceof DeclaredType) {
+					entries.setProperty(key, getName((TypeElement) ((DeclaredType) value).asElement()));
+				}
+			}
+		}
+	}
+
+	private String getName(TypeElement type) {
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void writeIndex() {
+		if (entries.isEmpty()) {
+			return;
+		}
+
+		try {
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "",
+					DozerRepositoryIndex.INDEX_LOCATION);
+			try (OutputStream out = file.openOutputStream()) {
+				entries.store(out, null);
+			}
+		} catch (IOException ex) {
+			processingEnv.getMessager().printMessage(Kind.ERROR,
+					"Unable to write " + DozerRepositoryIndex.INDEX_LOCATION + ": " + ex.getMessage());
+		}
+	}
+}
@@ -0,0 +1,193 @@
+package org.springframework.data.dozer.jpa.repository.nativeimage;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.data.dozer.jpa.repository.index.DozerRepositoryIndex;
+import org.springframework.data.dozer.jpa.repository.support.SimpleDozerJpaRepository;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Generates GraalVM native-image reachability metadata ({@code reflect-config.json}
+ * and {@code proxy-config.json}) for the dozer repositories, dozer entities and
+ * adapted entities recorded in the {@link DozerRepositoryIndex}. Meant to be run
+ * at build time with the application class path, e.g. with the
+ * {@code exec-maven-plugin} in the {@code process-classes} phase:
+ *
+ * <pre class="code">
+ * java org.springframework.data.dozer.jpa.repository.nativeimage.NativeImageMetadataGenerator \
+ *     target/classes/META-INF/native-image/com.example/app
+ * </pre>
+ */
+public class NativeImageMetadataGenerator {
+
+	static final String REFLECT_CONFIG = "reflect-config.json";
+	static final String PROXY_CONFIG = "proxy-config.json";
+
+	private static final List<String> REPOSITORY_PROXY_INTERFACES = Arrays.asList(
+			"org.springframework.data.repository.Repository",
+			"org.springframework.transaction.interceptor.TransactionalProxy", "org.springframework.aop.SpringProxy",
+			"org.springframework.aop.framework.Advised", "org.springframework.core.DecoratingProxy");
+
+	private final ClassLoader classLoader;
+	private final DozerRepositoryIndex index;
+
+	public NativeImageMetadataGenerator(ClassLoader classLoader) {
+		Assert.notNull(classLoader, "ClassLoader must not be null!");
+
+		this.classLoader = classLoader;
+		this.index = DozerRepositoryIndex.get(classLoader);
+	}
+
+	public static void main(String[] args) throws IOException {
+		Assert.isTrue(args.length == 1, "Usage: NativeImageMetadataGenerator <output directory>");
+
+		new NativeImageMetadataGenerator(ClassUtils.getDefaultClassLoader()).generate(Paths.get(args[0]));
+	}
+
+	/**
+	 * Writes {@code reflect-config.json} and {@code proxy-config.json} to the given
+	 * directory.
+	 *
+	 * @param outputDirectory must not be {@literal null}.
+	 * @throws IOException
+	 */
+	public void generate(Path outputDirectory) throws IOException {
+		Assert.state(!index.isEmpty(), "No " + DozerRepositoryIndex.INDEX_LOCATION
+				+ " found. Run the DozerRepositoryIndexProcessor on the repository sources!");
+
+		Files.createDirectories(outputDirectory);
+
+		try (Writer writer = Files.newBufferedWriter(outputDirectory.resolve(REFLECT_CONFIG), StandardCharsets.UTF_8)) {
+			writeReflectConfig(writer);
+		}
+		try (Writer writer = Files.newBufferedWriter(outputDirectory.resolve(PROXY_CONFIG), StandardCharsets.UTF_8)) {
+			writeProxyConfig(writer);
+		}
+	}
+
+	void writeReflectConfig(Writer writer) throws IOException {
+		Set<String> mappedTypes = new TreeSet<>();
+		for (String entity : index.getEntities()) {
+			collectMappedTypes(resolve(entity), mappedTypes);
+			collectMappedTypes(resolve(index.getAdaptedDomainTypeName(entity)), mappedTypes);
+		}
+
+		Set<String> repositoryTypes = new TreeSet<>();
+		for (String repository : index.getRepositories()) {
+			repositoryTypes.add(repository);
+			addIfPresent(index.getAdaptedRepositoryInterfaceName(repository), repositoryTypes);
+			collectMappedTypes(resolve(index.getDomainTypeName(repository)), mappedTypes);
+		}
+		repositoryTypes.removeAll(mappedTypes);
+		repositoryTypes.add(SimpleDozerJpaRepository.class.getName());
+
+		writer.write("[\n");
+		Iterator<String> types = mappedTypes.iterator();
+		while (types.hasNext()) {
+			writer.write("  {\"name\": \"" + types.next() + "\", \"allDeclaredConstructors\": true,"
+					+ " \"allDeclaredMethods\": true, \"allPublicMethods\": true, \"allDeclaredFields\": true}");
+			writer.write(",\n");
+		}
+
+		types = repositoryTypes.iterator();
+		while (types.hasNext()) {
+			writer.write("  {\"name\": \"" + types.next()
+					+ "\", \"allDeclaredConstructors\": true, \"allPublicMethods\": true}");
+			writer.write(types.hasNext() ? ",\n" : "\n");
+		}
+		writer.write("]\n");
+	}
+
+	void writeProxyConfig(Writer writer) throws IOException {
+		// adapted repositories are proxied as well, even when declared in another
+		// compilation
+		Set<String> proxiedRepositories = new TreeSet<>(index.getRepositories());
+		for (String repository : index.getRepositories()) {
+			addIfPresent(index.getAdaptedRepositoryInterfaceName(repository), proxiedRepositories);
+		}
+
+		writer.write("[\n");
+		Iterator<String> repositories = proxiedRepositories.iterator();
+		while (repositories.hasNext()) {
+			List<String> interfaces = new ArrayList<>();
+			interfaces.add(repositories.next());
+			interfaces.addAll(REPOSITORY_PROXY_INTERFACES);
+
+			writer.write("  {\"interfaces\": [");
+			for (int i = 0; i < interfaces.size(); i++) {
+				writer.write((i == 0 ? "\"" : ", \"") + interfaces.get(i) + "\"");
+			}
+			writer.write(repositories.hasNext() ? "]},\n" : "]}\n");
+		}
+		writer.write("]\n");
+	}
+
+	/**
+	 * Collects the given type and the types of its properties, including
+	 * collection element types, that are mapped reflectively by dozer.
+	 */
+	private void collectMappedTypes(@Nullable Class<?> type, Set<String> result) {
+		if (type == null || !isApplicationType(type) || !result.add(type.getName())) {
+			return;
+		}
+
+		collectMappedTypes(type.getSuperclass(), result);
+
+		ReflectionUtils.doWithLocalFields(type, field -> {
+			if (!Modifier.isStatic(field.getModifiers())) {
+				for (Class<?> fieldType : getFieldTypes(field)) {
+					collectMappedTypes(fieldType, result);
+				}
+			}
+		});
+	}
+
+	private static Set<Class<?>> getFieldTypes(Field field) {
+		Set<Class<?>> types = new LinkedHashSet<>();
+		ResolvableType type = ResolvableType.forField(field);
+
+		types.add(type.resolve(Object.class));
+		if (type.isArray()) {
+			types.add(type.getComponentType().resolve(Object.class));
+		}
+		for (ResolvableType generic : type.getGenerics()) {
+			types.add(generic.resolve(Object.class));
+		}
+
+		return types;
+	}
+
+	private static boolean isApplicationType(Class<?> type) {
+		return !type.isPrimitive() && !type.isArray() && !type.getName().startsWith("java.")
+				&& !type.getName().startsWith("javax.");
+	}
+
+	private void addIfPresent(@Nullable String typeName, Set<String> result) {
+		if (typeName != null) {
+			result.add(typeName);
+		}
+	}
+
+	@Nullable
+	private Class<?> resolve(@Nullable String typeName) {
+		return typeName == null ? null : ClassUtils.resolveClassName(typeName, classLoader);
+	}
+}
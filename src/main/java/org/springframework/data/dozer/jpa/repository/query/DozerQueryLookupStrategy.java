@@ -2,17 +2,26 @@ package org.springframework.data.dozer.jpa.repository.query;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.function.Supplier;
+
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.dozer.annotation.DozerEntity;
 import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.mapping.MappingEngineResolver;
+import org.springframework.data.dozer.jpa.repository.DozerJdbcQuery;
+import org.springframework.data.dozer.jpa.repository.index.DozerRepositoryIndex;
 import org.springframework.data.projection.ProjectionFactory;
 import org.springframework.data.repository.core.CrudMethods;
 import org.springframework.data.repository.core.NamedQueries;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.QueryLookupStrategy;
 import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.Assert;
 
 import com.github.dozermapper.core.Mapper;
 
@@ -20,23 +29,53 @@ public class DozerQueryLookupStrategy implements QueryLookupStrategy {
 
 	private final Mapper dozerMapper;
 	private final QueryLookupStrategy adaptedQueryLookupStrategy;
-	private final String conversionServiceName;
-	private final BeanFactory beanFactory;
+	private final MappingEngineResolver mappingEngineResolver;
+	private final @Nullable EntityManager entityManager;
+	private @Nullable Supplier<PlatformTransactionManager> transactionManager;
 
 	public DozerQueryLookupStrategy(Mapper dozerMapper, String conversionServiceName, BeanFactory beanFactory,
 			QueryLookupStrategy adaptedQueryLookupStrategy) {
+		this(dozerMapper, conversionServiceName, beanFactory, adaptedQueryLookupStrategy, null);
+	}
+
+	public DozerQueryLookupStrategy(Mapper dozerMapper, String conversionServiceName, BeanFactory beanFactory,
+			QueryLookupStrategy adaptedQueryLookupStrategy, @Nullable EntityManager entityManager) {
+		this(dozerMapper, new MappingEngineResolver(dozerMapper, conversionServiceName, beanFactory),
+				adaptedQueryLookupStrategy, entityManager);
+	}
+
+	public DozerQueryLookupStrategy(Mapper dozerMapper, MappingEngineResolver mappingEngineResolver,
+			QueryLookupStrategy adaptedQueryLookupStrategy, @Nullable EntityManager entityManager) {
 		this.dozerMapper = dozerMapper;
+		this.mappingEngineResolver = mappingEngineResolver;
+		this.entityManager = entityManager;
 		this.adaptedQueryLookupStrategy = adaptedQueryLookupStrategy;
-		this.conversionServiceName = conversionServiceName;
-		this.beanFactory = beanFactory;
+	}
+
+	/**
+	 * Configures the transaction manager used by query executions running outside
+	 * of the caller's transaction, such as page prefetches.
+	 *
+	 * @param transactionManager can be {@literal null}.
+	 */
+	public void setTransactionManager(@Nullable Supplier<PlatformTransactionManager> transactionManager) {
+		this.transactionManager = transactionManager;
 	}
 
 	@Override
 	public RepositoryQuery resolveQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
 			NamedQueries namedQueries) {
 
-		return new DozerRepositoryQuery(new DozerQueryMethod(method, metadata, factory), dozerMapper,
-				resolveAdaptedQuery(method, metadata, factory, namedQueries), conversionServiceName, beanFactory);
+		DozerQueryMethod queryMethod = new DozerQueryMethod(method, metadata, factory);
+		if (AnnotatedElementUtils.hasAnnotation(method, DozerJdbcQuery.class)) {
+			Assert.state(entityManager != null, "JDBC queries require an EntityManager: " + method);
+
+			return new JdbcDozerRepositoryQuery(queryMethod, dozerMapper, entityManager);
+		}
+
+		return new DozerRepositoryQuery(queryMethod, dozerMapper,
+				resolveAdaptedQuery(method, metadata, factory, namedQueries), mappingEngineResolver, entityManager,
+				transactionManager);
 	}
 
 	protected RepositoryQuery resolveAdaptedQuery(Method method, RepositoryMetadata metadata, ProjectionFactory factory,
@@ -67,6 +106,11 @@ public class DozerQueryLookupStrategy implements QueryLookupStrategy {
 		public Class<?> getDomainType() {
 			Class<?> domainType = delegate.getDomainType();
 
+			Class<?> indexed = DozerRepositoryIndex.get(domainType.getClassLoader()).getAdaptedDomainType(domainType);
+			if (indexed != null) {
+				return indexed;
+			}
+
 			DozerEntity dozerEntity = AnnotatedElementUtils.findMergedAnnotation(domainType, DozerEntity.class);
 			if (dozerEntity != null) {
 				return dozerEntity.adaptedDomainClass();
@@ -81,6 +125,12 @@ public class DozerQueryLookupStrategy implements QueryLookupStrategy {
 		public Class<?> getRepositoryInterface() {
 			Class<?> repositoryInterface = delegate.getRepositoryInterface();
 
+			Class<?> indexed = DozerRepositoryIndex.get(repositoryInterface.getClassLoader())
+					.getAdaptedRepositoryInterface(repositoryInterface);
+			if (indexed != null) {
+				return indexed;
+			}
+
 			DozerRepository dozerRepository = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface,
 					DozerRepository.class);
 			if (dozerRepository != null) {
@@ -97,6 +147,13 @@ public class DozerQueryLookupStrategy implements QueryLookupStrategy {
 		 */
 		public Class<?> getReturnedDomainClass(Method method) {
 			Class<?> returnedDomainClass = delegate.getReturnedDomainClass(method);
+
+			Class<?> indexed = DozerRepositoryIndex.get(returnedDomainClass.getClassLoader())
+					.getAdaptedDomainType(returnedDomainClass);
+			if (indexed != null) {
+				return indexed;
+			}
+
 			DozerEntity dozerEntity = AnnotatedElementUtils.findMergedAnnotation(returnedDomainClass,
 					DozerEntity.class);
 			if (dozerEntity != null) {
@@ -130,11 +187,14 @@ public class DozerQueryLookupStrategy implements QueryLookupStrategy {
 		}
 
 		/**
+		 * The adapted repository is always a blocking JPA repository. {@code Flux}
+		 * and {@code Mono} query methods are executed by {@link DozerRepositoryQuery}.
+		 *
 		 * @return
 		 * @see org.springframework.data.repository.core.RepositoryMetadata#isReactiveRepository()
 		 */
 		public boolean isReactiveRepository() {
-			return delegate.isReactiveRepository();
+			return false;
 		}
 
 	}
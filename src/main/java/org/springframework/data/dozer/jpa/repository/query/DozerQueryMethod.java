@@ -12,11 +12,15 @@ import org.springframework.util.Assert;
 
 public class DozerQueryMethod extends QueryMethod {
 	private final Lazy<DozerEntityMetadata<?>> entityMetadata;
+	private final Method method;
+	private final Class<?> repositoryInterface;
 
 	public DozerQueryMethod(Method method, RepositoryMetadata metadata, ProjectionFactory factory) {
 		super(method, metadata, factory);
 		Assert.notNull(method, "Method must not be null!");
 
+		this.method = method;
+		this.repositoryInterface = metadata.getRepositoryInterface();
 		this.entityMetadata = Lazy.of(() -> new DefaultDozerEntityMetadata<>(getDomainClass()));
 	}
 
@@ -31,4 +35,22 @@ public class DozerQueryMethod extends QueryMethod {
 	public DozerEntityMetadata<?> getEntityInformation() {
 		return this.entityMetadata.get();
 	}
+
+	/**
+	 * Returns the {@link Method} backing this query method.
+	 *
+	 * @return
+	 */
+	public Method getMethod() {
+		return method;
+	}
+
+	/**
+	 * Returns the repository interface declaring this query method.
+	 *
+	 * @return
+	 */
+	public Class<?> getRepositoryInterface() {
+		return repositoryInterface;
+	}
 }
@@ -1,79 +1,280 @@
 package org.springframework.data.dozer.jpa.repository.query;
 
+import java.lang.reflect.Array;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import javax.persistence.EntityManager;
+
 import org.springframework.beans.factory.BeanFactory;
-import org.springframework.beans.factory.ListableBeanFactory;
 import org.springframework.core.CollectionFactory;
-import org.springframework.core.convert.ConversionService;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.dozer.jpa.mapping.MappingEngineResolver;
+import org.springframework.data.dozer.jpa.repository.DozerAutoTuning;
+import org.springframework.data.dozer.jpa.repository.DozerMappingViewHolder;
+import org.springframework.data.dozer.jpa.repository.DozerPrefetch;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+import org.springframework.data.dozer.jpa.repository.support.AdaptedRowWidthEstimator;
+import org.springframework.data.dozer.jpa.repository.support.DozerLazyCollectionSupport;
+import org.springframework.data.dozer.jpa.repository.support.DozerMappingMetadataRegistry;
+import org.springframework.data.dozer.jpa.repository.support.DozerQueryStatistics;
+import org.springframework.data.dozer.jpa.repository.support.DozerQueryStatisticsRegistry;
+import org.springframework.data.dozer.jpa.repository.support.DozerRepositoryRecording;
+import org.springframework.data.dozer.jpa.repository.support.DozerViewMapper;
 import org.springframework.data.dozer.repository.query.DozerEntityMetadata;
-import org.springframework.data.dozer.repository.support.DozerUtil;
-import org.springframework.data.dozer.repository.support.DozerUtilFactory;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.util.Lazy;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
-import org.springframework.util.StringUtils;
+import org.springframework.util.ClassUtils;
 
 import com.github.dozermapper.core.Mapper;
-import com.github.dozermapper.core.metadata.MetadataLookupException;
 
 public class DozerRepositoryQuery implements RepositoryQuery {
+	private static final String NO_MAPPING = "none";
+	private static final boolean REACTOR_PRESENT = ClassUtils.isPresent("reactor.core.publisher.Flux",
+			DozerRepositoryQuery.class.getClassLoader());
+
 	private final DozerQueryMethod method;
 	private final Mapper dozerMapper;
 	private final RepositoryQuery resolveQuery;
-	private final Lazy<ConversionService> conversionService;
+	private final MappingEngineResolver mappingEngineResolver;
+	private final DozerViewMapper viewMapper;
+	private final @Nullable DozerLazyCollectionSupport lazyCollectionSupport;
+	private final @Nullable SlicePrefetcher slicePrefetcher;
+	private final @Nullable ReactiveDozerQueryExecution reactiveExecution;
+	private final @Nullable Lazy<AdaptedRowWidthEstimator> rowWidthEstimator;
+	private final DozerQueryStatistics statistics;
+	private final DozerAutoTuning autoTuning;
 	protected Map<String, String> dozerEntityFieldNameToAdaptedFieldName;
 	protected boolean dozerEntityFieldNameToAdaptedFieldNameInitialized = false;
 
 	public DozerRepositoryQuery(DozerQueryMethod method, Mapper dozerMapper, RepositoryQuery resolveQuery,
 			String conversionServiceName, final BeanFactory beanFactory) {
-		Assert.isInstanceOf(ListableBeanFactory.class, beanFactory, "beanFactory must be of type ListableBeanFactory!");
+		this(method, dozerMapper, resolveQuery, conversionServiceName, beanFactory, null);
+	}
+
+	public DozerRepositoryQuery(DozerQueryMethod method, Mapper dozerMapper, RepositoryQuery resolveQuery,
+			String conversionServiceName, final BeanFactory beanFactory, @Nullable EntityManager entityManager) {
+		this(method, dozerMapper, resolveQuery, new MappingEngineResolver(dozerMapper, conversionServiceName,
+				beanFactory), entityManager);
+	}
+
+	public DozerRepositoryQuery(DozerQueryMethod method, Mapper dozerMapper, RepositoryQuery resolveQuery,
+			MappingEngineResolver mappingEngineResolver, @Nullable EntityManager entityManager) {
+		this(method, dozerMapper, resolveQuery, mappingEngineResolver, entityManager, null);
+	}
+
+	/**
+	 * @param transactionManager supplies the transaction manager prefetched pages
+	 *                           are read with, can be {@literal null}.
+	 */
+	public DozerRepositoryQuery(DozerQueryMethod method, Mapper dozerMapper, RepositoryQuery resolveQuery,
+			MappingEngineResolver mappingEngineResolver, @Nullable EntityManager entityManager,
+			@Nullable Supplier<PlatformTransactionManager> transactionManager) {
+		Assert.notNull(mappingEngineResolver, "MappingEngineResolver must not be null!");
 
 		this.method = method;
 		this.dozerMapper = dozerMapper;
 		this.resolveQuery = resolveQuery;
+		this.mappingEngineResolver = mappingEngineResolver;
+		this.viewMapper = new DozerViewMapper(dozerMapper);
+		this.lazyCollectionSupport = entityManager == null ? null
+				: new DozerLazyCollectionSupport(entityManager, dozerMapper);
+		this.slicePrefetcher = createSlicePrefetcher(method, transactionManager);
+		this.reactiveExecution = createReactiveExecution(method);
+		this.rowWidthEstimator = entityManager == null ? null
+				: Lazy.of(() -> new AdaptedRowWidthEstimator(entityManager.getMetamodel(),
+						method.getEntityInformation().getAdaptedJavaType()));
+		this.statistics = DozerQueryStatisticsRegistry.getInstance().getStatistics(method.getRepositoryInterface(),
+				method.getMethod());
+		this.autoTuning = getAutoTuning(method);
+	}
+
+	static DozerAutoTuning getAutoTuning(DozerQueryMethod method) {
+		DozerAutoTuning autoTuning = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(),
+				DozerAutoTuning.class);
+		if (autoTuning == null) {
+			autoTuning = AnnotatedElementUtils.findMergedAnnotation(method.getRepositoryInterface(),
+					DozerAutoTuning.class);
+		}
 
-		this.conversionService = Lazy.of(() -> ((ListableBeanFactory) beanFactory)
-				.getBeansOfType(ConversionService.class).get(conversionServiceName));
+		return autoTuning != null ? autoTuning
+				: AnnotationUtils.synthesizeAnnotation(Collections.emptyMap(), DozerAutoTuning.class, null);
+	}
+
+	/**
+	 * Returns whether the execution of this query method is currently tuned from
+	 * its statistics.
+	 *
+	 * @return
+	 */
+	protected boolean isTuningEnabled() {
+		return autoTuning.enabled() && DozerQueryStatisticsRegistry.getInstance().isTuningEnabled();
+	}
+
+	@Nullable
+	private ReactiveDozerQueryExecution createReactiveExecution(DozerQueryMethod method) {
+		Class<?> returnType = method.getMethod().getReturnType();
+		if (!REACTOR_PRESENT || !ReactiveDozerQueryExecution.supports(returnType)) {
+			return null;
+		}
+
+		return new ReactiveDozerQueryExecution(ReactiveDozerQueryExecution.isMultiValue(returnType),
+				this::doExecute, parameters -> resolveQuery.execute(toAdaptedParameters(parameters)),
+				this::toDozerRow);
+	}
+
+	@Nullable
+	private static SlicePrefetcher createSlicePrefetcher(DozerQueryMethod method,
+			@Nullable Supplier<PlatformTransactionManager> transactionManager) {
+		if (!method.isPageQuery() && !method.isSliceQuery()) {
+			return null;
+		}
+
+		DozerPrefetch prefetch = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(), DozerPrefetch.class);
+		if (prefetch == null) {
+			prefetch = AnnotatedElementUtils.findMergedAnnotation(method.getRepositoryInterface(),
+					DozerPrefetch.class);
+		}
+
+		return prefetch == null ? null
+				: new SlicePrefetcher(prefetch, method.getParameters().getPageableIndex(), transactionManager);
 	}
 
 	@Override
 	public Object execute(Object[] parameters) {
-		Object result = resolveQuery.execute(toAdaptedParameters(parameters));
+		if (reactiveExecution != null) {
+			return reactiveExecution.execute(parameters,
+					DozerViewMapper.getCurrentView(method.getEntityInformation().getJavaType()));
+		}
 
-		if (result == null || method.getResultProcessor().getReturnedType().isProjecting()) {
-			return result;
+		if (slicePrefetcher == null) {
+			return doExecute(parameters);
+		}
+
+		DozerView view = DozerViewMapper.getCurrentView(method.getEntityInformation().getJavaType());
+		String viewName = view == null ? null : view.name();
+
+		Object result = slicePrefetcher.get(parameters, viewName);
+		if (result == null) {
+			result = doExecute(parameters);
 		}
 
-		if (method.isModifyingQuery()) {
+		slicePrefetcher.prefetchNext(result, parameters, viewName,
+				nextParameters -> DozerMappingViewHolder.withView(viewName, () -> doExecute(nextParameters)));
+
+		return result;
+	}
+
+	private Object doExecute(Object[] parameters) {
+		DozerRepositoryRecording recording = DozerRepositoryRecording.start(method.getRepositoryInterface(),
+				method.getName());
+
+		recording.beginPhase(DozerRepositoryRecording.PARAMETER_ADAPTATION);
+		Object[] adaptedParameters = toAdaptedParameters(parameters);
+
+		recording.beginPhase(DozerRepositoryRecording.ADAPTED_QUERY);
+		long queryStart = System.nanoTime();
+		Object result = resolveQuery.execute(adaptedParameters);
+		long queryNanos = System.nanoTime() - queryStart;
+
+		Class<?> returnType = method.getMethod().getReturnType();
+		if (PrimitiveResults.isPrimitiveArray(returnType)) {
+			Object array = PrimitiveResults.toPrimitiveArray(result, returnType);
+			long rowCount = array == null ? 0 : Array.getLength(array);
+			statistics.record(rowCount, queryNanos, 0);
+			if (recording.isEnabled()) {
+				recording.end(rowCount, NO_MAPPING);
+			}
+			return array;
+		}
+
+		long rowCount = DozerRepositoryRecording.getRowCount(result);
+		if (result == null || method.getResultProcessor().getReturnedType().isProjecting()
+				|| method.isModifyingQuery()) {
+			statistics.record(rowCount, queryNanos, 0);
+			if (recording.isEnabled()) {
+				recording.end(rowCount, NO_MAPPING);
+			}
 			return result;
 		}
 
+		if (recording.isEnabled()) {
+			recording.endPhase(rowCount);
+		}
+		sampleRowWidth(result);
+
+		DozerView view = DozerViewMapper.getCurrentView(method.getEntityInformation().getJavaType());
+
+		recording.beginPhase(DozerRepositoryRecording.MAPPING);
+		long mappingStart = System.nanoTime();
+		boolean parallel = result instanceof Collection && method.isCollectionQuery()
+				&& isParallelMapping((Collection<?>) result);
+		Object dozerResult = toDozerResult(result, view, parallel);
+		statistics.record(rowCount, queryNanos, System.nanoTime() - mappingStart, parallel);
+
+		if (recording.isEnabled()) {
+			recording.end(DozerRepositoryRecording.getRowCount(dozerResult), getMappingStrategy(view));
+		}
+
+		return dozerResult;
+	}
+
+	private void sampleRowWidth(Object result) {
+		if (rowWidthEstimator == null || !statistics.isRowWidthSampleDue()) {
+			return;
+		}
+
+		Object row = result;
+		if (result instanceof Slice) {
+			row = ((Slice<?>) result).hasContent() ? ((Slice<?>) result).getContent().get(0) : null;
+		} else if (result instanceof Collection) {
+			Collection<?> collection = (Collection<?>) result;
+			row = collection.isEmpty() ? null : collection.iterator().next();
+		}
+
+		if (method.getEntityInformation().getAdaptedJavaType().isInstance(row)) {
+			statistics.recordRowWidth(rowWidthEstimator.get().applyAsLong(row));
+		}
+	}
+
+	protected Object toDozerResult(Object result, @Nullable DozerView view, boolean parallel) {
 		if (result instanceof Slice && method.isPageQuery() || method.isSliceQuery()) {
-			return ((Slice<?>) result).map(source -> toDozerEntity(source));
+			return ((Slice<?>) result).map(source -> toDozerEntity(source, view));
 		}
 
 		if (method.isQueryForEntity() && method.getEntityInformation().getAdaptedJavaType().isInstance(result)) {
-			return toDozerEntity(result);
+			return toDozerEntity(result, view);
 		}
 
 		if (result instanceof Collection && method.isCollectionQuery()) {
 			Collection<?> collection = (Collection<?>) result;
 			Collection<Object> target = createCollectionFor(collection);
 
+			if (parallel) {
+				Object[] rows = collection.toArray();
+				IntStream.range(0, rows.length).parallel().forEach(i -> rows[i] = toDozerElement(rows[i], view));
+				target.addAll(Arrays.asList(rows));
+				return target;
+			}
+
 			for (Object columns : collection) {
-				target.add(
-						method.getEntityInformation().getAdaptedJavaType().isInstance(columns) ? toDozerEntity(columns)
-								: columns);
+				target.add(toDozerElement(columns, view));
 			}
 
 			return target;
@@ -81,20 +282,73 @@ public class DozerRepositoryQuery implements RepositoryQuery {
 
 		if (result instanceof Stream && method.isStreamQuery()) {
 			return ((Stream<Object>) result)
-					.map(t -> method.getEntityInformation().getAdaptedJavaType().isInstance(t) ? t : toDozerEntity(t));
+					.map(t -> method.getEntityInformation().getAdaptedJavaType().isInstance(t) ? t
+							: toDozerEntity(t, view));
 		}
 
 		return result;
 	}
 
+	private Object toDozerElement(Object columns, @Nullable DozerView view) {
+		return method.getEntityInformation().getAdaptedJavaType().isInstance(columns) ? toDozerEntity(columns, view)
+				: columns;
+	}
+
+	/**
+	 * Returns whether the given collection result is mapped in parallel, which
+	 * requires {@link DozerAutoTuning#parallelMapping()} and statistics showing
+	 * that the mapping cost outweighs the overhead.
+	 *
+	 * @param collection must not be {@literal null}.
+	 * @return
+	 */
+	protected boolean isParallelMapping(Collection<?> collection) {
+		if (!autoTuning.parallelMapping()) {
+			return false;
+		}
+
+		boolean parallel = isTuningEnabled() && collection.size() >= DozerQueryStatistics.getParallelMappingMinRows()
+				&& statistics.isParallelMappingRecommended();
+		statistics.recordParallelMapping(parallel);
+
+		return parallel;
+	}
+
+	/**
+	 * Maps a single row of the adapted query result unless it is not an adapted
+	 * entity or the query method returns projections.
+	 *
+	 * @param row  must not be {@literal null}.
+	 * @param view can be {@literal null}.
+	 * @return
+	 */
+	protected Object toDozerRow(Object row, @Nullable DozerView view) {
+		if (method.getResultProcessor().getReturnedType().isProjecting()
+				|| !method.getEntityInformation().getAdaptedJavaType().isInstance(row)) {
+			return row;
+		}
+
+		return toDozerEntity(row, view);
+	}
+
+	/**
+	 * Returns the label of the strategy used to map the results of this query as
+	 * reported to {@link DozerRepositoryRecording}.
+	 *
+	 * @param view the active view, can be {@literal null}.
+	 * @return
+	 */
+	protected String getMappingStrategy(@Nullable DozerView view) {
+		return view != null ? "view:" + view.name()
+				: mappingEngineResolver.getMappingStrategy(method.getEntityInformation());
+	}
+
 	protected Object[] toAdaptedParameters(Object[] parameters) {
 		if (!dozerEntityFieldNameToAdaptedFieldNameInitialized) {
 			synchronized (this) {
 				if (!dozerEntityFieldNameToAdaptedFieldNameInitialized) {
-					DozerUtil dozerUtil = DozerUtilFactory.getInstance().getDozerUtil(dozerMapper);
-
-					dozerEntityFieldNameToAdaptedFieldName = dozerUtil
-							.getDozerEntityFieldNameToAdaptedFieldNameMap(method.getEntityInformation());
+					dozerEntityFieldNameToAdaptedFieldName = DozerMappingMetadataRegistry.getInstance()
+							.getMappingMetadata(method.getEntityInformation(), dozerMapper).getFieldNameMap();
 					dozerEntityFieldNameToAdaptedFieldNameInitialized = true;
 				}
 			}
@@ -142,36 +396,23 @@ public class DozerRepositoryQuery implements RepositoryQuery {
 		return resolveQuery.getQueryMethod();
 	}
 
-	protected Object toDozerEntity(Object source) {
-		if (useConversionServiceForEntityMapping(method.getEntityInformation())) {
-			return conversionService.getOptional().get().convert(source, method.getEntityInformation().getJavaType());
-		}
+	protected Object toDozerEntity(Object source, @Nullable DozerView view) {
+		Object target = view == null ? toDozerEntity(source)
+				: viewMapper.map(source, method.getEntityInformation().getJavaType(), view,
+						dozerEntityFieldNameToAdaptedFieldName);
 
-		if (StringUtils.isEmpty(method.getEntityInformation().getDozerMapId())) {
-			return dozerMapper.map(source, method.getEntityInformation().getJavaType());
+		if (lazyCollectionSupport != null && target != null) {
+			lazyCollectionSupport.apply(target, source, method.getEntityInformation().getAdaptedJavaType());
 		}
-		return dozerMapper.map(source, method.getEntityInformation().getJavaType(),
-				method.getEntityInformation().getDozerMapId());
-	}
 
-	protected boolean useConversionServiceForEntityMapping(DozerEntityMetadata entityInformation) {
-		boolean considerConversionServiceForEntityMapping = entityInformation.getMapEntityUsingConvertionService()
-				&& conversionService.getOptional().isPresent();
-
-		DozerUtil dozerUtil = DozerUtilFactory.getInstance().getDozerUtil(dozerMapper);
+		return target;
+	}
 
-		if (!dozerUtil.hasDozerMapping(entityInformation.getJavaType(), entityInformation.getAdaptedJavaType(),
-				entityInformation.getDozerMapId())) {
-			if (!considerConversionServiceForEntityMapping || !conversionService.getOptional().get()
-					.canConvert(entityInformation.getAdaptedJavaType(), entityInformation.getJavaType())) {
-				throw new MetadataLookupException(
-						"No mapping definition found for: " + entityInformation.getJavaType().getName() + " -> "
-								+ entityInformation.getAdaptedJavaType().getName() + ".");
-			}
-			return true;
-		}
+	protected Object toDozerEntity(Object source) {
+		DozerEntityMetadata<?> entityInformation = method.getEntityInformation();
 
-		return false;
+		return mappingEngineResolver.getMappingEngine(entityInformation).map(source,
+				entityInformation.getJavaType(), entityInformation.getDozerMapId());
 	}
 
 	/**
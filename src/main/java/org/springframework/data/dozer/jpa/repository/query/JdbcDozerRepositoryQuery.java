@@ -0,0 +1,652 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.dao.support.DataAccessUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.NullHandling;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.dozer.jpa.repository.DozerAutoTuning;
+import org.springframework.data.dozer.jpa.repository.DozerJdbcQuery;
+import org.springframework.data.dozer.jpa.repository.support.AdaptedTableMetadata;
+import org.springframework.data.dozer.jpa.repository.support.DozerJdbcSupport;
+import org.springframework.data.dozer.jpa.repository.support.DozerMappingMetadataRegistry;
+import org.springframework.data.dozer.jpa.repository.support.DozerQueryStatistics;
+import org.springframework.data.dozer.jpa.repository.support.DozerQueryStatisticsRegistry;
+import org.springframework.data.dozer.jpa.repository.support.DozerRepositoryRecording;
+import org.springframework.data.dozer.repository.query.DozerEntityMetadata;
+import org.springframework.data.jpa.repository.query.EscapeCharacter;
+import org.springframework.data.repository.query.Parameter;
+import org.springframework.data.repository.query.Parameters;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.Part.IgnoreCaseType;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.data.repository.query.parser.PartTree.OrPart;
+import org.springframework.data.repository.util.ReactiveWrappers;
+import org.springframework.data.util.Lazy;
+import org.springframework.jdbc.core.ArgumentPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterDisposer;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterUtils;
+import org.springframework.jdbc.core.namedparam.ParsedSql;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ObjectUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * {@link RepositoryQuery} executing a {@link DozerJdbcQuery} method with plain
+ * JDBC, mapping the result set columns straight into the dozer entity. Unless
+ * disabled through {@link DozerAutoTuning}, the fetch size follows the result
+ * sizes observed for the method.
+ */
+public class JdbcDozerRepositoryQuery implements RepositoryQuery {
+	private static final String MAPPING_STRATEGY = "jdbc";
+	private static final EscapeCharacter ESCAPE = EscapeCharacter.of('!');
+
+	private final DozerQueryMethod method;
+	private final Class<?> dozerEntityType;
+	private final AdaptedTableMetadata tableMetadata;
+	private final @Nullable ParsedSql declaredSql;
+	private final @Nullable PartTree tree;
+	private final Lazy<Map<String, String>> dozerEntityFieldNameToAdaptedFieldName;
+	private final Lazy<JdbcTemplate> jdbcTemplate;
+	private final Lazy<SelectList> selectList;
+	private final DozerQueryStatistics statistics;
+	private final DozerAutoTuning autoTuning;
+	private volatile ColumnMapping[] declaredColumns;
+
+	public JdbcDozerRepositoryQuery(DozerQueryMethod method, Mapper dozerMapper, EntityManager entityManager) {
+		Assert.notNull(method, "DozerQueryMethod must not be null!");
+		Assert.notNull(dozerMapper, "Mapper must not be null!");
+		Assert.notNull(entityManager, "EntityManager must not be null!");
+
+		DozerJdbcQuery annotation = AnnotatedElementUtils.findMergedAnnotation(method.getMethod(),
+				DozerJdbcQuery.class);
+		Assert.isTrue(annotation != null, "Method must be annotated with @DozerJdbcQuery: " + method);
+
+		DozerEntityMetadata<?> entityInformation = method.getEntityInformation();
+		this.method = method;
+		this.dozerEntityType = entityInformation.getJavaType();
+		this.tableMetadata = AdaptedTableMetadata.of(entityManager.getMetamodel(),
+				entityInformation.getAdaptedJavaType());
+		this.declaredSql = StringUtils.hasText(annotation.value())
+				? NamedParameterUtils.parseSqlStatement(annotation.value())
+				: null;
+		this.tree = declaredSql == null ? new PartTree(method.getName(), entityInformation.getAdaptedJavaType())
+				: null;
+		this.dozerEntityFieldNameToAdaptedFieldName = Lazy.of(() -> DozerMappingMetadataRegistry.getInstance()
+				.getMappingMetadata(entityInformation, dozerMapper).getFieldNameMap());
+		// the template is shared by all threads, so it is not changed after creation
+		this.jdbcTemplate = Lazy.of(() -> {
+			JdbcTemplate template = DozerJdbcSupport.createJdbcTemplate(entityManager);
+			template.setMaxRows(getMaxRows());
+			return template;
+		});
+		this.selectList = Lazy.of(this::createSelectList);
+		this.statistics = DozerQueryStatisticsRegistry.getInstance().getStatistics(method.getRepositoryInterface(),
+				method.getMethod());
+		this.autoTuning = DozerRepositoryQuery.getAutoTuning(method);
+
+		validate();
+	}
+
+	private void validate() {
+		Parameters<?, ?> parameters = method.getParameters();
+		Class<?> returnType = method.getMethod().getReturnType();
+
+		assertSupported(!parameters.hasPageableParameter() && !method.isPageQuery() && !method.isSliceQuery(),
+				"paging");
+		assertSupported(!method.getResultProcessor().getReturnedType().isProjecting(), "projections");
+		assertSupported(!method.isModifyingQuery(), "modifying queries");
+		assertSupported(!ReactiveWrappers.supports(returnType), "reactive return types");
+
+		if (tree == null) {
+			assertSupported(!parameters.hasSortParameter(), "Sort parameters with declared SQL");
+			for (Parameter parameter : parameters.getBindableParameters()) {
+				Assert.state(parameter.getName().isPresent(),
+						"Parameters of declared JDBC queries must be named with @Param: " + method);
+			}
+			return;
+		}
+
+		assertSupported(!tree.isDelete(), "delete queries");
+		for (Part part : tree.getParts()) {
+			getColumnName(part.getProperty().toDotPath());
+			switch (part.getType()) {
+			case SIMPLE_PROPERTY:
+			case NEGATING_SIMPLE_PROPERTY:
+			case GREATER_THAN:
+			case AFTER:
+			case GREATER_THAN_EQUAL:
+			case LESS_THAN:
+			case BEFORE:
+			case LESS_THAN_EQUAL:
+			case BETWEEN:
+			case IS_NULL:
+			case IS_NOT_NULL:
+			case IN:
+			case NOT_IN:
+			case LIKE:
+			case NOT_LIKE:
+			case STARTING_WITH:
+			case ENDING_WITH:
+			case CONTAINING:
+			case NOT_CONTAINING:
+			case TRUE:
+			case FALSE:
+				break;
+			default:
+				assertSupported(false, part.getType() + " predicates");
+			}
+		}
+		for (Order order : tree.getSort()) {
+			getColumnName(order.getProperty());
+		}
+	}
+
+	private void assertSupported(boolean supported, String feature) {
+		Assert.state(supported, "JDBC queries do not support " + feature + ": " + method);
+	}
+
+	@Override
+	public Object execute(Object[] parameters) {
+		DozerRepositoryRecording recording = DozerRepositoryRecording.start(method.getRepositoryInterface(),
+				method.getName());
+
+		recording.beginPhase(DozerRepositoryRecording.JDBC_QUERY);
+		int fetchSize = getFetchSize();
+		long start = System.nanoTime();
+		Object result = tree == null ? executeDeclared(parameters, fetchSize) : executeDerived(parameters, fetchSize);
+
+		// rows are mapped while reading the result set, so all time counts as query time
+		long rowCount = DozerRepositoryRecording.getRowCount(result);
+		statistics.record(rowCount, System.nanoTime() - start, 0);
+
+		if (recording.isEnabled()) {
+			recording.end(rowCount, MAPPING_STRATEGY);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Returns the fetch size of the next execution, zero to leave the driver
+	 * default in place.
+	 */
+	private int getFetchSize() {
+		int fetchSize = autoTuning.enabled() && DozerQueryStatisticsRegistry.getInstance().isTuningEnabled()
+				? statistics.getRecommendedFetchSize()
+				: 0;
+
+		statistics.recordFetchSize(fetchSize);
+		return fetchSize;
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return method;
+	}
+
+	private Object executeDeclared(Object[] parameters, int fetchSize) {
+		MapSqlParameterSource source = new MapSqlParameterSource();
+		for (Parameter parameter : method.getParameters().getBindableParameters()) {
+			source.addValue(parameter.getName().get(), parameters[parameter.getIndex()]);
+		}
+
+		String sql = NamedParameterUtils.substituteNamedParameters(declaredSql, source);
+		Object[] arguments = NamedParameterUtils.buildValueArray(declaredSql, source, null);
+		List<Object> rows = jdbcTemplate.get().query(new FetchSizeStatementCreator(sql, arguments, fetchSize),
+				(rs, rowNum) -> mapRow(rs, getDeclaredColumns(rs.getMetaData())));
+
+		return toResult(rows);
+	}
+
+	private Object executeDerived(Object[] parameters, int fetchSize) {
+		List<Object> arguments = new ArrayList<>();
+		StringBuilder sql = new StringBuilder("SELECT ");
+		if (tree.isCountProjection()) {
+			sql.append("COUNT(*)");
+		} else if (tree.isExistsProjection()) {
+			sql.append('1');
+		} else {
+			sql.append(tree.isDistinct() ? "DISTINCT " : "").append(selectList.get().columns);
+		}
+		sql.append(" FROM ").append(tableMetadata.getTableName());
+		appendWhere(sql, parameters, arguments);
+
+		if (tree.isCountProjection()) {
+			Long count = jdbcTemplate.get().queryForObject(sql.toString(), Long.class, arguments.toArray());
+			return DefaultConversionService.getSharedInstance().convert(count, method.getMethod().getReturnType());
+		}
+		if (tree.isExistsProjection()) {
+			return jdbcTemplate.get().query(sql.toString(), (ResultSetExtractor<Boolean>) ResultSet::next,
+					arguments.toArray());
+		}
+
+		appendOrderBy(sql, parameters);
+
+		ColumnMapping[] columns = selectList.get().mappings;
+		return toResult(jdbcTemplate.get().query(
+				new FetchSizeStatementCreator(sql.toString(), arguments.toArray(), fetchSize),
+				(rs, rowNum) -> mapRow(rs, columns)));
+	}
+
+	private void appendWhere(StringBuilder sql, Object[] parameters, List<Object> arguments) {
+		Iterator<Object> values = method.getParameters().getBindableParameters().stream()
+				.map(parameter -> parameters[parameter.getIndex()]).iterator();
+
+		String orDelimiter = " WHERE ";
+		for (OrPart orPart : tree) {
+			String andDelimiter = orDelimiter + "(";
+			for (Part part : orPart) {
+				sql.append(andDelimiter);
+				appendPredicate(sql, part, values, arguments);
+				andDelimiter = " AND ";
+			}
+			if (!andDelimiter.endsWith("(")) {
+				sql.append(')');
+				orDelimiter = " OR ";
+			}
+		}
+	}
+
+	private void appendPredicate(StringBuilder sql, Part part, Iterator<Object> values, List<Object> arguments) {
+		String path = part.getProperty().toDotPath();
+		String column = getColumnName(path);
+		boolean ignoreCase = part.shouldIgnoreCase() == IgnoreCaseType.ALWAYS
+				|| (part.shouldIgnoreCase() == IgnoreCaseType.WHEN_POSSIBLE
+						&& String.class.equals(part.getProperty().getLeafProperty().getType()));
+		String expression = ignoreCase ? "UPPER(" + column + ")" : column;
+		String placeholder = ignoreCase ? "UPPER(?)" : "?";
+
+		switch (part.getType()) {
+		case SIMPLE_PROPERTY:
+		case NEGATING_SIMPLE_PROPERTY:
+			boolean negated = part.getType() == Part.Type.NEGATING_SIMPLE_PROPERTY;
+			Object value = values.next();
+			if (value == null) {
+				sql.append(column).append(negated ? " IS NOT NULL" : " IS NULL");
+			} else {
+				sql.append(expression).append(negated ? " <> " : " = ").append(placeholder);
+				arguments.add(tableMetadata.toColumnValue(path, value));
+			}
+			break;
+		case GREATER_THAN:
+		case AFTER:
+			appendComparison(sql, expression, " > ", placeholder, path, values.next(), arguments);
+			break;
+		case GREATER_THAN_EQUAL:
+			appendComparison(sql, expression, " >= ", placeholder, path, values.next(), arguments);
+			break;
+		case LESS_THAN:
+		case BEFORE:
+			appendComparison(sql, expression, " < ", placeholder, path, values.next(), arguments);
+			break;
+		case LESS_THAN_EQUAL:
+			appendComparison(sql, expression, " <= ", placeholder, path, values.next(), arguments);
+			break;
+		case BETWEEN:
+			sql.append(column).append(" BETWEEN ? AND ?");
+			arguments.add(tableMetadata.toColumnValue(path, values.next()));
+			arguments.add(tableMetadata.toColumnValue(path, values.next()));
+			break;
+		case IS_NULL:
+			sql.append(column).append(" IS NULL");
+			break;
+		case IS_NOT_NULL:
+			sql.append(column).append(" IS NOT NULL");
+			break;
+		case IN:
+		case NOT_IN:
+			appendIn(sql, expression, part.getType() == Part.Type.NOT_IN, placeholder, path, values.next(),
+					arguments);
+			break;
+		case LIKE:
+		case NOT_LIKE:
+			appendComparison(sql, expression, part.getType() == Part.Type.LIKE ? " LIKE " : " NOT LIKE ",
+					placeholder, path, values.next(), arguments);
+			break;
+		case STARTING_WITH:
+		case ENDING_WITH:
+		case CONTAINING:
+		case NOT_CONTAINING:
+			String escaped = ESCAPE.escape(String.valueOf(values.next()));
+			sql.append(expression).append(part.getType() == Part.Type.NOT_CONTAINING ? " NOT LIKE " : " LIKE ")
+					.append(placeholder).append(" ESCAPE '").append(ESCAPE.getEscapeCharacter()).append('\'');
+			arguments.add(part.getType() == Part.Type.STARTING_WITH ? escaped + "%"
+					: part.getType() == Part.Type.ENDING_WITH ? "%" + escaped : "%" + escaped + "%");
+			break;
+		case TRUE:
+		case FALSE:
+			sql.append(column).append(" = ?");
+			arguments.add(tableMetadata.toColumnValue(path, part.getType() == Part.Type.TRUE));
+			break;
+		default:
+			throw new IllegalStateException("Unsupported predicate " + part.getType() + ": " + method);
+		}
+	}
+
+	private void appendComparison(StringBuilder sql, String expression, String operator, String placeholder,
+			String path, @Nullable Object value, List<Object> arguments) {
+		sql.append(expression).append(operator).append(placeholder);
+		arguments.add(tableMetadata.toColumnValue(path, value));
+	}
+
+	private void appendIn(StringBuilder sql, String expression, boolean negated, String placeholder, String path,
+			@Nullable Object value, List<Object> arguments) {
+		Collection<?> elements = value instanceof Collection ? (Collection<?>) value
+				: value != null && value.getClass().isArray()
+						? Arrays.asList(ObjectUtils.toObjectArray(value))
+						: Collections.singletonList(value);
+
+		if (elements.isEmpty()) {
+			sql.append(negated ? "1 = 1" : "1 = 0");
+			return;
+		}
+
+		sql.append(expression).append(negated ? " NOT IN (" : " IN (");
+		String delimiter = "";
+		for (Object element : elements) {
+			sql.append(delimiter).append(placeholder);
+			arguments.add(tableMetadata.toColumnValue(path, element));
+			delimiter = ", ";
+		}
+		sql.append(')');
+	}
+
+	private void appendOrderBy(StringBuilder sql, Object[] parameters) {
+		List<String> orders = new ArrayList<>();
+		for (Order order : tree.getSort()) {
+			orders.add(toOrderBy(order, order.getProperty()));
+		}
+
+		Parameters<?, ?> methodParameters = method.getParameters();
+		if (methodParameters.hasSortParameter()) {
+			Sort sort = (Sort) parameters[methodParameters.getSortIndex()];
+			if (sort != null) {
+				Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName.get();
+				for (Order order : sort) {
+					orders.add(toOrderBy(order, fieldNames.getOrDefault(order.getProperty(), order.getProperty())));
+				}
+			}
+		}
+
+		if (!orders.isEmpty()) {
+			sql.append(" ORDER BY ").append(StringUtils.collectionToDelimitedString(orders, ", "));
+		}
+	}
+
+	private String toOrderBy(Order order, String adaptedProperty) {
+		String column = getColumnName(adaptedProperty);
+		StringBuilder orderBy = new StringBuilder(order.isIgnoreCase() ? "UPPER(" + column + ")" : column);
+		orderBy.append(order.isAscending() ? " ASC" : " DESC");
+		if (order.getNullHandling() == NullHandling.NULLS_FIRST) {
+			orderBy.append(" NULLS FIRST");
+		} else if (order.getNullHandling() == NullHandling.NULLS_LAST) {
+			orderBy.append(" NULLS LAST");
+		}
+		return orderBy.toString();
+	}
+
+	private String getColumnName(String adaptedProperty) {
+		String column = tableMetadata.getColumnName(adaptedProperty);
+		if (column == null) {
+			throw new IllegalArgumentException(
+					"No column found for property '" + adaptedProperty + "' of the adapted entity: " + method);
+		}
+		return column;
+	}
+
+	private int getMaxRows() {
+		if (tree != null && tree.isExistsProjection()) {
+			return 1;
+		}
+		if (tree != null && tree.isLimiting()) {
+			return tree.getMaxResults();
+		}
+		if (!method.isCollectionQuery() && !method.isStreamQuery() && (tree == null || !tree.isCountProjection())) {
+			return 2;
+		}
+		return -1;
+	}
+
+	private Object toResult(List<Object> rows) {
+		if (method.isStreamQuery()) {
+			return rows.stream();
+		}
+
+		Class<?> returnType = method.getMethod().getReturnType();
+		if (returnType.isArray()) {
+			return rows.toArray((Object[]) Array.newInstance(returnType.getComponentType(), rows.size()));
+		}
+		if (method.isCollectionQuery()) {
+			if (returnType.isAssignableFrom(List.class)) {
+				return rows;
+			}
+
+			Collection<Object> result = CollectionFactory.createCollection(returnType, rows.size());
+			result.addAll(rows);
+			return result;
+		}
+
+		return DataAccessUtils.singleResult(rows);
+	}
+
+	private Object mapRow(ResultSet rs, ColumnMapping[] columns) throws SQLException {
+		Object entity = BeanUtils.instantiateClass(dozerEntityType);
+		BeanWrapper nestedAccessor = null;
+
+		for (int i = 0; i < columns.length; i++) {
+			ColumnMapping column = columns[i];
+			if (column == null) {
+				continue;
+			}
+
+			Object value = column.read(rs, i + 1);
+			if (value == null) {
+				continue;
+			}
+
+			if (column.writeMethod != null) {
+				ReflectionUtils.invokeMethod(column.writeMethod, entity, value);
+			} else {
+				if (nestedAccessor == null) {
+					nestedAccessor = PropertyAccessorFactory.forBeanPropertyAccess(entity);
+					nestedAccessor.setAutoGrowNestedPaths(true);
+				}
+				nestedAccessor.setPropertyValue(column.property, value);
+			}
+		}
+
+		return entity;
+	}
+
+	private SelectList createSelectList() {
+		Map<String, String> dozerProperties = getDozerPropertiesByAdaptedProperty();
+
+		List<String> names = new ArrayList<>();
+		List<ColumnMapping> mappings = new ArrayList<>();
+		tableMetadata.getColumnNames().forEach((adaptedProperty, column) -> {
+			ColumnMapping mapping = ColumnMapping.of(dozerEntityType,
+					dozerProperties.getOrDefault(adaptedProperty, adaptedProperty));
+			if (mapping != null) {
+				names.add(column);
+				mappings.add(mapping);
+			}
+		});
+		Assert.state(!names.isEmpty(), "No column of the adapted entity maps to a property of "
+				+ dozerEntityType.getName() + ": " + method);
+
+		return new SelectList(StringUtils.collectionToDelimitedString(names, ", "),
+				mappings.toArray(new ColumnMapping[0]));
+	}
+
+	private ColumnMapping[] getDeclaredColumns(ResultSetMetaData metaData) throws SQLException {
+		ColumnMapping[] columns = declaredColumns;
+		if (columns != null && columns.length == metaData.getColumnCount()) {
+			return columns;
+		}
+
+		Map<String, String> dozerProperties = getDozerPropertiesByAdaptedProperty();
+		Map<String, String> propertiesByColumn = new HashMap<>();
+		tableMetadata.getColumnNames().forEach((adaptedProperty, column) -> propertiesByColumn
+				.put(column.toLowerCase(Locale.ROOT), dozerProperties.getOrDefault(adaptedProperty, adaptedProperty)));
+
+		columns = new ColumnMapping[metaData.getColumnCount()];
+		for (int i = 0; i < columns.length; i++) {
+			String label = JdbcUtils.lookupColumnName(metaData, i + 1);
+			String property = propertiesByColumn.get(label.toLowerCase(Locale.ROOT));
+			if (property == null) {
+				PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(dozerEntityType,
+						JdbcUtils.convertUnderscoreNameToPropertyName(label));
+				property = descriptor == null ? null : descriptor.getName();
+			}
+			columns[i] = property == null ? null : ColumnMapping.of(dozerEntityType, property);
+		}
+
+		declaredColumns = columns;
+		return columns;
+	}
+
+	private Map<String, String> getDozerPropertiesByAdaptedProperty() {
+		Map<String, String> dozerProperties = new HashMap<>();
+		dozerEntityFieldNameToAdaptedFieldName.get()
+				.forEach((dozerProperty, adaptedProperty) -> dozerProperties.put(adaptedProperty, dozerProperty));
+		return dozerProperties;
+	}
+
+	/**
+	 * Creates the statement of a single execution with its own fetch size.
+	 */
+	private static final class FetchSizeStatementCreator
+			implements PreparedStatementCreator, ParameterDisposer, SqlProvider {
+		private final String sql;
+		private final ArgumentPreparedStatementSetter arguments;
+		private final int fetchSize;
+
+		FetchSizeStatementCreator(String sql, Object[] arguments, int fetchSize) {
+			this.sql = sql;
+			this.arguments = new ArgumentPreparedStatementSetter(arguments);
+			this.fetchSize = fetchSize;
+		}
+
+		@Override
+		public PreparedStatement createPreparedStatement(Connection con) throws SQLException {
+			PreparedStatement statement = con.prepareStatement(sql);
+			if (fetchSize > 0) {
+				statement.setFetchSize(fetchSize);
+			}
+			arguments.setValues(statement);
+			return statement;
+		}
+
+		@Override
+		public void cleanupParameters() {
+			arguments.cleanupParameters();
+		}
+
+		@Override
+		public String getSql() {
+			return sql;
+		}
+	}
+
+	private static final class SelectList {
+		private final String columns;
+		private final ColumnMapping[] mappings;
+
+		SelectList(String columns, ColumnMapping[] mappings) {
+			this.columns = columns;
+			this.mappings = mappings;
+		}
+	}
+
+	/**
+	 * Writes a result set column to a, possibly nested, dozer entity property.
+	 */
+	private static final class ColumnMapping {
+		private final String property;
+		private final TypeDescriptor type;
+		private final @Nullable Method writeMethod;
+
+		private ColumnMapping(String property, TypeDescriptor type, @Nullable Method writeMethod) {
+			this.property = property;
+			this.type = type;
+			this.writeMethod = writeMethod;
+		}
+
+		@Nullable
+		static ColumnMapping of(Class<?> dozerEntityType, String property) {
+			String[] path = StringUtils.delimitedListToStringArray(property, ".");
+			Class<?> type = dozerEntityType;
+			PropertyDescriptor descriptor = null;
+			for (int i = 0; i < path.length; i++) {
+				descriptor = BeanUtils.getPropertyDescriptor(type, path[i]);
+				if (descriptor == null || (i < path.length - 1 && descriptor.getReadMethod() == null)) {
+					return null;
+				}
+				type = descriptor.getPropertyType();
+			}
+			if (descriptor == null || descriptor.getWriteMethod() == null) {
+				return null;
+			}
+
+			Method writeMethod = descriptor.getWriteMethod();
+			ReflectionUtils.makeAccessible(writeMethod);
+
+			return new ColumnMapping(property, new TypeDescriptor(new MethodParameter(writeMethod, 0)),
+					path.length == 1 ? writeMethod : null);
+		}
+
+		@Nullable
+		Object read(ResultSet rs, int index) throws SQLException {
+			Class<?> requiredType = type.getType();
+			Object value = requiredType.isEnum() ? JdbcUtils.getResultSetValue(rs, index)
+					: JdbcUtils.getResultSetValue(rs, index, requiredType);
+
+			if (value != null && !ClassUtils.isAssignableValue(requiredType, value)) {
+				value = DefaultConversionService.getSharedInstance().convert(value, TypeDescriptor.forObject(value),
+						type);
+			}
+			return value;
+		}
+	}
+}
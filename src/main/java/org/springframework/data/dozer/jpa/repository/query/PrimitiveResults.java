@@ -0,0 +1,102 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Fills primitive arrays returned by query methods straight from the numeric
+ * results of the adapted query, without an intermediate boxed collection.
+ */
+abstract class PrimitiveResults {
+
+	private PrimitiveResults() {
+	}
+
+	/**
+	 * Returns whether the given return type is an array of a primitive numeric
+	 * type.
+	 *
+	 * @param returnType must not be {@literal null}.
+	 * @return
+	 */
+	static boolean isPrimitiveArray(Class<?> returnType) {
+		Class<?> componentType = returnType.getComponentType();
+		return componentType == long.class || componentType == int.class || componentType == double.class;
+	}
+
+	/**
+	 * Converts the result of the adapted query to an array of the given primitive
+	 * array type.
+	 *
+	 * @param result     can be {@literal null}.
+	 * @param returnType a type for which {@link #isPrimitiveArray(Class)} holds.
+	 * @return
+	 */
+	@Nullable
+	static Object toPrimitiveArray(@Nullable Object result, Class<?> returnType) {
+		if (result == null || returnType.isInstance(result)) {
+			return result;
+		}
+
+		Class<?> componentType = returnType.getComponentType();
+
+		if (result instanceof Collection) {
+			Collection<?> collection = (Collection<?>) result;
+			return fill(collection.iterator(), collection.size(), componentType);
+		}
+		if (result instanceof Stream) {
+			try (Stream<?> stream = (Stream<?>) result) {
+				return toPrimitiveArray(stream.toArray(), returnType);
+			}
+		}
+		if (result.getClass().isArray()) {
+			int length = Array.getLength(result);
+			Object array = Array.newInstance(componentType, length);
+			for (int i = 0; i < length; i++) {
+				set(array, i, (Number) Array.get(result, i), componentType);
+			}
+			return array;
+		}
+
+		Object array = Array.newInstance(componentType, 1);
+		set(array, 0, (Number) result, componentType);
+		return array;
+	}
+
+	private static Object fill(Iterator<?> values, int size, Class<?> componentType) {
+		if (componentType == long.class) {
+			long[] array = new long[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = ((Number) values.next()).longValue();
+			}
+			return array;
+		}
+		if (componentType == int.class) {
+			int[] array = new int[size];
+			for (int i = 0; i < size; i++) {
+				array[i] = ((Number) values.next()).intValue();
+			}
+			return array;
+		}
+
+		double[] array = new double[size];
+		for (int i = 0; i < size; i++) {
+			array[i] = ((Number) values.next()).doubleValue();
+		}
+		return array;
+	}
+
+	private static void set(Object array, int index, Number value, Class<?> componentType) {
+		if (componentType == long.class) {
+			((long[]) array)[index] = value.longValue();
+		} else if (componentType == int.class) {
+			((int[]) array)[index] = value.intValue();
+		} else {
+			((double[]) array)[index] = value.doubleValue();
+		}
+	}
+}
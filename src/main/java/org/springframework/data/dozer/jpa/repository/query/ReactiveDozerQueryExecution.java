@@ -0,0 +1,85 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.data.dozer.jpa.repository.DozerMappingViewHolder;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+import org.springframework.data.dozer.jpa.repository.support.DozerReactiveSupport;
+import org.springframework.lang.Nullable;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Executes query methods returning {@link Flux} or {@link Mono} on the bounded
+ * scheduler of {@link DozerReactiveSupport}. {@link Flux} results are mapped
+ * one element at a time as requested by the subscriber. Must only be loaded
+ * when Reactor is on the classpath.
+ */
+class ReactiveDozerQueryExecution {
+	private final boolean multiValue;
+	private final Function<Object[], Object> execution;
+	private final Function<Object[], Object> adaptedExecution;
+	private final BiFunction<Object, DozerView, Object> mapper;
+
+	/**
+	 * @param multiValue       whether the query method returns a {@link Flux}.
+	 * @param execution        executes the query method including mapping.
+	 * @param adaptedExecution executes the adapted query only.
+	 * @param mapper           maps a single row of the adapted query result with
+	 *                         the given, possibly {@literal null}, view.
+	 */
+	ReactiveDozerQueryExecution(boolean multiValue, Function<Object[], Object> execution,
+			Function<Object[], Object> adaptedExecution, BiFunction<Object, DozerView, Object> mapper) {
+		this.multiValue = multiValue;
+		this.execution = execution;
+		this.adaptedExecution = adaptedExecution;
+		this.mapper = mapper;
+	}
+
+	/**
+	 * Returns whether the given query method return type is handled by this
+	 * execution.
+	 *
+	 * @param returnType must not be {@literal null}.
+	 * @return
+	 */
+	static boolean supports(Class<?> returnType) {
+		return returnType == Flux.class || returnType == Mono.class;
+	}
+
+	static boolean isMultiValue(Class<?> returnType) {
+		return returnType == Flux.class;
+	}
+
+	Object execute(Object[] parameters, @Nullable DozerView view) {
+		String viewName = view == null ? null : view.name();
+
+		if (!multiValue) {
+			return Mono.fromCallable(() -> DozerMappingViewHolder.withView(viewName, () -> execution.apply(parameters)))
+					.subscribeOn(DozerReactiveSupport.getScheduler());
+		}
+
+		return Flux.defer(() -> toFlux(adaptedExecution.apply(parameters))).map(row -> mapper.apply(row, view))
+				.subscribeOn(DozerReactiveSupport.getScheduler());
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Flux<Object> toFlux(@Nullable Object result) {
+		if (result == null) {
+			return Flux.empty();
+		}
+		if (result instanceof Iterable) {
+			return Flux.fromIterable((Iterable<Object>) result);
+		}
+		if (result instanceof Stream) {
+			return Flux.fromStream((Stream<Object>) result);
+		}
+		if (result instanceof Object[]) {
+			return Flux.fromArray((Object[]) result);
+		}
+		return Flux.just(result);
+	}
+}
@@ -0,0 +1,188 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.dozer.jpa.repository.DozerPrefetch;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Fetches the next page of a paged query method in the background and keeps it
+ * in a bounded cache keyed by the arguments of the invocation. A cached page is
+ * handed out once. Each prefetch runs in a new read-only transaction when a
+ * transaction manager is available.
+ */
+@Slf4j
+class SlicePrefetcher {
+	private static final int MAX_PENDING_PREFETCHES = 64;
+	private static final Executor EXECUTOR = createExecutor();
+
+	private final int pageableIndex;
+	private final long expireAfterNanos;
+	private final long awaitNanos;
+	private final @Nullable Supplier<PlatformTransactionManager> transactionManager;
+	private final Map<Key, Prefetch> cache;
+
+	SlicePrefetcher(DozerPrefetch configuration, int pageableIndex,
+			@Nullable Supplier<PlatformTransactionManager> transactionManager) {
+		this.pageableIndex = pageableIndex;
+		this.expireAfterNanos = TimeUnit.MILLISECONDS.toNanos(configuration.expireAfterMillis());
+		this.awaitNanos = TimeUnit.MILLISECONDS.toNanos(configuration.awaitMillis());
+		this.transactionManager = transactionManager;
+		this.cache = new LinkedHashMap<Key, Prefetch>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Prefetch> eldest) {
+				return size() > configuration.cacheSize();
+			}
+		};
+	}
+
+	/**
+	 * Returns the prefetched page for the given invocation, if any.
+	 *
+	 * @param parameters the arguments of the invocation.
+	 * @param qualifier  additional state the page depends on, e.g. the active
+	 *                   view.
+	 * @return the page or {@literal null} if none was prefetched, prefetching
+	 *         failed or did not complete in time.
+	 */
+	@Nullable
+	Object get(Object[] parameters, @Nullable Object qualifier) {
+		Prefetch prefetch;
+		synchronized (cache) {
+			prefetch = cache.remove(new Key(parameters, qualifier));
+		}
+
+		if (prefetch == null || System.nanoTime() - prefetch.createdAt > expireAfterNanos) {
+			return null;
+		}
+
+		try {
+			return prefetch.result.get(awaitNanos, TimeUnit.NANOSECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return null;
+		} catch (ExecutionException ex) {
+			log.debug("Prefetching page failed, fetching it again.", ex.getCause());
+			return null;
+		} catch (TimeoutException ex) {
+			log.debug("Prefetching page did not complete in time, fetching it again.");
+			return null;
+		}
+	}
+
+	/**
+	 * Prefetches the page following the given one if it has a next page.
+	 *
+	 * @param result     the page returned for the invocation.
+	 * @param parameters the arguments of the invocation.
+	 * @param qualifier  additional state the page depends on.
+	 * @param query      executes the query for the given arguments.
+	 */
+	void prefetchNext(Object result, Object[] parameters, @Nullable Object qualifier,
+			Function<Object[], Object> query) {
+		if (!(result instanceof Slice) || !((Slice<?>) result).hasNext() || pageableIndex < 0
+				|| !(parameters[pageableIndex] instanceof Pageable)
+				|| ((Pageable) parameters[pageableIndex]).isUnpaged()) {
+			return;
+		}
+
+		Object[] nextParameters = parameters.clone();
+		nextParameters[pageableIndex] = ((Pageable) parameters[pageableIndex]).next();
+		Key key = new Key(nextParameters, qualifier);
+
+		synchronized (cache) {
+			if (cache.containsKey(key)) {
+				return;
+			}
+
+			try {
+				cache.put(key, new Prefetch(CompletableFuture
+						.supplyAsync((Supplier<Object>) () -> execute(query, nextParameters), EXECUTOR)));
+			} catch (RejectedExecutionException ex) {
+				log.debug("Prefetch executor saturated, skipping prefetch.");
+			}
+		}
+	}
+
+	private Object execute(Function<Object[], Object> query, Object[] parameters) {
+		if (transactionManager == null) {
+			return query.apply(parameters);
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager.get());
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate.execute(status -> query.apply(parameters));
+	}
+
+	private static Executor createExecutor() {
+		int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("dozer-prefetch-");
+		threadFactory.setDaemon(true);
+
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+				new LinkedBlockingQueue<>(MAX_PENDING_PREFETCHES), threadFactory,
+				new ThreadPoolExecutor.AbortPolicy());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private static final class Prefetch {
+		private final CompletableFuture<Object> result;
+		private final long createdAt = System.nanoTime();
+
+		private Prefetch(CompletableFuture<Object> result) {
+			this.result = result;
+		}
+	}
+
+	private static final class Key {
+		private final Object[] parameters;
+		private final @Nullable Object qualifier;
+
+		private Key(Object[] parameters, @Nullable Object qualifier) {
+			this.parameters = parameters;
+			this.qualifier = qualifier;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return Arrays.deepEquals(parameters, other.parameters)
+					&& (qualifier == null ? other.qualifier == null : qualifier.equals(other.qualifier));
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * Arrays.deepHashCode(parameters) + (qualifier == null ? 0 : qualifier.hashCode());
+		}
+	}
+}
@@ -0,0 +1,231 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import javax.persistence.EntityManager;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Criteria queries reading adapted entities or their ids in chunks ordered by
+ * id, each chunk starting after the last id of the previous one, and splitting
+ * them into ranges for partitioned scans.
+ *
+ * @see KeysetScrollIterator
+ * @see PartitionedScan
+ */
+class AdaptedKeysetQueries {
+	private static final int ID_CHUNK_SIZE = 10000;
+	private static final String[] FETCH_SIZE_HINTS = { "org.hibernate.fetchSize", "eclipselink.jdbc.fetch-size" };
+
+	private final EntityManager entityManager;
+	private final JpaEntityInformation<Object, Object> information;
+
+	/**
+	 * @param entityManager must not be {@literal null}.
+	 * @param information   the information of the adapted entity, must have a
+	 *                      single id attribute.
+	 */
+	AdaptedKeysetQueries(EntityManager entityManager, JpaEntityInformation<Object, Object> information) {
+		this.entityManager = entityManager;
+		this.information = information;
+	}
+
+	/**
+	 * Returns up to the given number of adapted entities matching the given
+	 * specification with an id greater than the given one, ordered by id.
+	 *
+	 * @param spec      can be {@literal null}.
+	 * @param after     can be {@literal null} to read from the start.
+	 * @param fetchSize the maximum number of entities.
+	 * @return
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	List<Object> findChunk(@Nullable Specification<Object> spec, @Nullable Object after, int fetchSize) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Object> query = builder.createQuery(information.getJavaType());
+		Root<Object> root = query.from(information.getJavaType());
+		Path<Comparable> id = root.get(information.getIdAttribute().getName());
+
+		List<Predicate> predicates = new ArrayList<>();
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, builder);
+			if (predicate != null) {
+				predicates.add(predicate);
+			}
+		}
+		if (after != null) {
+			predicates.add(builder.greaterThan(id, (Comparable) after));
+		}
+
+		query.select(root).where(predicates.toArray(new Predicate[0])).orderBy(builder.asc(id));
+
+		return setFetchSize(entityManager.createQuery(query), fetchSize).getResultList();
+	}
+
+	/**
+	 * Returns a lazily populated stream over the numeric ids of the adapted
+	 * entities matching the given specification, in ascending order. Only a
+	 * single chunk of ids is held in memory at a time.
+	 *
+	 * @param spec can be {@literal null}.
+	 * @return
+	 */
+	LongStream streamIds(@Nullable Specification<Object> spec) {
+		PrimitiveIterator.OfLong ids = new PrimitiveIterator.OfLong() {
+			private long[] chunk = new long[0];
+			private int position;
+			private boolean exhausted;
+
+			@Override
+			public boolean hasNext() {
+				if (position == chunk.length && !exhausted) {
+					chunk = findIdChunk(spec, chunk.length == 0 ? null : chunk[chunk.length - 1]);
+					position = 0;
+					exhausted = chunk.length < ID_CHUNK_SIZE;
+				}
+				return position < chunk.length;
+			}
+
+			@Override
+			public long nextLong() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				return chunk[position++];
+			}
+		};
+
+		return StreamSupport.longStream(Spliterators.spliteratorUnknownSize(ids,
+				Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+	}
+
+	private long[] findIdChunk(@Nullable Specification<Object> spec, @Nullable Long after) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Number> query = builder.createQuery(Number.class);
+		Root<Object> root = query.from(information.getJavaType());
+		Path<Number> id = root.get(information.getIdAttribute().getName());
+
+		List<Predicate> predicates = new ArrayList<>();
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, builder);
+			if (predicate != null) {
+				predicates.add(predicate);
+			}
+		}
+		if (after != null) {
+			predicates.add(builder.gt(id, after));
+		}
+
+		query.select(id).where(predicates.toArray(new Predicate[0])).orderBy(builder.asc(id));
+
+		List<Number> rows = setFetchSize(entityManager.createQuery(query), ID_CHUNK_SIZE).getResultList();
+		long[] chunk = new long[rows.size()];
+		for (int i = 0; i < chunk.length; i++) {
+			chunk[i] = rows.get(i).longValue();
+		}
+
+		return chunk;
+	}
+
+	/**
+	 * Splits the value range of the given integral attribute among the entities
+	 * matching the given specification into at most the given number of ranges
+	 * of equal width.
+	 *
+	 * @param spec       can be {@literal null}.
+	 * @param attribute  the path of an integral attribute.
+	 * @param partitions the maximum number of ranges, must be greater than zero.
+	 * @return a specification per range, empty if no entity matches.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	List<Specification<Object>> createRanges(@Nullable Specification<Object> spec, String attribute,
+			int partitions) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Object[]> query = builder.createQuery(Object[].class);
+		Root<Object> root = query.from(information.getJavaType());
+		Path<Number> path = getPath(root, attribute);
+
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(path.getJavaType());
+		Assert.isTrue(Long.class.equals(type) || Integer.class.equals(type) || Short.class.equals(type)
+				|| Byte.class.equals(type), "Partition property must be integral: " + attribute);
+
+		query.multiselect(builder.min(path), builder.max(path));
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, builder);
+			if (predicate != null) {
+				query.where(predicate);
+			}
+		}
+
+		Object[] bounds = entityManager.createQuery(query).getSingleResult();
+		if (bounds[0] == null) {
+			return Collections.emptyList();
+		}
+
+		List<Specification<Object>> ranges = new ArrayList<>(partitions);
+		for (long[] range : PartitionedScan.splitRange(((Number) bounds[0]).longValue(),
+				((Number) bounds[1]).longValue(), partitions)) {
+			Comparable from = (Comparable) DefaultConversionService.getSharedInstance().convert(range[0], type);
+			Comparable to = (Comparable) DefaultConversionService.getSharedInstance().convert(range[1], type);
+			ranges.add((rangeRoot, rangeQuery, rangeBuilder) -> rangeBuilder
+					.between((Path<Comparable>) (Path) getPath(rangeRoot, attribute), from, to));
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Limits the given query to the given number of rows and hints the JDBC
+	 * driver to fetch them in one round trip.
+	 *
+	 * @param query     must not be {@literal null}.
+	 * @param fetchSize the maximum number of rows.
+	 * @return the given query.
+	 */
+	static <X> TypedQuery<X> setFetchSize(TypedQuery<X> query, int fetchSize) {
+		query.setMaxResults(fetchSize);
+		for (String hint : FETCH_SIZE_HINTS) {
+			query.setHint(hint, fetchSize);
+		}
+		return query;
+	}
+
+	/**
+	 * Resolves the given dot-separated attribute path against the given root.
+	 *
+	 * @param root      must not be {@literal null}.
+	 * @param attribute must not be {@literal null}.
+	 * @return
+	 */
+	static <Y> Path<Y> getPath(Root<Object> root, String attribute) {
+		Path<?> path = root;
+		for (String name : StringUtils.delimitedListToStringArray(attribute, ".")) {
+			path = path.get(name);
+		}
+
+		@SuppressWarnings("unchecked")
+		Path<Y> result = (Path<Y>) path;
+		return result;
+	}
+}
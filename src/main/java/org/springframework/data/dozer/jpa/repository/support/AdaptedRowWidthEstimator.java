@@ -0,0 +1,83 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Estimates the heap footprint of an adapted entity together with the dozer
+ * entity mapped from it, based on the values of its basic attributes.
+ * Associations are counted as references only.
+ */
+public class AdaptedRowWidthEstimator implements ToLongFunction<Object> {
+	private static final long OBJECT_OVERHEAD = 16;
+	private static final long REFERENCE_SIZE = 8;
+	private static final long SCALAR_SIZE = 24;
+
+	private final List<Member> basicMembers = new ArrayList<>();
+	private final int attributeCount;
+
+	public AdaptedRowWidthEstimator(Metamodel metamodel, Class<?> adaptedType) {
+		ManagedType<?> managedType = metamodel.managedType(adaptedType);
+
+		for (Attribute<?, ?> attribute : managedType.getAttributes()) {
+			Member member = attribute.getJavaMember();
+			if (attribute.getPersistentAttributeType() == Attribute.PersistentAttributeType.BASIC
+					&& (member instanceof Field || member instanceof Method)) {
+				if (member instanceof Field) {
+					ReflectionUtils.makeAccessible((Field) member);
+				} else {
+					ReflectionUtils.makeAccessible((Method) member);
+				}
+				basicMembers.add(member);
+			}
+		}
+		this.attributeCount = managedType.getAttributes().size();
+	}
+
+	@Override
+	public long applyAsLong(Object adaptedEntity) {
+		long width = OBJECT_OVERHEAD + attributeCount * REFERENCE_SIZE;
+		for (Member member : basicMembers) {
+			Object value = member instanceof Field ? ReflectionUtils.getField((Field) member, adaptedEntity)
+					: ReflectionUtils.invokeMethod((Method) member, adaptedEntity);
+			width += getValueWidth(value);
+		}
+
+		// the dozer entity holds a copy of the same state
+		return 2 * width;
+	}
+
+	private static long getValueWidth(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		if (value instanceof CharSequence) {
+			return OBJECT_OVERHEAD + 24 + 2L * ((CharSequence) value).length();
+		}
+		if (value instanceof byte[]) {
+			return OBJECT_OVERHEAD + ((byte[]) value).length;
+		}
+		if (value instanceof char[]) {
+			return OBJECT_OVERHEAD + 2L * ((char[]) value).length;
+		}
+		if (value instanceof Collection) {
+			return OBJECT_OVERHEAD + ((Collection<?>) value).size() * (REFERENCE_SIZE + SCALAR_SIZE);
+		}
+		if (value instanceof Map) {
+			return OBJECT_OVERHEAD + ((Map<?, ?>) value).size() * 2 * (REFERENCE_SIZE + SCALAR_SIZE);
+		}
+		return SCALAR_SIZE;
+	}
+}
@@ -0,0 +1,264 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.Calendar;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.persistence.AttributeConverter;
+import javax.persistence.AttributeOverride;
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.EnumType;
+import javax.persistence.Enumerated;
+import javax.persistence.JoinColumn;
+import javax.persistence.JoinColumns;
+import javax.persistence.JoinTable;
+import javax.persistence.OneToOne;
+import javax.persistence.PrimaryKeyJoinColumn;
+import javax.persistence.Table;
+import javax.persistence.Temporal;
+import javax.persistence.TemporalType;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.StringUtils;
+
+/**
+ * Table and column names of an adapted entity type, derived from the JPA
+ * metamodel and the {@code @Table}, {@code @Column}, {@code @JoinColumn} and
+ * {@code @AttributeOverride} annotations. Names default to the entity and
+ * attribute names, so physical naming strategies that rename tables or columns
+ * must be reflected by explicit annotations.
+ */
+public final class AdaptedTableMetadata {
+	private final String tableName;
+	private final Map<String, String> columnNames;
+	private final Map<String, Function<Object, Object>> converters;
+
+	private AdaptedTableMetadata(String tableName, Map<String, String> columnNames,
+			Map<String, Function<Object, Object>> converters) {
+		this.tableName = tableName;
+		this.columnNames = Collections.unmodifiableMap(columnNames);
+		this.converters = converters;
+	}
+
+	/**
+	 * Creates the table metadata of the given adapted entity type. Only the
+	 * columns of the primary table holding basic attributes, attributes of
+	 * embeddables and single-column foreign keys of owning to-one associations are
+	 * included.
+	 *
+	 * @param metamodel   must not be {@literal null}.
+	 * @param adaptedType must not be {@literal null}.
+	 * @return
+	 */
+	public static AdaptedTableMetadata of(Metamodel metamodel, Class<?> adaptedType) {
+		EntityType<?> entityType = metamodel.entity(adaptedType);
+
+		Map<String, String> columnNames = new LinkedHashMap<>();
+		Map<String, Function<Object, Object>> converters = new HashMap<>();
+		for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+			AnnotatedElement member = (AnnotatedElement) attribute.getJavaMember();
+
+			switch (attribute.getPersistentAttributeType()) {
+			case BASIC:
+				putColumnName(columnNames, attribute.getName(), getColumn(member, null), attribute.getName());
+				converters.put(attribute.getName(), getConverter(member));
+				break;
+			case EMBEDDED:
+				for (SingularAttribute<?, ?> embedded : ((ManagedType<?>) attribute.getType())
+						.getSingularAttributes()) {
+					if (embedded.getPersistentAttributeType() == PersistentAttributeType.BASIC) {
+						String path = attribute.getName() + '.' + embedded.getName();
+						AnnotatedElement embeddedMember = (AnnotatedElement) embedded.getJavaMember();
+						putColumnName(columnNames, path,
+								getColumn(embeddedMember, getAttributeOverride(member, embedded.getName())),
+								embedded.getName());
+						converters.put(path, getConverter(embeddedMember));
+					}
+				}
+				break;
+			case MANY_TO_ONE:
+			case ONE_TO_ONE:
+				if (isOwningToOne(member) && !hasCompositeJoinColumns(member)) {
+					SingularAttribute<?, ?> targetId = getTargetId(attribute);
+					if (targetId != null) {
+						columnNames.put(attribute.getName() + '.' + targetId.getName(),
+								getJoinColumnName(attribute, targetId));
+					}
+				}
+				break;
+			default:
+				break;
+			}
+		}
+
+		return new AdaptedTableMetadata(getTableName(entityType), columnNames, converters);
+	}
+
+	public String getTableName() {
+		return tableName;
+	}
+
+	/**
+	 * Returns the column names keyed by attribute path, e.g. {@code name},
+	 * {@code address.city} or {@code author.id}.
+	 *
+	 * @return an unmodifiable map, never {@literal null}.
+	 */
+	public Map<String, String> getColumnNames() {
+		return columnNames;
+	}
+
+	@Nullable
+	public String getColumnName(String attributePath) {
+		return columnNames.get(attributePath);
+	}
+
+	/**
+	 * Converts the given attribute value to the value of its column, applying
+	 * {@code @Convert}, {@code @Enumerated} and {@code @Temporal}.
+	 *
+	 * @param attributePath must not be {@literal null}.
+	 * @param value         can be {@literal null}.
+	 * @return
+	 */
+	@Nullable
+	public Object toColumnValue(String attributePath, @Nullable Object value) {
+		Function<Object, Object> converter = converters.get(attributePath);
+		return value == null || converter == null ? value : converter.apply(value);
+	}
+
+	/**
+	 * Returns the function converting attribute values of the given member to
+	 * column values, applying {@code @Convert}, {@code @Enumerated} and
+	 * {@code @Temporal}.
+	 */
+	static Function<Object, Object> getConverter(AnnotatedElement member) {
+		Convert convert = member.getAnnotation(Convert.class);
+		if (convert != null && !convert.disableConversion() && !AttributeConverter.class.equals(convert.converter())) {
+			@SuppressWarnings("unchecked")
+			AttributeConverter<Object, Object> converter = BeanUtils.instantiateClass(convert.converter(),
+					AttributeConverter.class);
+			return converter::convertToDatabaseColumn;
+		}
+
+		Enumerated enumerated = member.getAnnotation(Enumerated.class);
+		Temporal temporal = member.getAnnotation(Temporal.class);
+		TemporalType temporalType = temporal == null ? TemporalType.TIMESTAMP : temporal.value();
+
+		return value -> {
+			if (value instanceof Enum) {
+				return enumerated != null && enumerated.value() == EnumType.STRING ? ((Enum<?>) value).name()
+						: ((Enum<?>) value).ordinal();
+			}
+			if (value instanceof Calendar) {
+				return toTemporal(((Calendar) value).getTimeInMillis(), temporalType);
+			}
+			if (value != null && value.getClass() == Date.class) {
+				return toTemporal(((Date) value).getTime(), temporalType);
+			}
+			return value;
+		};
+	}
+
+	private static Date toTemporal(long millis, TemporalType temporalType) {
+		switch (temporalType) {
+		case DATE:
+			return new java.sql.Date(millis);
+		case TIME:
+			return new java.sql.Time(millis);
+		default:
+			return new java.sql.Timestamp(millis);
+		}
+	}
+
+	private static void putColumnName(Map<String, String> columnNames, String path, @Nullable Column column,
+			String attributeName) {
+		if (column == null || !StringUtils.hasText(column.table())) {
+			columnNames.put(path, getColumnName(column, attributeName));
+		}
+	}
+
+	static String getTableName(EntityType<?> entityType) {
+		Table table = entityType.getJavaType().getAnnotation(Table.class);
+		if (table == null) {
+			return entityType.getName();
+		}
+
+		String name = StringUtils.hasText(table.name()) ? table.name() : entityType.getName();
+		return StringUtils.hasText(table.schema()) ? table.schema() + '.' + name : name;
+	}
+
+	@Nullable
+	static Column getColumn(AnnotatedElement member, @Nullable AttributeOverride override) {
+		return override != null ? override.column() : member.getAnnotation(Column.class);
+	}
+
+	static String getColumnName(@Nullable Column column, String attributeName) {
+		return column != null && StringUtils.hasText(column.name()) ? column.name() : attributeName;
+	}
+
+	@Nullable
+	static AttributeOverride getAttributeOverride(AnnotatedElement member, String attributeName) {
+		for (AttributeOverride override : AnnotatedElementUtils.getMergedRepeatableAnnotations(member,
+				AttributeOverride.class)) {
+			if (override.name().equals(attributeName)) {
+				return override;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Returns whether the given to-one association member owns a foreign key
+	 * column of the entity table.
+	 */
+	static boolean isOwningToOne(AnnotatedElement member) {
+		OneToOne oneToOne = member.getAnnotation(OneToOne.class);
+		return (oneToOne == null || !StringUtils.hasText(oneToOne.mappedBy()))
+				&& !member.isAnnotationPresent(PrimaryKeyJoinColumn.class);
+	}
+
+	static boolean hasCompositeJoinColumns(AnnotatedElement member) {
+		return member.isAnnotationPresent(JoinTable.class) || member.isAnnotationPresent(JoinColumns.class);
+	}
+
+	/**
+	 * Returns the single id attribute of the target entity of the given
+	 * association, {@literal null} if it has a composite or embedded id.
+	 */
+	@Nullable
+	static SingularAttribute<?, ?> getTargetId(SingularAttribute<?, ?> association) {
+		EntityType<?> targetType = (EntityType<?>) association.getType();
+		if (!targetType.hasSingleIdAttribute()) {
+			return null;
+		}
+
+		return targetType.getSingularAttributes().stream()
+				.filter(it -> it.isId() && it.getPersistentAttributeType() == PersistentAttributeType.BASIC)
+				.findFirst().orElse(null);
+	}
+
+	static String getJoinColumnName(SingularAttribute<?, ?> association, SingularAttribute<?, ?> targetId) {
+		JoinColumn joinColumn = ((AnnotatedElement) association.getJavaMember()).getAnnotation(JoinColumn.class);
+		if (joinColumn != null && StringUtils.hasText(joinColumn.name())) {
+			return joinColumn.name();
+		}
+
+		return association.getName() + '_'
+				+ getColumnName(((AnnotatedElement) targetId.getJavaMember()).getAnnotation(Column.class),
+						targetId.getName());
+	}
+}
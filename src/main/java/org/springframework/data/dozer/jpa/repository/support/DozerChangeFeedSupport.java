@@ -0,0 +1,144 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.dozer.jpa.repository.DozerChangeFeed;
+import org.springframework.data.dozer.jpa.repository.DozerChangeSet;
+import org.springframework.data.dozer.jpa.repository.DozerWatermark;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Reads the change feed of an adapted entity type: the entities whose
+ * watermark attribute follows a {@link DozerWatermark}, in watermark and id
+ * order.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerChangeFeedExecutor
+ */
+class DozerChangeFeedSupport {
+	private final EntityManager entityManager;
+	private final JpaEntityInformation<Object, Object> information;
+	private final String attribute;
+
+	/**
+	 * @param entityManager must not be {@literal null}.
+	 * @param information   the information of the adapted entity, must have a
+	 *                      single id attribute.
+	 * @param attribute     the path of the watermark attribute.
+	 */
+	DozerChangeFeedSupport(EntityManager entityManager, JpaEntityInformation<Object, Object> information,
+			String attribute) {
+		this.entityManager = entityManager;
+		this.information = information;
+		this.attribute = attribute;
+	}
+
+	/**
+	 * Resolves the watermark attribute of an adapted entity type: the property
+	 * configured with {@link DozerChangeFeed}, translated through the given field
+	 * names, or the field annotated with {@link LastModifiedDate}.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param adaptedType         must not be {@literal null}.
+	 * @param fieldNames          the dozer entity to adapted entity field names.
+	 * @return
+	 * @throws IllegalStateException if neither is present.
+	 */
+	static String resolveAttribute(Class<?> repositoryInterface, Class<?> adaptedType,
+			@Nullable Map<String, String> fieldNames) {
+		DozerChangeFeed configuration = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface,
+				DozerChangeFeed.class);
+		if (configuration != null && StringUtils.hasText(configuration.property())) {
+			return fieldNames == null ? configuration.property()
+					: fieldNames.getOrDefault(configuration.property(), configuration.property());
+		}
+
+		List<String> lastModified = new ArrayList<>(1);
+		ReflectionUtils.doWithFields(adaptedType, field -> lastModified.add(field.getName()),
+				field -> field.isAnnotationPresent(LastModifiedDate.class));
+		if (!lastModified.isEmpty()) {
+			return lastModified.get(0);
+		}
+
+		throw new IllegalStateException("No change feed property found for " + adaptedType.getName()
+				+ "! Annotate a field with @LastModifiedDate or configure @DozerChangeFeed.");
+	}
+
+	/**
+	 * Reads the adapted entities changed after the given watermark.
+	 *
+	 * @param spec      may be {@literal null}.
+	 * @param watermark may be {@literal null} to read from the start.
+	 * @param limit     the maximum number of entities, greater than zero.
+	 * @return the adapted entities and the watermark to continue from.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	DozerChangeSet<Object> findChanges(@Nullable Specification<Object> spec, @Nullable DozerWatermark watermark,
+			int limit) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Object[]> query = builder.createQuery(Object[].class);
+		Root<Object> root = query.from(information.getJavaType());
+		Path<Comparable> value = AdaptedKeysetQueries.getPath(root, attribute);
+		Path<Comparable> id = root.get(information.getIdAttribute().getName());
+
+		List<Predicate> predicates = new ArrayList<>();
+		predicates.add(builder.isNotNull(value));
+		if (spec != null) {
+			Predicate predicate = spec.toPredicate(root, query, builder);
+			if (predicate != null) {
+				predicates.add(predicate);
+			}
+		}
+		if (watermark != null) {
+			Comparable after = (Comparable) DefaultConversionService.getSharedInstance()
+					.convert(watermark.getValue(), ClassUtils.resolvePrimitiveIfNecessary(value.getJavaType()));
+			Comparable afterId = watermark.getId() == null ? null
+					: (Comparable) DefaultConversionService.getSharedInstance().convert(watermark.getId(),
+							information.getIdType());
+			predicates.add(afterId == null ? builder.greaterThan(value, after)
+					: builder.or(builder.greaterThan(value, after),
+							builder.and(builder.equal(value, after), builder.greaterThan(id, afterId))));
+		}
+
+		query.multiselect(root, value).where(predicates.toArray(new Predicate[0])).orderBy(builder.asc(value),
+				builder.asc(id));
+
+		// one more row tells whether there are more changes, unless that overflows
+		int fetchLimit = limit == Integer.MAX_VALUE ? limit : limit + 1;
+		List<Object[]> rows = AdaptedKeysetQueries.setFetchSize(entityManager.createQuery(query), fetchLimit)
+				.getResultList();
+
+		boolean hasMore = rows.size() > limit;
+		if (hasMore) {
+			rows = rows.subList(0, limit);
+		}
+		if (rows.isEmpty()) {
+			return new DozerChangeSet<>(Collections.emptyList(), watermark, false);
+		}
+
+		Object[] last = rows.get(rows.size() - 1);
+		List<Object> changes = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			changes.add(row[0]);
+		}
+
+		return new DozerChangeSet<>(changes, DozerWatermark.of(last[1], information.getId(last[0])), hasMore);
+	}
+}
@@ -0,0 +1,117 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Modifier;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.domain.ExampleMatcher.GenericPropertyMatcher;
+import org.springframework.data.domain.ExampleMatcher.NullHandler;
+import org.springframework.data.domain.ExampleMatcher.PropertySpecifier;
+import org.springframework.data.dozer.jpa.domain.DozerRoot;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Translates {@link Example}s of a dozer entity into examples of its adapted
+ * entity. The probe is mapped to the adapted entity and the property paths of
+ * the {@link ExampleMatcher} are translated through the dozer field name
+ * mapping. Attributes of the adapted probe that no probe property was mapped to,
+ * such as field initializers and primitive defaults of the adapted entity, are
+ * ignored, and so are the attributes mapped from {@literal null} probe
+ * properties unless the matcher includes {@literal null} values. The version
+ * attribute is never matched.
+ */
+class DozerExampleTranslator {
+
+	private final Metamodel metamodel;
+	private final Class<?> adaptedType;
+	private final Function<Object, Object> adaptedEntityMapper;
+	private final Supplier<Map<String, String>> dozerEntityFieldNameToAdaptedFieldName;
+
+	/**
+	 * @param metamodel                              must not be {@literal null}.
+	 * @param adaptedType                            must not be {@literal null}.
+	 * @param adaptedEntityMapper                    maps a dozer entity to its
+	 *                                               adapted entity.
+	 * @param dozerEntityFieldNameToAdaptedFieldName supplies the dozer field name
+	 *                                               mapping, which can be
+	 *                                               {@literal null}.
+	 */
+	DozerExampleTranslator(Metamodel metamodel, Class<?> adaptedType, Function<Object, Object> adaptedEntityMapper,
+			Supplier<Map<String, String>> dozerEntityFieldNameToAdaptedFieldName) {
+		this.metamodel = metamodel;
+		this.adaptedType = adaptedType;
+		this.adaptedEntityMapper = adaptedEntityMapper;
+		this.dozerEntityFieldNameToAdaptedFieldName = dozerEntityFieldNameToAdaptedFieldName;
+	}
+
+	Example<Object> toAdaptedExample(Example<?> example) {
+		Object probe = example.getProbe();
+		ExampleMatcher matcher = example.getMatcher();
+		Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName.get();
+
+		Set<String> ignoredPaths = getUnmatchedAttributes(probe, matcher.getNullHandler(), fieldNames);
+		for (String path : matcher.getIgnoredPaths()) {
+			ignoredPaths.add(DozerRoot.toAdaptedProperty(path, fieldNames));
+		}
+
+		ExampleMatcher adaptedMatcher = (matcher.isAllMatching() ? ExampleMatcher.matchingAll()
+				: ExampleMatcher.matchingAny()).withStringMatcher(matcher.getDefaultStringMatcher())
+						.withIgnoreCase(matcher.isIgnoreCaseEnabled()).withNullHandler(matcher.getNullHandler())
+						.withIgnorePaths(ignoredPaths.toArray(new String[0]));
+
+		for (PropertySpecifier specifier : matcher.getPropertySpecifiers().getSpecifiers()) {
+			GenericPropertyMatcher propertyMatcher = new GenericPropertyMatcher()
+					.transform(specifier.getPropertyValueTransformer());
+			if (specifier.getStringMatcher() != null) {
+				propertyMatcher.stringMatcher(specifier.getStringMatcher());
+			}
+			if (specifier.getIgnoreCase() != null) {
+				propertyMatcher = specifier.getIgnoreCase() ? propertyMatcher.ignoreCase()
+						: propertyMatcher.caseSensitive();
+			}
+
+			adaptedMatcher = adaptedMatcher.withMatcher(DozerRoot.toAdaptedProperty(specifier.getPath(), fieldNames),
+					propertyMatcher);
+		}
+
+		return Example.of(adaptedEntityMapper.apply(probe), adaptedMatcher);
+	}
+
+	/**
+	 * Returns the top-level attributes of the adapted entity that do not receive
+	 * a value to match from the given probe.
+	 */
+	private Set<String> getUnmatchedAttributes(Object probe, NullHandler nullHandler,
+			@Nullable Map<String, String> fieldNames) {
+		Set<String> matched = new HashSet<>();
+		ReflectionUtils.doWithFields(probe.getClass(), field -> {
+			ReflectionUtils.makeAccessible(field);
+			if (nullHandler == NullHandler.INCLUDE || ReflectionUtils.getField(field, probe) != null) {
+				String adapted = DozerRoot.toAdaptedProperty(field.getName(), fieldNames);
+				int index = adapted.indexOf('.');
+				matched.add(index < 0 ? adapted : adapted.substring(0, index));
+			}
+		}, field -> !Modifier.isStatic(field.getModifiers()) && !field.isSynthetic());
+
+		Set<String> unmatched = new TreeSet<>();
+		for (Attribute<?, ?> attribute : metamodel.managedType(adaptedType).getAttributes()) {
+			if (!matched.contains(attribute.getName()) || attribute instanceof SingularAttribute
+					&& ((SingularAttribute<?, ?>) attribute).isVersion()) {
+				unmatched.add(attribute.getName());
+			}
+		}
+
+		return unmatched;
+	}
+}
@@ -0,0 +1,229 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.beans.PropertyDescriptor;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.dozer.jpa.repository.DozerExportFormat;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes dozer entities to a character sink one at a time, as JSON Lines or
+ * CSV. Works on any {@link Iterator}, so the results of {@code Stream} query
+ * methods can be exported the same way as repository exports.
+ * <p>
+ * CSV columns are the readable properties of simple value types, in the
+ * declaration order of their fields, unless columns are given explicitly, in
+ * which case they are written in the given order.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerExportExecutor
+ */
+public class DozerExporter {
+	private static final boolean JACKSON_PRESENT = ClassUtils.isPresent(
+			"com.fasterxml.jackson.databind.ObjectMapper", DozerExporter.class.getClassLoader());
+	private static final int BUFFER_SIZE = 64 * 1024;
+
+	private final DozerExportFormat format;
+	private final List<String> columns = new ArrayList<>();
+	private final List<Method> readMethods = new ArrayList<>();
+
+	/**
+	 * @param type    the dozer entity type, must not be {@literal null}.
+	 * @param format  must not be {@literal null}.
+	 * @param columns the properties written as CSV columns, can be
+	 *                {@literal null} to write all simple properties.
+	 */
+	public DozerExporter(Class<?> type, DozerExportFormat format, @Nullable String[] columns) {
+		Assert.notNull(type, "Type must not be null!");
+		Assert.notNull(format, "Format must not be null!");
+		Assert.state(format != DozerExportFormat.JSON_LINES || JACKSON_PRESENT,
+				"Exporting JSON Lines requires Jackson on the classpath!");
+
+		this.format = format;
+
+		if (format == DozerExportFormat.CSV) {
+			Map<String, PropertyDescriptor> descriptors = new LinkedHashMap<>();
+			for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(type)) {
+				if (descriptor.getReadMethod() != null && !"class".equals(descriptor.getName())) {
+					descriptors.put(descriptor.getName(), descriptor);
+				}
+			}
+
+			Collection<String> names = columns == null ? getDeclarationOrder(type, descriptors.keySet())
+					: Arrays.asList(columns);
+			for (String name : names) {
+				PropertyDescriptor descriptor = descriptors.get(name);
+				if (descriptor == null
+						|| columns == null && !BeanUtils.isSimpleValueType(descriptor.getPropertyType())) {
+					continue;
+				}
+
+				Method readMethod = descriptor.getReadMethod();
+				ReflectionUtils.makeAccessible(readMethod);
+				this.columns.add(name);
+				this.readMethods.add(readMethod);
+			}
+		}
+	}
+
+	/**
+	 * Orders the given properties by the declaration of their fields, superclass
+	 * fields first, followed by the properties without a field.
+	 */
+	private static Collection<String> getDeclarationOrder(Class<?> type, Collection<String> properties) {
+		List<Class<?>> hierarchy = new ArrayList<>();
+		for (Class<?> current = type; current != null && current != Object.class; current = current
+				.getSuperclass()) {
+			hierarchy.add(0, current);
+		}
+
+		Set<String> names = new LinkedHashSet<>();
+		for (Class<?> current : hierarchy) {
+			for (Field field : current.getDeclaredFields()) {
+				if (properties.contains(field.getName())) {
+					names.add(field.getName());
+				}
+			}
+		}
+		names.addAll(properties);
+
+		return names;
+	}
+
+	public DozerExporter(Class<?> type, DozerExportFormat format) {
+		this(type, format, null);
+	}
+
+	/**
+	 * Writes the given entities. The writer is flushed but not closed.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param writer   must not be {@literal null}.
+	 * @return the number of entities written.
+	 * @throws IOException
+	 */
+	public long write(Iterator<?> entities, Writer writer) throws IOException {
+		Assert.notNull(entities, "Entities must not be null!");
+		Assert.notNull(writer, "Writer must not be null!");
+
+		Writer target = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE);
+		long count = format == DozerExportFormat.CSV ? writeCsv(entities, target)
+				: JsonLinesWriter.write(entities, target);
+		target.flush();
+
+		return count;
+	}
+
+	/**
+	 * Writes the given entities encoded as UTF-8. The stream is flushed but not
+	 * closed.
+	 *
+	 * @param entities must not be {@literal null}.
+	 * @param out      must not be {@literal null}.
+	 * @return the number of entities written.
+	 * @throws IOException
+	 */
+	public long write(Iterator<?> entities, OutputStream out) throws IOException {
+		Assert.notNull(out, "OutputStream must not be null!");
+
+		return write(entities, new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE));
+	}
+
+	private long writeCsv(Iterator<?> entities, Writer writer) throws IOException {
+		StringBuilder line = new StringBuilder(256);
+		for (String column : columns) {
+			appendCsvValue(line, column);
+		}
+		writeLine(line, writer);
+
+		long count = 0;
+		while (entities.hasNext()) {
+			Object entity = entities.next();
+			for (Method readMethod : readMethods) {
+				Object value = ReflectionUtils.invokeMethod(readMethod, entity);
+				appendCsvValue(line, value == null ? "" : value.toString());
+			}
+			writeLine(line, writer);
+			count++;
+		}
+
+		return count;
+	}
+
+	private static void appendCsvValue(StringBuilder line, String value) {
+		if (line.length() > 0) {
+			line.append(',');
+		}
+
+		boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+				|| value.indexOf('\r') >= 0;
+		if (!quote) {
+			line.append(value);
+			return;
+		}
+
+		line.append('"');
+		for (int i = 0; i < value.length(); i++) {
+			char c = value.charAt(i);
+			if (c == '"') {
+				line.append('"');
+			}
+			line.append(c);
+		}
+		line.append('"');
+	}
+
+	private static void writeLine(StringBuilder line, Writer writer) throws IOException {
+		line.append("\r\n");
+		writer.append(line);
+		line.setLength(0);
+	}
+
+	/**
+	 * Keeps the Jackson types from being loaded unless JSON Lines are written.
+	 */
+	private static class JsonLinesWriter {
+		private static final ObjectWriter OBJECT_WRITER = new ObjectMapper()
+				.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS).findAndRegisterModules().writer()
+				.without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE).withRootValueSeparator("\n");
+
+		static long write(Iterator<?> entities, Writer writer) throws IOException {
+			long count = 0;
+			try (JsonGenerator generator = OBJECT_WRITER.getFactory().createGenerator(writer)) {
+				generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+				while (entities.hasNext()) {
+					OBJECT_WRITER.writeValue(generator, entities.next());
+					count++;
+				}
+				if (count > 0) {
+					generator.writeRaw('\n');
+				}
+			}
+			return count;
+		}
+	}
+}
@@ -0,0 +1,53 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.EntityManagerFactoryInfo;
+import org.springframework.util.Assert;
+
+/**
+ * Plain JDBC access next to JPA for dozer repositories. Statements run on the
+ * {@link DataSource} of the {@link EntityManagerFactory} and participate in the
+ * JPA transactions of the repositories as long as the JPA dialect exposes the
+ * JDBC connection of the transaction.
+ */
+public abstract class DozerJdbcSupport {
+
+	private DozerJdbcSupport() {
+	}
+
+	/**
+	 * Returns the {@link DataSource} of the {@link EntityManagerFactory} of the
+	 * given {@link EntityManager}.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @return never {@literal null}.
+	 * @throws IllegalStateException if the factory does not expose its
+	 *                               {@link DataSource}.
+	 */
+	public static DataSource getDataSource(EntityManager entityManager) {
+		Assert.notNull(entityManager, "EntityManager must not be null!");
+
+		EntityManagerFactory entityManagerFactory = entityManager.getEntityManagerFactory();
+		DataSource dataSource = entityManagerFactory instanceof EntityManagerFactoryInfo
+				? ((EntityManagerFactoryInfo) entityManagerFactory).getDataSource()
+				: null;
+		Assert.state(dataSource != null, "Cannot resolve the DataSource of the EntityManagerFactory!");
+
+		return dataSource;
+	}
+
+	/**
+	 * Creates a {@link JdbcTemplate} on the {@link DataSource} of the given
+	 * {@link EntityManager}.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @return
+	 */
+	public static JdbcTemplate createJdbcTemplate(EntityManager entityManager) {
+		return new JdbcTemplate(getDataSource(entityManager));
+	}
+}
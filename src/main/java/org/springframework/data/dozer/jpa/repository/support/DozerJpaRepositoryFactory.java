@@ -1,13 +1,17 @@
 package org.springframework.data.dozer.jpa.repository.support;
 
 import java.lang.reflect.Method;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Stream;
 
 import javax.persistence.EntityManager;
 import javax.persistence.Tuple;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.data.dozer.jpa.mapping.MappingEngineResolver;
+import org.springframework.data.dozer.jpa.repository.index.DozerRepositoryIndex;
 import org.springframework.data.dozer.jpa.repository.query.DozerQueryLookupStrategy;
 import org.springframework.data.dozer.repository.support.DozerRepositoryFactory;
 import org.springframework.data.jpa.provider.PersistenceProvider;
@@ -18,6 +22,7 @@ import org.springframework.data.jpa.repository.query.JpaQueryLookupStrategy;
 import org.springframework.data.jpa.repository.query.JpaQueryMethod;
 import org.springframework.data.jpa.util.JpaMetamodel;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.repository.core.RepositoryInformation;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.core.support.QueryCreationListener;
 import org.springframework.data.repository.core.support.SurroundingTransactionDetectorMethodInterceptor;
@@ -26,6 +31,7 @@ import org.springframework.data.repository.query.QueryLookupStrategy.Key;
 import org.springframework.data.repository.query.QueryMethodEvaluationContextProvider;
 import org.springframework.data.repository.query.ReturnedType;
 import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -36,6 +42,11 @@ import lombok.extern.slf4j.Slf4j;
 public class DozerJpaRepositoryFactory extends DozerRepositoryFactory {
 	protected final EntityManager entityManager;
 	protected final QueryExtractor extractor;
+	protected boolean readReplicaRouting;
+	protected String transactionManagerName;
+	protected final MappingEngineResolver mappingEngineResolver;
+	private final BeanFactory transactionManagerBeanFactory;
+	private final List<SimpleDozerJpaRepository<?, ?>> repositories = new CopyOnWriteArrayList<>();
 
 	public DozerJpaRepositoryFactory(EntityManager entityManager, Mapper dozerMapper, String conversionServiceName,
 			BeanFactory beanFactory, MappingContext<?, ?> mappingContext) {
@@ -45,18 +56,64 @@ public class DozerJpaRepositoryFactory extends DozerRepositoryFactory {
 
 		this.entityManager = entityManager;
 		this.extractor = PersistenceProvider.fromEntityManager(entityManager);
+		this.mappingEngineResolver = new MappingEngineResolver(dozerMapper, conversionServiceName, beanFactory);
+		this.transactionManagerBeanFactory = beanFactory;
 		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
 
 			if (hasMethodReturningStream(repositoryInformation.getRepositoryInterface())) {
 				factory.addAdvice(SurroundingTransactionDetectorMethodInterceptor.INSTANCE);
 			}
 		});
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+
+			if (DozerMappingViewMethodInterceptor.hasMappingViews(repositoryInformation.getRepositoryInterface())) {
+				factory.addAdvice(
+						new DozerMappingViewMethodInterceptor(repositoryInformation.getRepositoryInterface()));
+			}
+		});
+		addRepositoryProxyPostProcessor((factory, repositoryInformation) -> {
+
+			if (readReplicaRouting) {
+				factory.addAdvice(new ReadReplicaRoutingMethodInterceptor(repositoryInformation));
+			}
+		});
 
 		if (extractor.equals(PersistenceProvider.ECLIPSELINK)) {
 			addQueryCreationListener(new EclipseLinkProjectionQueryCreationListener(entityManager));
 		}
 	}
 
+	/**
+	 * Configures whether read-only repository methods prefer the read replica of a
+	 * {@link org.springframework.data.dozer.jpa.datasource.ReadReplicaRoutingDataSource}.
+	 *
+	 * @param readReplicaRouting
+	 */
+	public void setReadReplicaRouting(boolean readReplicaRouting) {
+		this.readReplicaRouting = readReplicaRouting;
+	}
+
+	/**
+	 * Configures the name of the
+	 * {@link org.springframework.transaction.PlatformTransactionManager} used by
+	 * repository operations running outside of the caller's transaction.
+	 *
+	 * @param transactionManagerName
+	 */
+	public void setTransactionManagerName(String transactionManagerName) {
+		this.transactionManagerName = transactionManagerName;
+	}
+
+	/**
+	 * Releases the resources held by the repositories created by this factory.
+	 */
+	public void destroy() {
+		for (SimpleDozerJpaRepository<?, ?> repository : repositories) {
+			repository.destroy();
+		}
+		repositories.clear();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -69,6 +126,31 @@ public class DozerJpaRepositoryFactory extends DozerRepositoryFactory {
 	protected Class<?> getRepositoryBaseClass(RepositoryMetadata metadata) {
 		return SimpleDozerJpaRepository.class;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see
+	 * org.springframework.data.repository.core.support.RepositoryFactorySupport#
+	 * getTargetRepository(org.springframework.data.repository.core.
+	 * RepositoryInformation)
+	 */
+	@Override
+	protected Object getTargetRepository(RepositoryInformation information) {
+		Object repository = super.getTargetRepository(information);
+
+		if (repository instanceof SimpleDozerJpaRepository) {
+			SimpleDozerJpaRepository<?, ?> dozerJpaRepository = (SimpleDozerJpaRepository<?, ?>) repository;
+			dozerJpaRepository.setEntityManager(entityManager);
+			dozerJpaRepository.setMappingEngineResolver(mappingEngineResolver);
+			if (transactionManagerName != null) {
+				dozerJpaRepository.setTransactionManagerName(transactionManagerName);
+			}
+			repositories.add(dozerJpaRepository);
+		}
+
+		return repository;
+	}
 	
 	/*
 	 * (non-Javadoc)
@@ -82,12 +164,27 @@ public class DozerJpaRepositoryFactory extends DozerRepositoryFactory {
 	@Override
 	protected Optional<QueryLookupStrategy> getQueryLookupStrategy(@Nullable Key key,
 			QueryMethodEvaluationContextProvider evaluationContextProvider) {
-		return Optional.of(new DozerQueryLookupStrategy(dozerMapper, conversionServiceName, beanFactory, JpaQueryLookupStrategy.create(entityManager, key,
-				extractor, evaluationContextProvider, EscapeCharacter.of(escapeCharacter.getEscapeCharacter()))));
+		DozerQueryLookupStrategy lookupStrategy = new DozerQueryLookupStrategy(dozerMapper, mappingEngineResolver,
+				JpaQueryLookupStrategy.create(entityManager, key, extractor, evaluationContextProvider,
+						EscapeCharacter.of(escapeCharacter.getEscapeCharacter())),
+				entityManager);
+		if (transactionManagerName != null) {
+			String name = transactionManagerName;
+			lookupStrategy.setTransactionManager(
+					() -> transactionManagerBeanFactory.getBean(name, PlatformTransactionManager.class));
+		}
+
+		return Optional.of(lookupStrategy);
 	}
 
 	private static boolean hasMethodReturningStream(Class<?> repositoryClass) {
 
+		Boolean indexed = DozerRepositoryIndex.get(repositoryClass.getClassLoader())
+				.hasMethodReturningStream(repositoryClass);
+		if (indexed != null) {
+			return indexed;
+		}
+
 		Method[] methods = ReflectionUtils.getAllDeclaredMethods(repositoryClass);
 
 		for (Method method : methods) {
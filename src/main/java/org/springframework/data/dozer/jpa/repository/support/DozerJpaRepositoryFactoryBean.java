@@ -6,6 +6,7 @@ import javax.persistence.PersistenceContext;
 import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationListener;
@@ -24,7 +25,7 @@ import com.github.dozermapper.core.Mapper;
 
 public class DozerJpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		extends TransactionalRepositoryFactoryBeanSupport<T, S, ID>
-		implements BeanFactoryAware, ApplicationListener<ContextRefreshedEvent> {
+		implements BeanFactoryAware, ApplicationListener<ContextRefreshedEvent>, DisposableBean {
 
 	protected @Nullable EntityManager entityManager;
 	protected @Nullable Mapper dozerMapper;
@@ -33,6 +34,8 @@ public class DozerJpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 	protected EscapeCharacter escapeCharacter = EscapeCharacter.DEFAULT;
 	protected BeanFactory beanFactory;
 	protected MappingContext<?, ?> mappingContext;
+	protected boolean readReplicaRouting;
+	protected String transactionManagerName;
 
 	private DozerJpaRepositoryFactory dozerRepositoryFactory;
 
@@ -87,6 +90,26 @@ public class DozerJpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		this.beanFactory = beanFactory;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.springframework.data.repository.core.support.
+	 * TransactionalRepositoryFactoryBeanSupport#setTransactionManager(java.lang.
+	 * String)
+	 */
+	@Override
+	public void setTransactionManager(String transactionManager) {
+		super.setTransactionManager(transactionManager);
+		this.transactionManagerName = transactionManager;
+	}
+
+	@Override
+	public void destroy() {
+		if (dozerRepositoryFactory != null) {
+			dozerRepositoryFactory.destroy();
+		}
+	}
+
 	@Override
 	public void onApplicationEvent(ContextRefreshedEvent event) {
 		if (dozerRepositoryFactory != null) {
@@ -99,6 +122,8 @@ public class DozerJpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 		dozerRepositoryFactory = createDozerJpaRepositoryFactory();
 		dozerRepositoryFactory.setEntityPathResolver(entityPathResolver);
 		dozerRepositoryFactory.setEscapeCharacter(escapeCharacter);
+		dozerRepositoryFactory.setReadReplicaRouting(readReplicaRouting);
+		dozerRepositoryFactory.setTransactionManagerName(transactionManagerName);
 
 		return dozerRepositoryFactory;
 	}
@@ -134,4 +159,14 @@ public class DozerJpaRepositoryFactoryBean<T extends Repository<S, ID>, S, ID>
 
 		this.escapeCharacter = EscapeCharacter.of(escapeCharacter);
 	}
+
+	/**
+	 * Configures whether read-only repository methods prefer the read replica of a
+	 * {@link org.springframework.data.dozer.jpa.datasource.ReadReplicaRoutingDataSource}.
+	 *
+	 * @param readReplicaRouting
+	 */
+	public void setReadReplicaRouting(boolean readReplicaRouting) {
+		this.readReplicaRouting = readReplicaRouting;
+	}
 }
@@ -0,0 +1,178 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceUnitUtil;
+
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.dozer.jpa.repository.DozerLazyCollection;
+import org.springframework.data.dozer.jpa.repository.support.DozerTypeMetadata.LazyCollectionPlan;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * Populates the {@link DozerLazyCollection} properties of mapped dozer entities
+ * with {@link LazyMappedList} or {@link LazyMappedSet} instances.
+ */
+public class DozerLazyCollectionSupport {
+
+	private final EntityManager entityManager;
+	private final Mapper dozerMapper;
+	private final Map<Class<?>, List<LazyCollectionProperty>> properties = new ConcurrentHashMap<>();
+	private final Map<String, String> refetchQueries = new ConcurrentHashMap<>();
+
+	public DozerLazyCollectionSupport(EntityManager entityManager, Mapper dozerMapper) {
+		Assert.notNull(entityManager, "EntityManager must not be null!");
+		Assert.notNull(dozerMapper, "Mapper must not be null!");
+
+		this.entityManager = entityManager;
+		this.dozerMapper = dozerMapper;
+	}
+
+	public boolean hasLazyCollections(Class<?> dozerEntityType) {
+		return !getProperties(dozerEntityType).isEmpty();
+	}
+
+	/**
+	 * Populates the lazy collections of the given dozer entity from the adapted
+	 * entity it was mapped from.
+	 *
+	 * @param dozerEntity   must not be {@literal null}.
+	 * @param adaptedEntity must not be {@literal null}.
+	 * @param adaptedType   must not be {@literal null}.
+	 */
+	public void apply(Object dozerEntity, Object adaptedEntity, Class<?> adaptedType) {
+		List<LazyCollectionProperty> lazyProperties = getProperties(dozerEntity.getClass());
+		if (lazyProperties.isEmpty()) {
+			return;
+		}
+
+		Object adaptedId = getPersistenceUnitUtil().getIdentifier(adaptedEntity);
+		for (LazyCollectionProperty property : lazyProperties) {
+			property.set(dozerEntity, adaptedEntity, adaptedType, adaptedId);
+		}
+	}
+
+	/**
+	 * Populates the lazy collections of the given dozer entity, always re-fetching
+	 * the associations by the given adapted entity id.
+	 *
+	 * @param dozerEntity must not be {@literal null}.
+	 * @param adaptedType must not be {@literal null}.
+	 * @param adaptedId   must not be {@literal null}.
+	 */
+	public void apply(Object dozerEntity, Class<?> adaptedType, Object adaptedId) {
+		for (LazyCollectionProperty property : getProperties(dozerEntity.getClass())) {
+			property.set(dozerEntity, null, adaptedType, adaptedId);
+		}
+	}
+
+	private PersistenceUnitUtil getPersistenceUnitUtil() {
+		return entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+	}
+
+	private List<LazyCollectionProperty> getProperties(Class<?> dozerEntityType) {
+		return properties.computeIfAbsent(ClassUtils.getUserClass(dozerEntityType), type -> {
+			List<LazyCollectionPlan> plans = DozerMappingMetadataRegistry.getInstance().getTypeMetadata(type)
+					.getLazyCollections();
+			if (plans.isEmpty()) {
+				return Collections.emptyList();
+			}
+
+			List<LazyCollectionProperty> result = new ArrayList<>(plans.size());
+			for (LazyCollectionPlan plan : plans) {
+				result.add(new LazyCollectionProperty(plan));
+			}
+			return result;
+		});
+	}
+
+	private String getRefetchQuery(Class<?> adaptedType, String source) {
+		return refetchQueries.computeIfAbsent(adaptedType.getName() + '#' + source, key -> {
+			JpaEntityInformation<?, ?> information = JpaEntityInformationSupport.getEntityInformation(adaptedType,
+					entityManager);
+			Assert.state(!information.hasCompositeId(),
+					"Lazy collections are not supported for entities with composite ids: " + adaptedType.getName());
+
+			return String.format("select e from %s o join o.%s e where o.%s = :id", information.getEntityName(),
+					source, information.getIdAttribute().getName());
+		});
+	}
+
+	private class LazyCollectionProperty {
+		private final Field field;
+		private final String source;
+		private final Class<?> elementType;
+		private final String mapId;
+		private final boolean set;
+
+		LazyCollectionProperty(LazyCollectionPlan plan) {
+			this.field = plan.field;
+			this.source = plan.source;
+			this.elementType = plan.elementType;
+			this.mapId = plan.mapId;
+			this.set = plan.set;
+		}
+
+		void set(Object dozerEntity, @Nullable Object adaptedEntity, Class<?> adaptedType, Object adaptedId) {
+			Object value = set
+					? new LazyMappedSet<>(() -> new LinkedHashSet<>(load(adaptedEntity, adaptedType, adaptedId)))
+					: new LazyMappedList<>(() -> load(adaptedEntity, adaptedType, adaptedId));
+
+			ReflectionUtils.setField(field, dozerEntity, value);
+		}
+
+		private List<Object> load(@Nullable Object adaptedEntity, Class<?> adaptedType, Object adaptedId) {
+			Collection<?> sources;
+			if (adaptedEntity != null && (getPersistenceUnitUtil().isLoaded(adaptedEntity, source)
+					|| entityManager.contains(adaptedEntity))) {
+				sources = (Collection<?>) readSource(adaptedEntity);
+			} else {
+				sources = entityManager.createQuery(getRefetchQuery(adaptedType, source)).setParameter("id", adaptedId)
+						.getResultList();
+			}
+
+			List<Object> result = new ArrayList<>(sources == null ? 0 : sources.size());
+			if (sources != null) {
+				for (Object element : sources) {
+					result.add(toElement(element));
+				}
+			}
+
+			return result;
+		}
+
+		private Object readSource(Object adaptedEntity) {
+			PropertyAccessor accessor = PropertyAccessorFactory.forBeanPropertyAccess(adaptedEntity);
+			if (!accessor.isReadableProperty(source)) {
+				accessor = PropertyAccessorFactory.forDirectFieldAccess(adaptedEntity);
+			}
+			return accessor.getPropertyValue(source);
+		}
+
+		private Object toElement(@Nullable Object element) {
+			if (element == null || elementType.isInstance(element)) {
+				return element;
+			}
+
+			return StringUtils.hasText(mapId) ? dozerMapper.map(element, elementType, mapId)
+					: dozerMapper.map(element, elementType);
+		}
+	}
+}
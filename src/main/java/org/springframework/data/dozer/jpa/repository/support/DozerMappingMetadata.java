@@ -0,0 +1,77 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Immutable mapping metadata of a dozer entity type for a given adapted type
+ * and map id.
+ *
+ * @see DozerMappingMetadataRegistry
+ */
+public final class DozerMappingMetadata {
+	private final Class<?> dozerEntityType;
+	private final Class<?> adaptedType;
+	private final @Nullable String mapId;
+	private final Map<String, String> fieldNameMap;
+	private final DozerTypeMetadata typeMetadata;
+
+	DozerMappingMetadata(Class<?> dozerEntityType, Class<?> adaptedType, @Nullable String mapId,
+			@Nullable Map<String, String> fieldNameMap, DozerTypeMetadata typeMetadata) {
+		this.dozerEntityType = dozerEntityType;
+		this.adaptedType = adaptedType;
+		this.mapId = mapId;
+		this.typeMetadata = typeMetadata;
+
+		if (fieldNameMap == null || fieldNameMap.isEmpty()) {
+			this.fieldNameMap = Collections.emptyMap();
+		} else {
+			Map<String, String> copy = new LinkedHashMap<>(fieldNameMap.size());
+			fieldNameMap.forEach((dozerField, adaptedField) -> copy.put(dozerField.intern(), adaptedField.intern()));
+			this.fieldNameMap = Collections.unmodifiableMap(copy);
+		}
+	}
+
+	public Class<?> getDozerEntityType() {
+		return dozerEntityType;
+	}
+
+	public Class<?> getAdaptedType() {
+		return adaptedType;
+	}
+
+	@Nullable
+	public String getMapId() {
+		return mapId;
+	}
+
+	/**
+	 * Returns the names of the adapted entity fields keyed by the names of the
+	 * dozer entity fields they are mapped from.
+	 *
+	 * @return an unmodifiable map, never {@literal null}.
+	 */
+	public Map<String, String> getFieldNameMap() {
+		return fieldNameMap;
+	}
+
+	/**
+	 * Returns the metadata declared on the dozer entity type.
+	 *
+	 * @return
+	 */
+	public DozerTypeMetadata getTypeMetadata() {
+		return typeMetadata;
+	}
+
+	long getEstimatedFootprint() {
+		long footprint = 48 + 48;
+		for (Map.Entry<String, String> entry : fieldNameMap.entrySet()) {
+			footprint += 32 + 40 + 2L * entry.getKey().length() + 40 + 2L * entry.getValue().length();
+		}
+		return footprint;
+	}
+}
@@ -0,0 +1,144 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.data.dozer.repository.query.DozerEntityMetadata;
+import org.springframework.data.dozer.repository.support.DozerUtilFactory;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * Process-wide registry of the immutable mapping metadata of dozer entity
+ * types, shared by all repository factories, repositories and query methods.
+ * Field name maps are keyed by dozer entity type, adapted type and map id and
+ * computed with the first {@link Mapper} asking for them, assuming that all
+ * mappers of the process map a given key the same way. Entries are softly
+ * referenced, so metadata of unused types can be reclaimed and is recomputed on
+ * demand.
+ */
+public class DozerMappingMetadataRegistry {
+	private static final DozerMappingMetadataRegistry INSTANCE = new DozerMappingMetadataRegistry();
+
+	private final Map<Key, DozerMappingMetadata> mappingMetadata = new ConcurrentReferenceHashMap<>();
+	private final Map<Class<?>, DozerTypeMetadata> typeMetadata = new ConcurrentReferenceHashMap<>();
+
+	DozerMappingMetadataRegistry() {
+	}
+
+	public static DozerMappingMetadataRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the mapping metadata of the given dozer entity.
+	 *
+	 * @param entityMetadata must not be {@literal null}.
+	 * @param dozerMapper    the mapper used to compute missing metadata, must not
+	 *                       be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public DozerMappingMetadata getMappingMetadata(DozerEntityMetadata<?> entityMetadata, Mapper dozerMapper) {
+		Assert.notNull(entityMetadata, "DozerEntityMetadata must not be null!");
+		Assert.notNull(dozerMapper, "Mapper must not be null!");
+
+		Key key = new Key(entityMetadata.getJavaType(), entityMetadata.getAdaptedJavaType(),
+				entityMetadata.getDozerMapId());
+
+		return mappingMetadata.computeIfAbsent(key,
+				it -> new DozerMappingMetadata(it.dozerEntityType, it.adaptedType, it.mapId,
+						DozerUtilFactory.getInstance().getDozerUtil(dozerMapper)
+								.getDozerEntityFieldNameToAdaptedFieldNameMap(entityMetadata),
+						getTypeMetadata(it.dozerEntityType)));
+	}
+
+	/**
+	 * Returns the metadata declared on the given dozer entity type.
+	 *
+	 * @param dozerEntityType must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public DozerTypeMetadata getTypeMetadata(Class<?> dozerEntityType) {
+		Assert.notNull(dozerEntityType, "Dozer entity type must not be null!");
+
+		return typeMetadata.computeIfAbsent(ClassUtils.getUserClass(dozerEntityType), DozerTypeMetadata::new);
+	}
+
+	/**
+	 * Returns the number of registered mapping metadata entries.
+	 *
+	 * @return
+	 */
+	public int getMappingMetadataCount() {
+		return mappingMetadata.size();
+	}
+
+	/**
+	 * Returns the number of registered dozer entity types.
+	 *
+	 * @return
+	 */
+	public int getTypeMetadataCount() {
+		return typeMetadata.size();
+	}
+
+	/**
+	 * Returns an estimate of the heap occupied by the registered metadata in
+	 * bytes.
+	 *
+	 * @return
+	 */
+	public long getEstimatedFootprint() {
+		long footprint = 0;
+		for (DozerMappingMetadata metadata : mappingMetadata.values()) {
+			footprint += metadata.getEstimatedFootprint();
+		}
+		for (DozerTypeMetadata metadata : typeMetadata.values()) {
+			footprint += metadata.getEstimatedFootprint();
+		}
+		return footprint;
+	}
+
+	/**
+	 * Removes all registered metadata, e.g. after the dozer mapping configuration
+	 * changed.
+	 */
+	public void clear() {
+		mappingMetadata.clear();
+		typeMetadata.clear();
+	}
+
+	private static final class Key {
+		private final Class<?> dozerEntityType;
+		private final Class<?> adaptedType;
+		private final @Nullable String mapId;
+
+		private Key(Class<?> dozerEntityType, Class<?> adaptedType, @Nullable String mapId) {
+			this.dozerEntityType = dozerEntityType;
+			this.adaptedType = adaptedType;
+			this.mapId = mapId == null || mapId.isEmpty() ? null : mapId;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj) {
+				return true;
+			}
+			if (!(obj instanceof Key)) {
+				return false;
+			}
+			Key other = (Key) obj;
+			return dozerEntityType == other.dozerEntityType && adaptedType == other.adaptedType
+					&& Objects.equals(mapId, other.mapId);
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(dozerEntityType, adaptedType, mapId);
+		}
+	}
+}
@@ -0,0 +1,83 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.dozer.jpa.repository.DozerMappingView;
+import org.springframework.data.dozer.jpa.repository.DozerMappingViewHolder;
+import org.springframework.data.dozer.jpa.repository.index.DozerRepositoryIndex;
+
+/**
+ * {@link MethodInterceptor} binding the view declared through
+ * {@link DozerMappingView} on a repository method or interface to the current
+ * thread for the duration of the invocation. A view already bound by the caller
+ * is left untouched.
+ */
+class DozerMappingViewMethodInterceptor implements MethodInterceptor {
+
+	private final Class<?> repositoryInterface;
+	private final Map<Method, Optional<String>> views = new ConcurrentHashMap<>();
+
+	DozerMappingViewMethodInterceptor(Class<?> repositoryInterface) {
+		this.repositoryInterface = repositoryInterface;
+	}
+
+	static boolean hasMappingViews(Class<?> repositoryInterface) {
+		Boolean indexed = DozerRepositoryIndex.get(repositoryInterface.getClassLoader())
+				.hasMappingViews(repositoryInterface);
+		if (indexed != null) {
+			return indexed;
+		}
+
+		if (AnnotatedElementUtils.hasAnnotation(repositoryInterface, DozerMappingView.class)) {
+			return true;
+		}
+
+		for (Method method : repositoryInterface.getMethods()) {
+			if (AnnotatedElementUtils.hasAnnotation(method, DozerMappingView.class)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.
+	 * intercept.MethodInvocation)
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (DozerMappingViewHolder.getView() != null) {
+			return invocation.proceed();
+		}
+
+		Optional<String> view = views.computeIfAbsent(invocation.getMethod(), this::findView);
+		if (!view.isPresent()) {
+			return invocation.proceed();
+		}
+
+		DozerMappingViewHolder.setView(view.get());
+		try {
+			return invocation.proceed();
+		} finally {
+			DozerMappingViewHolder.resetView();
+		}
+	}
+
+	private Optional<String> findView(Method method) {
+		DozerMappingView view = AnnotatedElementUtils.findMergedAnnotation(method, DozerMappingView.class);
+		if (view == null) {
+			view = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, DozerMappingView.class);
+		}
+
+		return Optional.ofNullable(view).map(DozerMappingView::value);
+	}
+}
@@ -0,0 +1,279 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.util.Assert;
+
+/**
+ * Runtime statistics of a single dozer repository query method together with
+ * the execution choices derived from them. Totals are exact, averages are
+ * exponentially smoothed over recent invocations and updated without locking,
+ * so concurrent invocations may occasionally overwrite each other's samples.
+ *
+ * @see DozerQueryStatisticsRegistry
+ */
+public final class DozerQueryStatistics {
+	private static final double SMOOTHING = 0.2;
+	private static final int WARM_UP_INVOCATIONS = 10;
+	private static final int ROW_WIDTH_SAMPLE_INTERVAL = 16;
+	private static final int MIN_FETCH_SIZE = 10;
+	private static final int MAX_FETCH_SIZE = 10000;
+	private static final long FETCH_MEMORY_BUDGET = 8 * 1024 * 1024;
+	private static final int PARALLEL_MAPPING_MIN_ROWS = 256;
+	private static final long PARALLEL_MAPPING_MIN_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	private static final double PARALLEL_MAPPING_HYSTERESIS = 0.5;
+
+	private final String name;
+	private final LongAdder invocations = new LongAdder();
+	private final LongAdder rows = new LongAdder();
+	private final LongAdder queryNanos = new LongAdder();
+	private final LongAdder mappingNanos = new LongAdder();
+	private volatile double averageRows = Double.NaN;
+	private volatile double averageMappingNanosPerRow = Double.NaN;
+	private volatile double averageRowWidth = Double.NaN;
+	private volatile int appliedFetchSize;
+	private volatile boolean parallelMappingApplied;
+	private volatile boolean parallelMappingRecommended;
+
+	DozerQueryStatistics(String name) {
+		Assert.hasText(name, "Name must not be empty!");
+
+		this.name = name;
+	}
+
+	/**
+	 * Records an invocation of the query method.
+	 *
+	 * @param rowCount     the number of returned rows or
+	 *                     {@link DozerRepositoryRecording#UNKNOWN_ROW_COUNT} for
+	 *                     streams.
+	 * @param queryNanos   the time spent running the query.
+	 * @param mappingNanos the time spent mapping its result.
+	 */
+	public void record(long rowCount, long queryNanos, long mappingNanos) {
+		record(rowCount, queryNanos, mappingNanos, false);
+	}
+
+	/**
+	 * Records an invocation of the query method. The mapping time of a result
+	 * mapped in parallel only counts towards the totals, since its wall time
+	 * understates the sequential mapping cost that parallel mapping is decided
+	 * on.
+	 *
+	 * @param rowCount        the number of returned rows or
+	 *                        {@link DozerRepositoryRecording#UNKNOWN_ROW_COUNT}
+	 *                        for streams.
+	 * @param queryNanos      the time spent running the query.
+	 * @param mappingNanos    the time spent mapping its result.
+	 * @param parallelMapping whether the result was mapped in parallel.
+	 */
+	public void record(long rowCount, long queryNanos, long mappingNanos, boolean parallelMapping) {
+		invocations.increment();
+		this.queryNanos.add(queryNanos);
+		this.mappingNanos.add(mappingNanos);
+
+		if (rowCount < 0) {
+			return;
+		}
+
+		rows.add(rowCount);
+		averageRows = smooth(averageRows, rowCount);
+		if (rowCount > 0 && mappingNanos > 0 && !parallelMapping) {
+			averageMappingNanosPerRow = smooth(averageMappingNanosPerRow, (double) mappingNanos / rowCount);
+		}
+	}
+
+	/**
+	 * Returns whether the width of a result row should be sampled with the current
+	 * invocation.
+	 *
+	 * @return
+	 */
+	public boolean isRowWidthSampleDue() {
+		return Double.isNaN(averageRowWidth) || invocations.sum() % ROW_WIDTH_SAMPLE_INTERVAL == 0;
+	}
+
+	/**
+	 * Records the estimated heap footprint of a result row.
+	 *
+	 * @param bytes
+	 */
+	public void recordRowWidth(long bytes) {
+		averageRowWidth = smooth(averageRowWidth, bytes);
+	}
+
+	/**
+	 * Records the fetch size applied to the latest invocation, {@literal 0} for
+	 * the driver default.
+	 *
+	 * @param fetchSize
+	 */
+	public void recordFetchSize(int fetchSize) {
+		this.appliedFetchSize = fetchSize;
+	}
+
+	/**
+	 * Records whether the result of the latest invocation was mapped in parallel.
+	 *
+	 * @param parallel
+	 */
+	public void recordParallelMapping(boolean parallel) {
+		this.parallelMappingApplied = parallel;
+	}
+
+	/**
+	 * Returns the JDBC fetch size matching the observed result sizes, bounded by
+	 * the observed row width where known, or {@literal 0} as long as too few
+	 * invocations have been observed.
+	 *
+	 * @return
+	 */
+	public int getRecommendedFetchSize() {
+		double rows = averageRows;
+		if (!isWarmedUp() || Double.isNaN(rows)) {
+			return 0;
+		}
+
+		long fetchSize = (long) Math.ceil(rows * 1.25) + 1;
+		double width = averageRowWidth;
+		if (!Double.isNaN(width) && width > 0) {
+			fetchSize = Math.min(fetchSize, (long) (FETCH_MEMORY_BUDGET / width));
+		}
+
+		return (int) Math.max(MIN_FETCH_SIZE, Math.min(MAX_FETCH_SIZE, fetchSize));
+	}
+
+	/**
+	 * Returns whether the observed result sizes and mapping costs make mapping the
+	 * result in parallel worthwhile. Once recommended, parallel mapping stays
+	 * recommended until the result size or mapping cost falls to half of the
+	 * thresholds, so that methods close to them do not alternate.
+	 *
+	 * @return
+	 */
+	public boolean isParallelMappingRecommended() {
+		double rows = averageRows;
+		double nanosPerRow = averageMappingNanosPerRow;
+
+		boolean recommended;
+		if (!isWarmedUp() || Double.isNaN(nanosPerRow)) {
+			recommended = false;
+		} else {
+			double factor = parallelMappingRecommended ? PARALLEL_MAPPING_HYSTERESIS : 1;
+			recommended = rows >= PARALLEL_MAPPING_MIN_ROWS * factor
+					&& rows * nanosPerRow >= PARALLEL_MAPPING_MIN_NANOS * factor;
+		}
+
+		parallelMappingRecommended = recommended;
+		return recommended;
+	}
+
+	/**
+	 * Returns the minimum number of rows a result must have to be mapped in
+	 * parallel.
+	 *
+	 * @return
+	 */
+	public static int getParallelMappingMinRows() {
+		return PARALLEL_MAPPING_MIN_ROWS;
+	}
+
+	private boolean isWarmedUp() {
+		return invocations.sum() >= WARM_UP_INVOCATIONS;
+	}
+
+	private static double smooth(double average, double sample) {
+		return Double.isNaN(average) ? sample : average + SMOOTHING * (sample - average);
+	}
+
+	/**
+	 * Clears all statistics and decisions.
+	 */
+	public void reset() {
+		invocations.reset();
+		rows.reset();
+		queryNanos.reset();
+		mappingNanos.reset();
+		averageRows = Double.NaN;
+		averageMappingNanosPerRow = Double.NaN;
+		averageRowWidth = Double.NaN;
+		appliedFetchSize = 0;
+		parallelMappingApplied = false;
+		parallelMappingRecommended = false;
+	}
+
+	/**
+	 * Returns the name of the query method, made of the repository interface,
+	 * method name and parameter types.
+	 *
+	 * @return
+	 */
+	public String getName() {
+		return name;
+	}
+
+	public long getInvocations() {
+		return invocations.sum();
+	}
+
+	public long getRows() {
+		return rows.sum();
+	}
+
+	public long getQueryTimeNanos() {
+		return queryNanos.sum();
+	}
+
+	public long getMappingTimeNanos() {
+		return mappingNanos.sum();
+	}
+
+	/**
+	 * Returns the smoothed number of rows per invocation, {@link Double#NaN} if
+	 * unknown.
+	 *
+	 * @return
+	 */
+	public double getAverageRows() {
+		return averageRows;
+	}
+
+	/**
+	 * Returns the smoothed mapping time per row in nanoseconds, {@link Double#NaN}
+	 * if unknown.
+	 *
+	 * @return
+	 */
+	public double getAverageMappingNanosPerRow() {
+		return averageMappingNanosPerRow;
+	}
+
+	/**
+	 * Returns the smoothed estimated heap footprint of a row in bytes,
+	 * {@link Double#NaN} if unknown.
+	 *
+	 * @return
+	 */
+	public double getAverageRowWidth() {
+		return averageRowWidth;
+	}
+
+	public int getAppliedFetchSize() {
+		return appliedFetchSize;
+	}
+
+	public boolean isParallelMappingApplied() {
+		return parallelMappingApplied;
+	}
+
+	@Override
+	public String toString() {
+		return String.format(
+				"%s: invocations=%d, rows=%d, queryMillis=%d, mappingMillis=%d, avgRows=%.1f, "
+						+ "mappingNanosPerRow=%.0f, rowWidth=%.0f, fetchSize=%d, parallelMapping=%s",
+				name, getInvocations(), getRows(), TimeUnit.NANOSECONDS.toMillis(getQueryTimeNanos()),
+				TimeUnit.NANOSECONDS.toMillis(getMappingTimeNanos()), averageRows, averageMappingNanosPerRow,
+				averageRowWidth, appliedFetchSize, parallelMappingApplied);
+	}
+}
@@ -0,0 +1,127 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedOperationParameter;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Process-wide registry of the {@link DozerQueryStatistics} of all dozer
+ * repository query methods. Declare {@link #getInstance()} as a bean of an
+ * application context exporting annotated MBeans, e.g. through
+ * {@code @EnableMBeanExport}, to monitor the statistics and the tuning
+ * decisions derived from them over JMX, or read them through
+ * {@link #getStatistics()} to publish them elsewhere.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerAutoTuning
+ */
+@ManagedResource(description = "Runtime statistics of dozer repository query methods")
+public class DozerQueryStatisticsRegistry {
+	private static final DozerQueryStatisticsRegistry INSTANCE = new DozerQueryStatisticsRegistry();
+
+	private final Map<String, DozerQueryStatistics> statistics = new ConcurrentHashMap<>();
+	private volatile boolean tuningEnabled = true;
+
+	DozerQueryStatisticsRegistry() {
+	}
+
+	public static DozerQueryStatisticsRegistry getInstance() {
+		return INSTANCE;
+	}
+
+	/**
+	 * Returns the statistics of the given query method, creating them if missing.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param method              must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public DozerQueryStatistics getStatistics(Class<?> repositoryInterface, Method method) {
+		Assert.notNull(repositoryInterface, "Repository interface must not be null!");
+		Assert.notNull(method, "Method must not be null!");
+
+		return statistics.computeIfAbsent(getName(repositoryInterface, method), DozerQueryStatistics::new);
+	}
+
+	/**
+	 * Returns the statistics of the query method with the given name.
+	 *
+	 * @param name the name as returned by {@link DozerQueryStatistics#getName()}.
+	 * @return {@literal null} if the query method has not been invoked yet.
+	 */
+	@Nullable
+	public DozerQueryStatistics getStatistics(String name) {
+		return statistics.get(name);
+	}
+
+	/**
+	 * Returns the statistics of all query methods.
+	 *
+	 * @return never {@literal null}.
+	 */
+	public Collection<DozerQueryStatistics> getStatistics() {
+		return Collections.unmodifiableCollection(statistics.values());
+	}
+
+	/**
+	 * Returns whether query methods tune their execution from their statistics.
+	 * Applies on top of {@link org.springframework.data.dozer.jpa.repository.DozerAutoTuning}.
+	 *
+	 * @return
+	 */
+	@ManagedAttribute(description = "Whether query methods tune their execution from their statistics")
+	public boolean isTuningEnabled() {
+		return tuningEnabled;
+	}
+
+	@ManagedAttribute
+	public void setTuningEnabled(boolean tuningEnabled) {
+		this.tuningEnabled = tuningEnabled;
+	}
+
+	@ManagedAttribute(description = "Number of query methods with statistics")
+	public int getQueryMethodCount() {
+		return statistics.size();
+	}
+
+	/**
+	 * Returns a summary line per query method, the most expensive first.
+	 *
+	 * @return
+	 */
+	@ManagedAttribute(description = "Statistics and tuning decisions per query method, most expensive first")
+	public String[] getSummary() {
+		return statistics.values().stream()
+				.sorted(Comparator.comparingLong(
+						(DozerQueryStatistics it) -> it.getQueryTimeNanos() + it.getMappingTimeNanos()).reversed())
+				.map(DozerQueryStatistics::toString).toArray(String[]::new);
+	}
+
+	@ManagedOperation(description = "Describes the statistics of a query method")
+	@ManagedOperationParameter(name = "name", description = "Repository interface, method and parameter types")
+	public String describe(String name) {
+		DozerQueryStatistics queryStatistics = statistics.get(name);
+		return queryStatistics == null ? "No statistics for " + name : queryStatistics.toString();
+	}
+
+	@ManagedOperation(description = "Clears the statistics and tuning decisions of all query methods")
+	public void reset() {
+		statistics.values().forEach(DozerQueryStatistics::reset);
+	}
+
+	private static String getName(Class<?> repositoryInterface, Method method) {
+		return repositoryInterface.getName() + "." + method.getName() + Arrays.stream(method.getParameterTypes())
+				.map(Class::getSimpleName).collect(Collectors.joining(",", "(", ")"));
+	}
+}
@@ -0,0 +1,57 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.data.dozer.jpa.repository.DozerScrollExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Reactive access to dozer repositories. Blocking JPA work runs on a bounded
+ * scheduler shared by all dozer repositories, sized like Reactor's bounded
+ * elastic scheduler. Requires Reactor on the classpath.
+ */
+public abstract class DozerReactiveSupport {
+
+	private DozerReactiveSupport() {
+	}
+
+	/**
+	 * Returns the scheduler blocking JPA work of reactive query methods runs on.
+	 *
+	 * @return
+	 */
+	public static Scheduler getScheduler() {
+		return SchedulerHolder.SCHEDULER;
+	}
+
+	/**
+	 * Returns a {@link Flux} over the entities matching the given
+	 * {@link DozerSpecification}, scrolled in id order. Chunks are only fetched
+	 * and entities only mapped as the subscriber requests them, so a slow
+	 * subscriber throttles the database access.
+	 *
+	 * @param executor   must not be {@literal null}.
+	 * @param spec       can be {@literal null}.
+	 * @param checkpoint see {@link DozerScrollExecutor#scroll(Object)}, can be
+	 *                   {@literal null}.
+	 * @return
+	 */
+	public static <T> Flux<T> scroll(DozerScrollExecutor<T> executor, @Nullable DozerSpecification<T> spec,
+			@Nullable Object checkpoint) {
+		Assert.notNull(executor, "DozerScrollExecutor must not be null!");
+
+		return Flux.using(() -> executor.scroll(spec, checkpoint), iterator -> Flux.fromIterable(() -> iterator),
+				DozerScrollIterator::close).subscribeOn(getScheduler());
+	}
+
+	private static class SchedulerHolder {
+		private static final Scheduler SCHEDULER = Schedulers.newBoundedElastic(
+				Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "dozer-jpa",
+				60, true);
+	}
+}
@@ -0,0 +1,152 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.dozer.jpa.repository.DozerChangeSet;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Records a repository operation and its phases as Java Flight Recorder events.
+ * When JFR is not available or the events are disabled a no-op recording is
+ * returned so that instrumented code only pays for a single
+ * {@link #isEnabled()} check.
+ * <p>
+ * Recording requires a runtime providing {@code jdk.jfr} (JDK 8u262 or later)
+ * and a build of this module on JDK 11 or later, which compiles the JFR backed
+ * implementation through the {@code jfr} profile. Otherwise all recordings are
+ * no-ops.
+ */
+public abstract class DozerRepositoryRecording {
+
+	public static final String PARAMETER_ADAPTATION = "parameter-adaptation";
+	public static final String ADAPTED_QUERY = "adapted-query";
+	public static final String MAPPING = "mapping";
+	public static final String JDBC_QUERY = "jdbc-query";
+
+	public static final long UNKNOWN_ROW_COUNT = -1;
+
+	private static final String JFR_RECORDING_FACTORY = "org.springframework.data.dozer.jpa.repository.support."
+			+ "JfrDozerRepositoryRecording$Factory";
+
+	private static final @Nullable RecordingFactory jfrRecordingFactory = createJfrRecordingFactory();
+
+	static final DozerRepositoryRecording NONE = new DozerRepositoryRecording() {
+
+		@Override
+		public boolean isEnabled() {
+			return false;
+		}
+
+		@Override
+		public void beginPhase(String phase) {
+		}
+
+		@Override
+		public void endPhase(long rowCount) {
+		}
+
+		@Override
+		public void end(long rowCount, String mappingStrategy) {
+		}
+	};
+
+	/**
+	 * Starts recording an operation of the given repository.
+	 *
+	 * @param repository the repository interface, must not be {@literal null}.
+	 * @param operation  the repository method name, must not be {@literal null}.
+	 * @return never {@literal null}.
+	 */
+	public static DozerRepositoryRecording start(Class<?> repository, String operation) {
+		return jfrRecordingFactory == null ? NONE : jfrRecordingFactory.start(repository, operation);
+	}
+
+	/**
+	 * Returns the number of rows held by the given result of a repository
+	 * operation or query method.
+	 *
+	 * @param result can be {@literal null}.
+	 * @return the number of rows or {@link #UNKNOWN_ROW_COUNT} for lazily
+	 *         populated results.
+	 */
+	public static long getRowCount(@Nullable Object result) {
+		if (result == null) {
+			return 0;
+		}
+		if (result instanceof Slice) {
+			return ((Slice<?>) result).getNumberOfElements();
+		}
+		if (result instanceof Collection) {
+			return ((Collection<?>) result).size();
+		}
+		if (result.getClass().isArray()) {
+			return Array.getLength(result);
+		}
+		if (result instanceof DozerChangeSet) {
+			return ((DozerChangeSet<?>) result).getChanges().size();
+		}
+		if (result instanceof Optional) {
+			return ((Optional<?>) result).isPresent() ? 1 : 0;
+		}
+		if (result instanceof Iterable || result instanceof Stream) {
+			return UNKNOWN_ROW_COUNT;
+		}
+		return 1;
+	}
+
+	@Nullable
+	private static RecordingFactory createJfrRecordingFactory() {
+		ClassLoader classLoader = DozerRepositoryRecording.class.getClassLoader();
+		if (!ClassUtils.isPresent("jdk.jfr.Event", classLoader)
+				|| !ClassUtils.isPresent(JFR_RECORDING_FACTORY, classLoader)) {
+			return null;
+		}
+
+		try {
+			return (RecordingFactory) BeanUtils
+					.instantiateClass(ClassUtils.forName(JFR_RECORDING_FACTORY, classLoader));
+		} catch (ClassNotFoundException | LinkageError ex) {
+			return null;
+		}
+	}
+
+	public abstract boolean isEnabled();
+
+	/**
+	 * Begins a phase of the operation, ending the current phase if any.
+	 *
+	 * @param phase must not be {@literal null}.
+	 */
+	public abstract void beginPhase(String phase);
+
+	/**
+	 * Ends the current phase.
+	 *
+	 * @param rowCount the number of rows handled by the phase or
+	 *                 {@link #UNKNOWN_ROW_COUNT}.
+	 */
+	public abstract void endPhase(long rowCount);
+
+	/**
+	 * Ends the operation, ending the current phase if any.
+	 *
+	 * @param rowCount        the number of rows returned or
+	 *                        {@link #UNKNOWN_ROW_COUNT}.
+	 * @param mappingStrategy the strategy used to map the rows.
+	 */
+	public abstract void end(long rowCount, String mappingStrategy);
+
+	/**
+	 * Starts recordings of a recording backend.
+	 */
+	interface RecordingFactory {
+
+		DozerRepositoryRecording start(Class<?> repository, String operation);
+	}
+}
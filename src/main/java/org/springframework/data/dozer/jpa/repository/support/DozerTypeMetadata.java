@@ -0,0 +1,108 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.core.ResolvableType;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.dozer.jpa.repository.DozerLazyCollection;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Immutable metadata declared on a dozer entity type: its {@link DozerView}s
+ * and {@link DozerLazyCollection} properties.
+ *
+ * @see DozerMappingMetadataRegistry
+ */
+public final class DozerTypeMetadata {
+	private final Class<?> dozerEntityType;
+	private final Map<String, DozerView> views;
+	private final List<LazyCollectionPlan> lazyCollections;
+
+	DozerTypeMetadata(Class<?> dozerEntityType) {
+		this.dozerEntityType = dozerEntityType;
+
+		Map<String, DozerView> views = new LinkedHashMap<>();
+		for (DozerView view : AnnotatedElementUtils.findMergedRepeatableAnnotations(dozerEntityType,
+				DozerView.class)) {
+			views.putIfAbsent(view.name(), view);
+		}
+		this.views = views.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(views);
+
+		List<LazyCollectionPlan> lazyCollections = new ArrayList<>();
+		ReflectionUtils.doWithFields(dozerEntityType, field -> lazyCollections.add(new LazyCollectionPlan(field)),
+				field -> field.isAnnotationPresent(DozerLazyCollection.class));
+		this.lazyCollections = lazyCollections.isEmpty() ? Collections.emptyList()
+				: Collections.unmodifiableList(lazyCollections);
+	}
+
+	public Class<?> getDozerEntityType() {
+		return dozerEntityType;
+	}
+
+	/**
+	 * Returns the views declared on the type keyed by name.
+	 *
+	 * @return an unmodifiable map, never {@literal null}.
+	 */
+	public Map<String, DozerView> getViews() {
+		return views;
+	}
+
+	@Nullable
+	public DozerView getView(String name) {
+		return views.get(name);
+	}
+
+	public boolean hasLazyCollections() {
+		return !lazyCollections.isEmpty();
+	}
+
+	List<LazyCollectionPlan> getLazyCollections() {
+		return lazyCollections;
+	}
+
+	long getEstimatedFootprint() {
+		return 48 + views.size() * 64L + lazyCollections.size() * 64L;
+	}
+
+	/**
+	 * Resolved {@link DozerLazyCollection} declaration of a field.
+	 */
+	static final class LazyCollectionPlan {
+		final Field field;
+		final String source;
+		final Class<?> elementType;
+		final String mapId;
+		final boolean set;
+
+		LazyCollectionPlan(Field field) {
+			DozerLazyCollection annotation = field.getAnnotation(DozerLazyCollection.class);
+
+			Assert.state(List.class.equals(field.getType()) || Set.class.equals(field.getType())
+					|| Collection.class.equals(field.getType()),
+					"@DozerLazyCollection requires a List, Set or Collection property: " + field);
+
+			ReflectionUtils.makeAccessible(field);
+			this.field = field;
+			this.source = StringUtils.hasText(annotation.source()) ? annotation.source() : field.getName();
+			this.elementType = void.class.equals(annotation.elementType())
+					? ResolvableType.forField(field).asCollection().resolveGeneric(0)
+					: annotation.elementType();
+			this.mapId = annotation.mapId();
+			this.set = Set.class.equals(field.getType());
+
+			Assert.state(elementType != null, "Cannot resolve the element type of " + field);
+		}
+	}
+}
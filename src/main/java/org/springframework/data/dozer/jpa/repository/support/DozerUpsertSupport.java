@@ -0,0 +1,112 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import javax.persistence.Cache;
+import javax.persistence.EntityManager;
+
+import org.springframework.data.util.Lazy;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Writes adapted entities with batches of a {@link NativeUpsertStatement}.
+ * Since the rows are written past the persistence context, pending changes are
+ * flushed first, and afterwards the persistence context is cleared and the
+ * written entities are evicted from the second-level cache, again after the
+ * transaction completed.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerUpsertExecutor
+ */
+class DozerUpsertSupport {
+	private static final int BATCH_SIZE = 500;
+
+	private final EntityManager entityManager;
+	private final Class<?> adaptedType;
+	private final Function<Object, Object> idAccessor;
+	private final JdbcTemplate jdbcTemplate;
+	private final Lazy<NativeUpsertStatement> statement;
+
+	/**
+	 * @param entityManager must not be {@literal null}.
+	 * @param adaptedType   must not be {@literal null}.
+	 * @param idAccessor    returns the id of an adapted entity.
+	 * @param jdbcTemplate  the template the statements are executed with.
+	 */
+	DozerUpsertSupport(EntityManager entityManager, Class<?> adaptedType, Function<Object, Object> idAccessor,
+			JdbcTemplate jdbcTemplate) {
+		this.entityManager = entityManager;
+		this.adaptedType = adaptedType;
+		this.idAccessor = idAccessor;
+		this.jdbcTemplate = jdbcTemplate;
+		this.statement = Lazy.of(() -> NativeUpsertStatement.create(entityManager, adaptedType, jdbcTemplate
+				.execute((ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName())));
+	}
+
+	/**
+	 * Upserts the given entities.
+	 *
+	 * @param entities            must not be {@literal null}.
+	 * @param adaptedEntityMapper maps an entity to its adapted entity.
+	 * @return the number of written entities.
+	 */
+	long upsertAll(Iterable<?> entities, Function<Object, Object> adaptedEntityMapper) {
+		NativeUpsertStatement statement = this.statement.get();
+		entityManager.flush();
+
+		List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+		List<Object> ids = new ArrayList<>();
+		long count = 0;
+		try {
+			for (Object entity : entities) {
+				Object adaptedEntity = adaptedEntityMapper.apply(entity);
+				batch.add(statement.getParameters(adaptedEntity));
+				ids.add(idAccessor.apply(adaptedEntity));
+				if (batch.size() == BATCH_SIZE) {
+					count += writeBatch(statement, batch);
+				}
+			}
+			return count + writeBatch(statement, batch);
+		} finally {
+			evict(ids);
+		}
+	}
+
+	private int writeBatch(NativeUpsertStatement statement, List<Object[]> batch) {
+		if (batch.isEmpty()) {
+			return 0;
+		}
+
+		jdbcTemplate.batchUpdate(statement.getSql(), batch);
+		int count = batch.size();
+		batch.clear();
+
+		return count;
+	}
+
+	private void evict(List<Object> ids) {
+		if (ids.isEmpty()) {
+			return;
+		}
+
+		entityManager.clear();
+
+		Cache cache = entityManager.getEntityManagerFactory().getCache();
+		ids.forEach(id -> cache.evict(adaptedType, id));
+
+		// a concurrent transaction may cache the old state again until this one commits
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+
+				@Override
+				public void afterCompletion(int status) {
+					ids.forEach(id -> cache.evict(adaptedType, id));
+				}
+			});
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessor;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.dozer.jpa.repository.DozerMappingViewHolder;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * Maps adapted entities to dozer entities restricted to a {@link DozerView}.
+ */
+public class DozerViewMapper {
+
+	private final Mapper dozerMapper;
+
+	public DozerViewMapper(Mapper dozerMapper) {
+		Assert.notNull(dozerMapper, "Mapper must not be null!");
+
+		this.dozerMapper = dozerMapper;
+	}
+
+	/**
+	 * Resolves the view bound to the current thread through
+	 * {@link DozerMappingViewHolder} for the given dozer entity type. The bound
+	 * view applies to every repository called while it is bound, so types that do
+	 * not declare it are mapped in full.
+	 *
+	 * @param dozerEntityType must not be {@literal null}.
+	 * @return the view or {@literal null} when no view is bound or the given type
+	 *         does not declare it.
+	 */
+	@Nullable
+	public static DozerView getCurrentView(Class<?> dozerEntityType) {
+		String viewName = DozerMappingViewHolder.getView();
+
+		return viewName == null ? null
+				: DozerMappingMetadataRegistry.getInstance().getTypeMetadata(dozerEntityType).getView(viewName);
+	}
+
+	public static DozerView getView(Class<?> dozerEntityType, String viewName) {
+		DozerView view = DozerMappingMetadataRegistry.getInstance().getTypeMetadata(dozerEntityType)
+				.getView(viewName);
+		if (view != null) {
+			return view;
+		}
+
+		throw new IllegalArgumentException(
+				"No view named '" + viewName + "' declared on " + dozerEntityType.getName() + "!");
+	}
+
+	public <T> T map(Object source, Class<T> dozerEntityType, DozerView view,
+			@Nullable Map<String, String> dozerEntityFieldNameToAdaptedFieldName) {
+		if (StringUtils.hasText(view.mapId())) {
+			return dozerMapper.map(source, dozerEntityType, view.mapId());
+		}
+
+		Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName == null ? Collections.emptyMap()
+				: dozerEntityFieldNameToAdaptedFieldName;
+
+		T target = BeanUtils.instantiateClass(dozerEntityType);
+		BeanWrapper targetAccessor = PropertyAccessorFactory.forBeanPropertyAccess(target);
+		targetAccessor.setAutoGrowNestedPaths(true);
+		PropertyAccessor sourceAccessor = PropertyAccessorFactory.forBeanPropertyAccess(source);
+		PropertyAccessor sourceFieldAccessor = null;
+
+		for (String field : view.fields()) {
+			String adaptedField = fieldNames.getOrDefault(field, field);
+
+			Object value;
+			if (sourceAccessor.isReadableProperty(adaptedField)) {
+				value = sourceAccessor.getPropertyValue(adaptedField);
+			} else {
+				if (sourceFieldAccessor == null) {
+					sourceFieldAccessor = PropertyAccessorFactory.forDirectFieldAccess(source);
+				}
+				value = sourceFieldAccessor.getPropertyValue(adaptedField);
+			}
+
+			if (value != null) {
+				targetAccessor.setPropertyValue(field,
+						toViewValue(value, targetAccessor.getPropertyTypeDescriptor(field)));
+			}
+		}
+
+		return target;
+	}
+
+	private Object toViewValue(Object value, @Nullable TypeDescriptor targetType) {
+		if (targetType == null || BeanUtils.isSimpleValueType(value.getClass())) {
+			return value;
+		}
+
+		if (value instanceof Collection && targetType.isCollection()) {
+			Collection<?> source = (Collection<?>) value;
+			TypeDescriptor elementType = targetType.getElementTypeDescriptor();
+			Collection<Object> target = CollectionFactory.createCollection(targetType.getType(),
+					elementType == null ? null : elementType.getType(), source.size());
+
+			for (Object element : source) {
+				target.add(element == null ? null : toViewValue(element, elementType));
+			}
+
+			return target;
+		}
+
+		return dozerMapper.map(value, targetType.getType());
+	}
+}
@@ -0,0 +1,145 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import org.springframework.data.dozer.jpa.repository.DozerScroll;
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link DozerScrollIterator} fetching adapted entities in chunks ordered by
+ * id, each chunk starting after the id of the last entity of the previous one.
+ * The size of the next chunk is derived from the configured memory budget and
+ * the average row width observed so far.
+ *
+ * @param <T> the dozer entity type
+ */
+class KeysetScrollIterator<T> implements DozerScrollIterator<T> {
+	private static final int SAMPLE_SIZE = 32;
+
+	private final long memoryBudget;
+	private final int minFetchSize;
+	private final int maxFetchSize;
+	private final BiFunction<Object, Integer, List<?>> chunkQuery;
+	private final Function<Object, T> mapper;
+	private final Function<Object, Object> idAccessor;
+	private final ToLongFunction<Object> rowWidthEstimator;
+
+	private Iterator<?> chunk = Collections.emptyIterator();
+	private boolean exhausted;
+	private boolean closed;
+	private int fetchSize;
+	private double averageRowWidth;
+	private long sampledRows;
+	private @Nullable Object lastFetchedId;
+	private @Nullable Object checkpoint;
+
+	/**
+	 * @param configuration     must not be {@literal null}.
+	 * @param checkpoint        the id to start after, can be {@literal null}.
+	 * @param chunkQuery        returns up to the given number of adapted entities
+	 *                          with an id greater than the given one, which can
+	 *                          be {@literal null}, ordered by id.
+	 * @param mapper            maps an adapted entity to a dozer entity.
+	 * @param idAccessor        returns the id of an adapted entity.
+	 * @param rowWidthEstimator estimates the size of an adapted entity in bytes.
+	 */
+	KeysetScrollIterator(DozerScroll configuration, @Nullable Object checkpoint,
+			BiFunction<Object, Integer, List<?>> chunkQuery, Function<Object, T> mapper,
+			Function<Object, Object> idAccessor, ToLongFunction<Object> rowWidthEstimator) {
+		Assert.isTrue(configuration.memoryBudget() > 0, "Memory budget must be greater than zero!");
+		Assert.isTrue(configuration.minFetchSize() > 0, "Min fetch size must be greater than zero!");
+		Assert.isTrue(configuration.maxFetchSize() >= configuration.minFetchSize(),
+				"Max fetch size must not be less than the min fetch size!");
+
+		this.memoryBudget = configuration.memoryBudget();
+		this.minFetchSize = configuration.minFetchSize();
+		this.maxFetchSize = configuration.maxFetchSize();
+		this.fetchSize = clamp(configuration.initialFetchSize());
+		this.chunkQuery = chunkQuery;
+		this.mapper = mapper;
+		this.idAccessor = idAccessor;
+		this.rowWidthEstimator = rowWidthEstimator;
+		this.lastFetchedId = checkpoint;
+		this.checkpoint = checkpoint;
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (closed) {
+			return false;
+		}
+
+		while (!chunk.hasNext() && !exhausted) {
+			fetchChunk();
+		}
+
+		return chunk.hasNext();
+	}
+
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+
+		Object adaptedEntity = chunk.next();
+		T result = mapper.apply(adaptedEntity);
+		checkpoint = idAccessor.apply(adaptedEntity);
+
+		return result;
+	}
+
+	@Override
+	@Nullable
+	public Object getCheckpoint() {
+		return checkpoint;
+	}
+
+	@Override
+	public int getFetchSize() {
+		return fetchSize;
+	}
+
+	@Override
+	public void close() {
+		closed = true;
+		chunk = Collections.emptyIterator();
+	}
+
+	private void fetchChunk() {
+		List<?> rows = chunkQuery.apply(lastFetchedId, fetchSize);
+
+		if (rows.size() < fetchSize) {
+			exhausted = true;
+		}
+		if (!rows.isEmpty()) {
+			lastFetchedId = idAccessor.apply(rows.get(rows.size() - 1));
+			observeRowWidth(rows);
+		}
+
+		chunk = rows.iterator();
+	}
+
+	private void observeRowWidth(List<?> rows) {
+		int step = Math.max(1, rows.size() / SAMPLE_SIZE);
+		for (int i = 0; i < rows.size(); i += step) {
+			long width = rowWidthEstimator.applyAsLong(rows.get(i));
+			sampledRows++;
+			averageRowWidth += (width - averageRowWidth) / Math.min(sampledRows, SAMPLE_SIZE * 4);
+		}
+
+		fetchSize = clamp(averageRowWidth <= 0 ? maxFetchSize : (long) (memoryBudget / averageRowWidth));
+	}
+
+	private int clamp(long value) {
+		return (int) Math.max(minFetchSize, Math.min(maxFetchSize, value));
+	}
+}
@@ -0,0 +1,71 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link List} whose elements are loaded and mapped on first access.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerLazyCollection
+ */
+public class LazyMappedList<E> extends AbstractList<E> {
+
+	private Supplier<List<E>> loader;
+	private volatile List<E> delegate;
+
+	public LazyMappedList(Supplier<List<E>> loader) {
+		Assert.notNull(loader, "Loader must not be null!");
+
+		this.loader = loader;
+	}
+
+	public boolean isInitialized() {
+		return delegate != null;
+	}
+
+	private List<E> delegate() {
+		List<E> list = delegate;
+		if (list == null) {
+			synchronized (this) {
+				list = delegate;
+				if (list == null) {
+					list = loader.get();
+					delegate = list;
+					loader = null;
+				}
+			}
+		}
+		return list;
+	}
+
+	@Override
+	public E get(int index) {
+		return delegate().get(index);
+	}
+
+	@Override
+	public int size() {
+		return delegate().size();
+	}
+
+	@Override
+	public E set(int index, E element) {
+		return delegate().set(index, element);
+	}
+
+	@Override
+	public void add(int index, E element) {
+		delegate().add(index, element);
+		modCount++;
+	}
+
+	@Override
+	public E remove(int index) {
+		E element = delegate().remove(index);
+		modCount++;
+		return element;
+	}
+}
@@ -0,0 +1,69 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link Set} whose elements are loaded and mapped on first access.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerLazyCollection
+ */
+public class LazyMappedSet<E> extends AbstractSet<E> {
+
+	private Supplier<Set<E>> loader;
+	private volatile Set<E> delegate;
+
+	public LazyMappedSet(Supplier<Set<E>> loader) {
+		Assert.notNull(loader, "Loader must not be null!");
+
+		this.loader = loader;
+	}
+
+	public boolean isInitialized() {
+		return delegate != null;
+	}
+
+	private Set<E> delegate() {
+		Set<E> set = delegate;
+		if (set == null) {
+			synchronized (this) {
+				set = delegate;
+				if (set == null) {
+					set = loader.get();
+					delegate = set;
+					loader = null;
+				}
+			}
+		}
+		return set;
+	}
+
+	@Override
+	public Iterator<E> iterator() {
+		return delegate().iterator();
+	}
+
+	@Override
+	public int size() {
+		return delegate().size();
+	}
+
+	@Override
+	public boolean contains(Object o) {
+		return delegate().contains(o);
+	}
+
+	@Override
+	public boolean add(E e) {
+		return delegate().add(e);
+	}
+
+	@Override
+	public boolean remove(Object o) {
+		return delegate().remove(o);
+	}
+}
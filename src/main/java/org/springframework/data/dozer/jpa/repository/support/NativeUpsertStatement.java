@@ -0,0 +1,389 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import javax.persistence.AttributeOverride;
+import javax.persistence.Column;
+import javax.persistence.EntityManager;
+import javax.persistence.JoinColumn;
+import javax.persistence.PersistenceUnitUtil;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.EntityType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.SingularAttribute;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+import org.springframework.util.StringUtils;
+
+/**
+ * Native upsert statement of an adapted entity type generated from the JPA
+ * metamodel for a given database. A version attribute is never bound: inserted
+ * rows start with version {@literal 1}, or the current timestamp for temporal
+ * versions, and updated rows have their version incremented, or set to the
+ * current timestamp, by the statement.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerUpsertExecutor
+ */
+final class NativeUpsertStatement {
+	private final String sql;
+	private final List<UpsertColumn> parameters;
+
+	private NativeUpsertStatement(String sql, List<UpsertColumn> parameters) {
+		this.sql = sql;
+		this.parameters = parameters;
+	}
+
+	/**
+	 * Creates the upsert statement of the given adapted entity type.
+	 *
+	 * @param entityManager       must not be {@literal null}.
+	 * @param adaptedType         must not be {@literal null}.
+	 * @param databaseProductName the JDBC database product name.
+	 * @return
+	 * @throws UnsupportedOperationException if upserts are not supported for the
+	 *                                       database or the entity type.
+	 */
+	static NativeUpsertStatement create(EntityManager entityManager, Class<?> adaptedType,
+			String databaseProductName) {
+		Dialect dialect = Dialect.forDatabase(databaseProductName);
+		EntityType<?> entityType = entityManager.getMetamodel().entity(adaptedType);
+		if (entityType.getSupertype() instanceof EntityType) {
+			throw unsupported(adaptedType, "entity inheritance");
+		}
+
+		List<UpsertColumn> columns = new ArrayList<>();
+		VersionColumn version = null;
+		PersistenceUnitUtil persistenceUnitUtil = entityManager.getEntityManagerFactory().getPersistenceUnitUtil();
+		for (SingularAttribute<?, ?> attribute : entityType.getSingularAttributes()) {
+			if (attribute.isVersion()) {
+				version = createVersionColumn(attribute);
+			} else {
+				addColumns(columns, attribute, adaptedType, persistenceUnitUtil);
+			}
+		}
+
+		List<String> idColumns = columns.stream().filter(it -> it.id).map(it -> it.name)
+				.collect(Collectors.toList());
+		if (idColumns.isEmpty()) {
+			throw unsupported(adaptedType, "embedded ids");
+		}
+
+		List<String> updateColumns = columns.stream().filter(it -> !it.id && it.updatable).map(it -> it.name)
+				.collect(Collectors.toList());
+		String sql = dialect.createSql(AdaptedTableMetadata.getTableName(entityType),
+				columns.stream().map(it -> it.name).collect(Collectors.toList()), idColumns, updateColumns, version);
+
+		List<UpsertColumn> parameters = new ArrayList<>(columns);
+		if (dialect.bindsIdsForVersion(version)) {
+			columns.stream().filter(it -> it.id).forEach(parameters::add);
+		}
+
+		return new NativeUpsertStatement(sql, Collections.unmodifiableList(parameters));
+	}
+
+	String getSql() {
+		return sql;
+	}
+
+	/**
+	 * Returns the statement parameters for the given adapted entity.
+	 *
+	 * @param adaptedEntity must not be {@literal null}.
+	 * @return
+	 * @throws IllegalArgumentException if the entity has no id.
+	 */
+	Object[] getParameters(Object adaptedEntity) {
+		Object[] parameters = new Object[this.parameters.size()];
+		for (int i = 0; i < parameters.length; i++) {
+			UpsertColumn column = this.parameters.get(i);
+			Object value = column.read(adaptedEntity);
+			if (value == null && column.id) {
+				throw new IllegalArgumentException("Upserted entities must have an id: " + adaptedEntity);
+			}
+			parameters[i] = value;
+		}
+		return parameters;
+	}
+
+	private static void addColumns(List<UpsertColumn> columns, SingularAttribute<?, ?> attribute,
+			Class<?> adaptedType, PersistenceUnitUtil persistenceUnitUtil) {
+		AnnotatedElement member = (AnnotatedElement) attribute.getJavaMember();
+
+		switch (attribute.getPersistentAttributeType()) {
+		case BASIC:
+			columns.add(createColumn(attribute, attribute.isId(), null, Collections.singletonList(member)));
+			break;
+		case EMBEDDED:
+			if (attribute.isId()) {
+				throw unsupported(adaptedType, "embedded ids");
+			}
+			for (SingularAttribute<?, ?> embedded : ((ManagedType<?>) attribute.getType()).getSingularAttributes()) {
+				if (embedded.getPersistentAttributeType() != PersistentAttributeType.BASIC) {
+					throw unsupported(adaptedType, "associations or nested embeddables in embeddables");
+				}
+				columns.add(createColumn(embedded, false,
+						AdaptedTableMetadata.getAttributeOverride(member, embedded.getName()),
+						toPath(member, (AnnotatedElement) embedded.getJavaMember())));
+			}
+			break;
+		case MANY_TO_ONE:
+		case ONE_TO_ONE:
+			if (!AdaptedTableMetadata.isOwningToOne(member)) {
+				break;
+			}
+			if (AdaptedTableMetadata.hasCompositeJoinColumns(member)) {
+				throw unsupported(adaptedType, "join tables or composite join columns");
+			}
+			columns.add(createJoinColumn(attribute, adaptedType, member, persistenceUnitUtil));
+			break;
+		default:
+			throw unsupported(adaptedType, attribute.getPersistentAttributeType() + " attributes");
+		}
+	}
+
+	private static VersionColumn createVersionColumn(SingularAttribute<?, ?> attribute) {
+		Column column = AdaptedTableMetadata.getColumn((AnnotatedElement) attribute.getJavaMember(), null);
+		Class<?> type = ClassUtils.resolvePrimitiveIfNecessary(attribute.getJavaType());
+
+		return new VersionColumn(AdaptedTableMetadata.getColumnName(column, attribute.getName()),
+				!Number.class.isAssignableFrom(type));
+	}
+
+	private static UpsertColumn createColumn(SingularAttribute<?, ?> attribute, boolean id,
+			@Nullable AttributeOverride override, List<AnnotatedElement> path) {
+		AnnotatedElement member = path.get(path.size() - 1);
+		Column column = AdaptedTableMetadata.getColumn(member, override);
+		if (column != null && StringUtils.hasText(column.table())) {
+			throw unsupported(attribute.getDeclaringType().getJavaType(), "secondary tables");
+		}
+
+		return new UpsertColumn(AdaptedTableMetadata.getColumnName(column, attribute.getName()), id,
+				column == null || column.updatable(), path, AdaptedTableMetadata.getConverter(member));
+	}
+
+	private static UpsertColumn createJoinColumn(SingularAttribute<?, ?> attribute, Class<?> adaptedType,
+			AnnotatedElement member, PersistenceUnitUtil persistenceUnitUtil) {
+		SingularAttribute<?, ?> targetId = AdaptedTableMetadata.getTargetId(attribute);
+		if (targetId == null) {
+			throw unsupported(adaptedType, "associations to entities with composite or embedded ids");
+		}
+
+		JoinColumn joinColumn = member.getAnnotation(JoinColumn.class);
+		return new UpsertColumn(AdaptedTableMetadata.getJoinColumnName(attribute, targetId), attribute.isId(),
+				joinColumn == null || joinColumn.updatable(), Collections.singletonList(member),
+				persistenceUnitUtil::getIdentifier);
+	}
+
+	private static List<AnnotatedElement> toPath(AnnotatedElement... members) {
+		List<AnnotatedElement> path = new ArrayList<>(members.length);
+		Collections.addAll(path, members);
+		return path;
+	}
+
+	private static UnsupportedOperationException unsupported(Class<?> adaptedType, String feature) {
+		return new UnsupportedOperationException(
+				"Upserts are not supported for " + feature + ": " + adaptedType.getName());
+	}
+
+	private static final class UpsertColumn {
+		private final String name;
+		private final boolean id;
+		private final boolean updatable;
+		private final List<AnnotatedElement> path;
+		private final Function<Object, Object> converter;
+
+		UpsertColumn(String name, boolean id, boolean updatable, List<AnnotatedElement> path,
+				Function<Object, Object> converter) {
+			this.name = name;
+			this.id = id;
+			this.updatable = updatable;
+			this.path = path;
+			this.converter = converter;
+
+			for (AnnotatedElement member : path) {
+				if (member instanceof Field) {
+					ReflectionUtils.makeAccessible((Field) member);
+				} else {
+					ReflectionUtils.makeAccessible((Method) member);
+				}
+			}
+		}
+
+		@Nullable
+		Object read(Object entity) {
+			Object value = entity;
+			for (AnnotatedElement member : path) {
+				if (value == null) {
+					return null;
+				}
+				value = member instanceof Field ? ReflectionUtils.getField((Field) member, value)
+						: ReflectionUtils.invokeMethod((Method) member, value);
+			}
+			return value == null ? null : converter.apply(value);
+		}
+	}
+
+	/**
+	 * The version column of an entity, maintained by the statement itself.
+	 */
+	private static final class VersionColumn {
+		private final String name;
+		private final boolean timestamp;
+
+		VersionColumn(String name, boolean timestamp) {
+			this.name = name;
+			this.timestamp = timestamp;
+		}
+
+		String initialValue() {
+			return timestamp ? "CURRENT_TIMESTAMP" : "1";
+		}
+
+		String nextValue(String current) {
+			return timestamp ? "CURRENT_TIMESTAMP" : current + " + 1";
+		}
+	}
+
+	private enum Dialect {
+		H2 {
+			@Override
+			String createSql(String table, List<String> columns, List<String> idColumns, List<String> updateColumns,
+					@Nullable VersionColumn version) {
+				String values = join(columns, "?");
+				if (version != null) {
+					// MERGE ... KEY writes the same values either way, so the version is derived
+					// from the existing row, whose id is bound again
+					String existing = "(SELECT " + version.name + " FROM " + table + " WHERE "
+							+ join(idColumns, "%s = ?", " AND ") + ")";
+					values += ", " + (version.timestamp ? version.initialValue()
+							: "COALESCE(" + (updateColumns.isEmpty() ? existing : version.nextValue(existing)) + ", "
+									+ version.initialValue() + ")");
+				}
+
+				return "MERGE INTO " + table + " (" + join(insertColumns(columns, version), "%s") + ") KEY ("
+						+ join(idColumns, "%s") + ") VALUES (" + values + ")";
+			}
+
+			@Override
+			boolean bindsIdsForVersion(@Nullable VersionColumn version) {
+				return version != null && !version.timestamp;
+			}
+		},
+		POSTGRESQL {
+			@Override
+			String createSql(String table, List<String> columns, List<String> idColumns, List<String> updateColumns,
+					@Nullable VersionColumn version) {
+				List<String> updates = new ArrayList<>();
+				for (String column : updateColumns) {
+					updates.add(column + " = EXCLUDED." + column);
+				}
+				if (version != null && !updates.isEmpty()) {
+					updates.add(version.name + " = " + version.nextValue("d." + version.name));
+				}
+
+				return "INSERT INTO " + table + " AS d (" + join(insertColumns(columns, version), "%s")
+						+ ") VALUES (" + insertValues(columns, version, "?") + ") ON CONFLICT ("
+						+ join(idColumns, "%s") + ") "
+						+ (updates.isEmpty() ? "DO NOTHING" : "DO UPDATE SET " + String.join(", ", updates));
+			}
+		},
+		MYSQL {
+			@Override
+			String createSql(String table, List<String> columns, List<String> idColumns, List<String> updateColumns,
+					@Nullable VersionColumn version) {
+				List<String> updates = new ArrayList<>();
+				for (String column : updateColumns) {
+					updates.add(column + " = VALUES(" + column + ")");
+				}
+				if (updates.isEmpty()) {
+					updates.add(idColumns.get(0) + " = " + idColumns.get(0));
+				} else if (version != null) {
+					updates.add(version.name + " = " + version.nextValue(version.name));
+				}
+
+				return "INSERT INTO " + table + " (" + join(insertColumns(columns, version), "%s") + ") VALUES ("
+						+ insertValues(columns, version, "?") + ") ON DUPLICATE KEY UPDATE "
+						+ String.join(", ", updates);
+			}
+		},
+		ORACLE {
+			@Override
+			String createSql(String table, List<String> columns, List<String> idColumns, List<String> updateColumns,
+					@Nullable VersionColumn version) {
+				List<String> updates = new ArrayList<>();
+				for (String column : updateColumns) {
+					updates.add("d." + column + " = s." + column);
+				}
+				if (version != null && !updates.isEmpty()) {
+					updates.add("d." + version.name + " = " + version.nextValue("d." + version.name));
+				}
+
+				return "MERGE INTO " + table + " d USING (SELECT " + join(columns, "? AS %s") + " FROM dual) s ON ("
+						+ join(idColumns, "d.%1$s = s.%1$s", " AND ") + ")"
+						+ (updates.isEmpty() ? "" : " WHEN MATCHED THEN UPDATE SET " + String.join(", ", updates))
+						+ " WHEN NOT MATCHED THEN INSERT (" + join(insertColumns(columns, version), "%s")
+						+ ") VALUES (" + insertValues(columns, version, "s.%s") + ")";
+			}
+		};
+
+		abstract String createSql(String table, List<String> columns, List<String> idColumns,
+				List<String> updateColumns, @Nullable VersionColumn version);
+
+		/**
+		 * Returns whether the id columns are bound a second time, after all columns.
+		 */
+		boolean bindsIdsForVersion(@Nullable VersionColumn version) {
+			return false;
+		}
+
+		static Dialect forDatabase(String databaseProductName) {
+			String name = databaseProductName.toLowerCase(Locale.ROOT);
+			if (name.startsWith("h2")) {
+				return H2;
+			}
+			if (name.startsWith("postgresql")) {
+				return POSTGRESQL;
+			}
+			if (name.startsWith("mysql") || name.startsWith("mariadb")) {
+				return MYSQL;
+			}
+			if (name.startsWith("oracle")) {
+				return ORACLE;
+			}
+			throw new UnsupportedOperationException("Upserts are not supported for " + databaseProductName);
+		}
+
+		private static List<String> insertColumns(List<String> columns, @Nullable VersionColumn version) {
+			if (version == null) {
+				return columns;
+			}
+
+			List<String> result = new ArrayList<>(columns);
+			result.add(version.name);
+			return result;
+		}
+
+		private static String insertValues(List<String> columns, @Nullable VersionColumn version, String format) {
+			String values = join(columns, format);
+			return version == null ? values : values + ", " + version.initialValue();
+		}
+
+		private static String join(List<String> columns, String format) {
+			return join(columns, format, ", ");
+		}
+
+		private static String join(List<String> columns, String format, String delimiter) {
+			return columns.stream().map(it -> String.format(format, it)).collect(Collectors.joining(delimiter));
+		}
+	}
+}
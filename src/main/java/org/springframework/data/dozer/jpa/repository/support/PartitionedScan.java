@@ -0,0 +1,248 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+/**
+ * Reads the partitions of a partitioned scan concurrently, each in its own
+ * transaction on a worker thread. At most a bounded number of partitions are
+ * read at the same time, the others wait for a free worker thread.
+ *
+ * @see org.springframework.data.dozer.jpa.repository.DozerPartitionExecutor
+ */
+class PartitionedScan<T> {
+	private static final Object END = new Object();
+	private static final int QUEUE_CAPACITY = 1024;
+	private static final long OFFER_TIMEOUT_MILLIS = 100;
+
+	private final String name;
+	private final List<Specification<Object>> partitions;
+	private final Function<Specification<Object>, DozerScrollIterator<T>> scroller;
+	private final TransactionTemplate transactionTemplate;
+	private final int maxThreads;
+	private final AtomicBoolean cancelled = new AtomicBoolean();
+
+	PartitionedScan(String name, List<Specification<Object>> partitions,
+			Function<Specification<Object>, DozerScrollIterator<T>> scroller,
+			TransactionTemplate transactionTemplate, int maxThreads) {
+		Assert.isTrue(maxThreads > 0, "Max threads must be greater than zero!");
+
+		this.name = name;
+		this.partitions = partitions;
+		this.scroller = scroller;
+		this.transactionTemplate = transactionTemplate;
+		this.maxThreads = maxThreads;
+	}
+
+	/**
+	 * Splits the closed range from {@code min} to {@code max} into at most the
+	 * given number of consecutive closed ranges of equal width, the last one
+	 * possibly narrower. The width is computed without overflow, so the range may
+	 * span all {@code long} values.
+	 *
+	 * @param min        the lowest value.
+	 * @param max        the highest value, not less than {@code min}.
+	 * @param partitions the maximum number of ranges, must be greater than zero.
+	 * @return the lower and upper bound of each range.
+	 */
+	static List<long[]> splitRange(long min, long max, int partitions) {
+		Assert.isTrue(min <= max, "Min must not be greater than max!");
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero!");
+
+		BigInteger lowest = BigInteger.valueOf(min);
+		BigInteger width = BigInteger.valueOf(max).subtract(lowest).add(BigInteger.ONE);
+		BigInteger step = width.add(BigInteger.valueOf(partitions - 1)).divide(BigInteger.valueOf(partitions));
+		int count = width.add(step).subtract(BigInteger.ONE).divide(step).intValue();
+
+		List<long[]> ranges = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			BigInteger lower = lowest.add(step.multiply(BigInteger.valueOf(i)));
+			long upper = i == count - 1 ? max : lower.add(step).subtract(BigInteger.ONE).longValue();
+			ranges.add(new long[] { lower.longValue(), upper });
+		}
+
+		return ranges;
+	}
+
+	/**
+	 * Passes the entities of all partitions to the given action and waits for all
+	 * partitions to complete. The first failure of a partition stops the others
+	 * and is rethrown.
+	 *
+	 * @param action must be thread-safe.
+	 */
+	void run(Consumer<? super T> action) {
+		if (partitions.isEmpty()) {
+			return;
+		}
+
+		ExecutorService executor = createExecutor();
+		try {
+			// futures are taken as they complete, so a failure is seen at once
+			CompletionService<Void> completionService = new ExecutorCompletionService<>(executor);
+			for (Specification<Object> partition : partitions) {
+				completionService.submit(() -> scan(partition, action), null);
+			}
+			for (int i = 0; i < partitions.size(); i++) {
+				completionService.take().get();
+			}
+		} catch (ExecutionException ex) {
+			throw propagate(ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Interrupted while waiting for the partitions of " + name);
+		} finally {
+			cancelled.set(true);
+			executor.shutdownNow();
+		}
+	}
+
+	/**
+	 * Returns a stream merging the entities of all partitions through a bounded
+	 * queue. Closing the stream stops the worker threads.
+	 *
+	 * @return
+	 */
+	Stream<T> stream() {
+		if (partitions.isEmpty()) {
+			return Stream.empty();
+		}
+
+		BlockingQueue<Object> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		ExecutorService executor = createExecutor();
+		for (Specification<Object> partition : partitions) {
+			executor.execute(() -> {
+				try {
+					scan(partition, entity -> put(queue, entity));
+				} catch (Throwable ex) {
+					failure.compareAndSet(null, ex);
+				} finally {
+					put(queue, END);
+				}
+			});
+		}
+		executor.shutdown();
+
+		Iterator<T> iterator = new Iterator<T>() {
+			private int remaining = partitions.size();
+			private Object next;
+
+			@Override
+			public boolean hasNext() {
+				while (next == null && remaining > 0) {
+					Object element = take(queue);
+					if (element != END) {
+						next = element;
+					} else {
+						remaining--;
+						Throwable ex = failure.get();
+						if (ex != null) {
+							cancelled.set(true);
+							executor.shutdownNow();
+							throw propagate(ex);
+						}
+					}
+				}
+				return next != null;
+			}
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public T next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+
+				T result = (T) next;
+				next = null;
+				return result;
+			}
+		};
+
+		return StreamSupport
+				.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.NONNULL | Spliterator.CONCURRENT),
+						false)
+				.onClose(() -> {
+					cancelled.set(true);
+					executor.shutdownNow();
+					queue.clear();
+				});
+	}
+
+	private void scan(Specification<Object> partition, Consumer<? super T> action) {
+		transactionTemplate.execute(status -> {
+			try (DozerScrollIterator<T> entities = scroller.apply(partition)) {
+				while (!cancelled.get() && entities.hasNext()) {
+					action.accept(entities.next());
+				}
+			}
+			return null;
+		});
+	}
+
+	private void put(BlockingQueue<Object> queue, Object element) {
+		try {
+			while (!queue.offer(element, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (cancelled.get()) {
+					throw new CancellationException("Partitioned scan of " + name + " was cancelled");
+				}
+			}
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException("Partitioned scan of " + name + " was cancelled");
+		}
+	}
+
+	private Object take(BlockingQueue<Object> queue) {
+		try {
+			return queue.take();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancelled.set(true);
+			throw new CancellationException("Interrupted while waiting for the partitions of " + name);
+		}
+	}
+
+	private ExecutorService createExecutor() {
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-partition-");
+		threadFactory.setDaemon(true);
+		return Executors.newFixedThreadPool(Math.min(partitions.size(), maxThreads), threadFactory);
+	}
+
+	private static RuntimeException propagate(Throwable ex) {
+		if (ex instanceof RuntimeException) {
+			return (RuntimeException) ex;
+		}
+		if (ex instanceof Error) {
+			throw (Error) ex;
+		}
+		return new IllegalStateException(ex);
+	}
+}
@@ -0,0 +1,72 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.dozer.jpa.datasource.ReadReplicaRoutingContextHolder;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * {@link MethodInterceptor} preferring the read replica for read-only
+ * repository methods, i.e. non-modifying query methods and base class methods
+ * declared {@code @Transactional(readOnly = true)}. Invocations joining an
+ * already active transaction keep the connection of that transaction.
+ *
+ * @see org.springframework.data.dozer.jpa.datasource.ReadReplicaRoutingDataSource
+ */
+class ReadReplicaRoutingMethodInterceptor implements MethodInterceptor {
+
+	private final RepositoryInformation repositoryInformation;
+	private final Map<Method, Boolean> readOnlyMethods = new ConcurrentHashMap<>();
+
+	ReadReplicaRoutingMethodInterceptor(RepositoryInformation repositoryInformation) {
+		this.repositoryInformation = repositoryInformation;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * 
+	 * @see org.aopalliance.intercept.MethodInterceptor#invoke(org.aopalliance.
+	 * intercept.MethodInvocation)
+	 */
+	@Override
+	public Object invoke(MethodInvocation invocation) throws Throwable {
+		if (TransactionSynchronizationManager.isActualTransactionActive()
+				|| ReadReplicaRoutingContextHolder.isReplicaPreferred()
+				|| !readOnlyMethods.computeIfAbsent(invocation.getMethod(), this::isReadOnly)) {
+			return invocation.proceed();
+		}
+
+		ReadReplicaRoutingContextHolder.setReplicaPreferred(true);
+		try {
+			return invocation.proceed();
+		} finally {
+			ReadReplicaRoutingContextHolder.setReplicaPreferred(false);
+		}
+	}
+
+	private boolean isReadOnly(Method method) {
+		if (repositoryInformation.isQueryMethod(method)) {
+			Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(method, Transactional.class);
+
+			return transactional == null ? !AnnotatedElementUtils.hasAnnotation(method, Modifying.class)
+					: transactional.readOnly();
+		}
+
+		Method targetMethod = repositoryInformation.getTargetClassMethod(method);
+		Transactional transactional = AnnotatedElementUtils.findMergedAnnotation(targetMethod, Transactional.class);
+		if (transactional == null) {
+			transactional = AnnotatedElementUtils.findMergedAnnotation(targetMethod.getDeclaringClass(),
+					Transactional.class);
+		}
+
+		return transactional != null && transactional.readOnly();
+	}
+}
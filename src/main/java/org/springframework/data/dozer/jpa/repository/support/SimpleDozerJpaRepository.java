@@ -1,96 +1,876 @@
 package org.springframework.data.dozer.jpa.repository.support;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import javax.persistence.EntityManager;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.Example;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.dozer.jpa.domain.DozerRoot;
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.data.dozer.jpa.mapping.ConversionServiceMappingEngine;
+import org.springframework.data.dozer.jpa.mapping.DozerMappingEngine;
+import org.springframework.data.dozer.jpa.mapping.MappingEngine;
+import org.springframework.data.dozer.jpa.mapping.MappingEngineResolver;
+import org.springframework.data.dozer.jpa.mapping.MemoizingMappingEngine;
+import org.springframework.data.dozer.jpa.repository.DozerChangeFeedExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerChangeSet;
+import org.springframework.data.dozer.jpa.repository.DozerEntityMapping;
+import org.springframework.data.dozer.jpa.repository.DozerExportExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerExportFormat;
+import org.springframework.data.dozer.jpa.repository.DozerIdExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerLazyCollection;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+import org.springframework.data.dozer.jpa.repository.DozerPartitionExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerScroll;
+import org.springframework.data.dozer.jpa.repository.DozerScrollExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.data.dozer.jpa.repository.DozerSpecificationExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerUpsertExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+import org.springframework.data.dozer.jpa.repository.DozerWatermark;
+import org.springframework.data.dozer.jpa.repository.DozerWriteBehindExecutor;
+import org.springframework.data.dozer.repository.query.DefaultDozerEntityMetadata;
+import org.springframework.data.dozer.repository.query.DozerEntityMetadata;
 import org.springframework.data.dozer.repository.support.DozerEntityInformation;
 import org.springframework.data.dozer.repository.support.SimpleDozerRepository;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.JpaEntityInformationSupport;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
 import org.springframework.data.repository.core.RepositoryInformation;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+import org.springframework.data.util.Lazy;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 import com.github.dozermapper.core.Mapper;
 
 @Transactional(readOnly = true)
-public class SimpleDozerJpaRepository<T, ID> extends SimpleDozerRepository<T, ID> {
+public class SimpleDozerJpaRepository<T, ID> extends SimpleDozerRepository<T, ID>
+		implements DozerSpecificationExecutor<T>, QueryByExampleExecutor<T>, DozerWriteBehindExecutor<T>,
+		DozerScrollExecutor<T>, DozerExportExecutor<T>, DozerIdExecutor<T>, DozerUpsertExecutor<T>,
+		DozerPartitionExecutor<T>, DozerChangeFeedExecutor<T> {
+
+	protected final Class<?> repositoryInterface;
+	protected final DozerEntityInformation<T, ?> dozerEntityInformation;
+	protected final DozerEntityMetadata<T> dozerEntityMetadata;
+	protected final Mapper dozerMapper;
+	protected final DozerViewMapper viewMapper;
+	protected MappingEngineResolver mappingEngineResolver;
+	private final Lazy<Map<String, String>> dozerEntityFieldNameToAdaptedFieldName;
+	private final Lazy<JpaEntityInformation<Object, Object>> adaptedJpaEntityInformation;
+	private final Lazy<SimpleJpaRepository<Object, Object>> adaptedJpaRepository;
+
+	private final Lazy<AdaptedRowWidthEstimator> rowWidthEstimator;
+	private final Lazy<JdbcTemplate> jdbcTemplate;
+	private final Lazy<DozerUpsertSupport> upsertSupport;
+	private final Lazy<AdaptedKeysetQueries> keysetQueries;
+	private final Lazy<DozerChangeFeedSupport> changeFeedSupport;
+	private final Lazy<DozerExampleTranslator> exampleTranslator;
+	private final BeanFactory beanFactory;
+	private final Object writeBehindMonitor = new Object();
+	protected EntityManager entityManager;
+	protected DozerLazyCollectionSupport lazyCollectionSupport;
+	protected String transactionManagerName;
+	private volatile WriteBehindSaveQueue<T> writeBehindSaveQueue;
 
 	public SimpleDozerJpaRepository(RepositoryInformation repositoryInformation,
 			DozerEntityInformation<T, ?> entityInformation, Mapper dozerMapper, String conversionServiceName,
 			BeanFactory beanFactory) {
 		super(repositoryInformation, entityInformation, dozerMapper, conversionServiceName, beanFactory);
+
+		this.repositoryInterface = repositoryInformation.getRepositoryInterface();
+		this.dozerEntityInformation = entityInformation;
+		this.dozerEntityMetadata = new DefaultDozerEntityMetadata<>(entityInformation.getJavaType());
+		this.dozerMapper = dozerMapper;
+		this.viewMapper = new DozerViewMapper(dozerMapper);
+		this.beanFactory = beanFactory;
+		this.rowWidthEstimator = Lazy.of(() -> new AdaptedRowWidthEstimator(entityManager.getMetamodel(),
+				dozerEntityMetadata.getAdaptedJavaType()));
+		this.mappingEngineResolver = new MappingEngineResolver(dozerMapper, conversionServiceName, beanFactory);
+		this.dozerEntityFieldNameToAdaptedFieldName = Lazy.of(() -> DozerMappingMetadataRegistry.getInstance()
+				.getMappingMetadata(dozerEntityMetadata, dozerMapper).getFieldNameMap());
+		this.adaptedJpaEntityInformation = Lazy.of(this::createAdaptedJpaEntityInformation);
+		this.jdbcTemplate = Lazy.of(() -> DozerJdbcSupport.createJdbcTemplate(entityManager));
+		this.keysetQueries = Lazy.of(() -> new AdaptedKeysetQueries(entityManager, getAdaptedJpaEntityInformation()));
+		this.changeFeedSupport = Lazy.of(() -> new DozerChangeFeedSupport(entityManager,
+				getAdaptedJpaEntityInformation(),
+				DozerChangeFeedSupport.resolveAttribute(repositoryInterface, dozerEntityMetadata.getAdaptedJavaType(),
+						dozerEntityFieldNameToAdaptedFieldName.getNullable())));
+		this.exampleTranslator = Lazy.of(() -> new DozerExampleTranslator(entityManager.getMetamodel(),
+				dozerEntityMetadata.getAdaptedJavaType(), this::toAdaptedEntity,
+				dozerEntityFieldNameToAdaptedFieldName::getNullable));
+		this.upsertSupport = Lazy.of(() -> new DozerUpsertSupport(entityManager,
+				dozerEntityMetadata.getAdaptedJavaType(), getAdaptedJpaEntityInformation()::getId, getJdbcTemplate()));
+		this.adaptedJpaRepository = Lazy.of(() -> new SimpleJpaRepository<>(getAdaptedJpaEntityInformation(),
+				entityManager));
+	}
+
+	/**
+	 * Configures the {@link EntityManager} used for operations that access the
+	 * adapted entities directly.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 */
+	public void setEntityManager(EntityManager entityManager) {
+		Assert.notNull(entityManager, "EntityManager must not be null!");
+
+		this.entityManager = entityManager;
+		this.lazyCollectionSupport = new DozerLazyCollectionSupport(entityManager, dozerMapper);
+	}
+
+	/**
+	 * Configures the {@link MappingEngineResolver} shared with the other
+	 * repositories and query methods of the repository factory.
+	 *
+	 * @param mappingEngineResolver must not be {@literal null}.
+	 */
+	public void setMappingEngineResolver(MappingEngineResolver mappingEngineResolver) {
+		Assert.notNull(mappingEngineResolver, "MappingEngineResolver must not be null!");
+
+		this.mappingEngineResolver = mappingEngineResolver;
+	}
+
+	/**
+	 * Configures the name of the {@link PlatformTransactionManager} used for
+	 * operations running outside of the caller's transaction.
+	 *
+	 * @param transactionManagerName must not be {@literal null}.
+	 */
+	public void setTransactionManagerName(String transactionManagerName) {
+		Assert.hasText(transactionManagerName, "Transaction manager name must not be empty!");
+
+		this.transactionManagerName = transactionManagerName;
+	}
+
+	protected PlatformTransactionManager getTransactionManager() {
+		Assert.state(transactionManagerName != null, "Transaction manager name must not be null!");
+
+		return beanFactory.getBean(transactionManagerName, PlatformTransactionManager.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private JpaEntityInformation<Object, Object> createAdaptedJpaEntityInformation() {
+		Assert.state(entityManager != null, "EntityManager must not be null!");
+
+		return (JpaEntityInformation<Object, Object>) JpaEntityInformationSupport
+				.getEntityInformation(dozerEntityMetadata.getAdaptedJavaType(), entityManager);
+	}
+
+	protected JpaEntityInformation<Object, Object> getAdaptedJpaEntityInformation() {
+		return adaptedJpaEntityInformation.get();
+	}
+
+	protected SimpleJpaRepository<Object, Object> getAdaptedJpaRepository() {
+		return adaptedJpaRepository.get();
+	}
+
+	/**
+	 * Returns a {@link JdbcTemplate} participating in the JPA transactions of the
+	 * repository.
+	 *
+	 * @see DozerJdbcSupport
+	 *
+	 * @return
+	 */
+	protected JdbcTemplate getJdbcTemplate() {
+		return jdbcTemplate.get();
 	}
 
 	@Override
 	public Iterable<T> findAll(Sort sort) {
-		return super.findAll(sort);
+		return record("findAll", () -> {
+			DozerView view = getCurrentView();
+			if (view != null || hasCustomMappingEngine()) {
+				return toDozerEntities(getAdaptedJpaRepository().findAll(toAdaptedSort(sort)), view);
+			}
+
+			return applyLazyCollectionsToAll(super.findAll(sort));
+		});
 	}
 
 	@Override
 	public Page<T> findAll(Pageable pageable) {
-		return super.findAll(pageable);
+		return record("findAll", () -> {
+			DozerView view = getCurrentView();
+			if (view != null || hasCustomMappingEngine()) {
+				return getAdaptedJpaRepository().findAll(toAdaptedPageable(pageable))
+						.map(source -> toDozerEntity(source, view));
+			}
+
+			return super.findAll(pageable).map(this::applyLazyCollections);
+		});
 	}
 
 	@Transactional
 	@Override
 	public <S extends T> S save(S resource) {
-		return super.save(resource);
+		return record("save", () -> hasCustomMappingEngine() ? saveAdapted(Collections.singletonList(resource)).get(0)
+				: super.save(resource));
 	}
 
 	@Transactional
 	@Override
 	public <S extends T> Iterable<S> saveAll(Iterable<S> resources) {
-		return super.saveAll(resources);
+		return record("saveAll", () -> {
+			return hasCustomMappingEngine() ? saveAdapted(resources) : super.saveAll(resources);
+		});
 	}
 
 	@Override
 	public Optional<T> findById(ID resourceId) {
-		return super.findById(resourceId);
+		return record("findById", () -> {
+			DozerView view = getCurrentView();
+			if (view != null || hasCustomMappingEngine()) {
+				return getAdaptedJpaRepository().findById(toAdaptedId(resourceId))
+						.map(source -> toDozerEntity(source, view));
+			}
+
+			return super.findById(resourceId).map(this::applyLazyCollections);
+		});
 	}
 
 	@Override
 	public boolean existsById(ID resourceId) {
-		return super.existsById(resourceId);
+		return record("existsById", () -> super.existsById(resourceId));
 	}
 
 	@Override
 	public Iterable<T> findAll() {
-		return super.findAll();
+		return record("findAll", () -> {
+			DozerView view = getCurrentView();
+			if (view != null || hasCustomMappingEngine()) {
+				return toDozerEntities(getAdaptedJpaRepository().findAll(), view);
+			}
+
+			return applyLazyCollectionsToAll(super.findAll());
+		});
 	}
 
 	@Override
 	public Iterable<T> findAllById(Iterable<ID> resourceIds) {
-		return super.findAllById(resourceIds);
+		return record("findAllById", () -> {
+			DozerView view = getCurrentView();
+			if (view == null && !hasCustomMappingEngine()) {
+				return applyLazyCollectionsToAll(super.findAllById(resourceIds));
+			}
+
+			List<Object> adaptedIds = new ArrayList<>();
+			resourceIds.forEach(id -> adaptedIds.add(toAdaptedId(id)));
+			return toDozerEntities(getAdaptedJpaRepository().findAllById(adaptedIds), view);
+		});
 	}
 
 	@Override
 	public long count() {
-		return super.count();
+		return record("count", () -> super.count());
 	}
 
 	@Transactional
 	@Override
 	public void deleteById(ID resourceId) {
-		super.deleteById(resourceId);
+		record("deleteById", () -> {
+			super.deleteById(resourceId);
+			return null;
+		});
 	}
 
 	@Transactional
 	@Override
 	public void delete(T resource) {
-		super.delete(resource);
+		record("delete", () -> {
+			if (hasCustomMappingEngine()) {
+				getAdaptedJpaRepository().delete(toAdaptedEntity(resource));
+			} else {
+				super.delete(resource);
+			}
+			return null;
+		});
 	}
 
 	@Transactional
 	@Override
 	public void deleteAll(Iterable<? extends T> resources) {
-		super.deleteAll(resources);
+		record("deleteAll", () -> {
+			if (hasCustomMappingEngine()) {
+				for (T resource : resources) {
+					getAdaptedJpaRepository().delete(toAdaptedEntity(resource));
+				}
+			} else {
+				super.deleteAll(resources);
+			}
+			return null;
+		});
 	}
 
 	@Transactional
 	@Override
 	public void deleteAll() {
-		super.deleteAll();
+		record("deleteAll", () -> {
+			super.deleteAll();
+			return null;
+		});
+	}
+
+	@Override
+	public Optional<T> findOne(@Nullable DozerSpecification<T> spec) {
+		return record("findOne", () -> getAdaptedJpaRepository().findOne(toAdaptedSpecification(spec))
+				.map(source -> toDozerEntity(source, getCurrentView())));
+	}
+
+	@Override
+	public List<T> findAll(@Nullable DozerSpecification<T> spec) {
+		return record("findAll",
+				() -> toDozerEntities(getAdaptedJpaRepository().findAll(toAdaptedSpecification(spec)),
+						getCurrentView()));
+	}
+
+	@Override
+	public Page<T> findAll(@Nullable DozerSpecification<T> spec, Pageable pageable) {
+		return record("findAll", () -> {
+			DozerView view = getCurrentView();
+			return getAdaptedJpaRepository().findAll(toAdaptedSpecification(spec), toAdaptedPageable(pageable))
+					.map(source -> toDozerEntity(source, view));
+		});
+	}
+
+	@Override
+	public List<T> findAll(@Nullable DozerSpecification<T> spec, Sort sort) {
+		return record("findAll", () -> toDozerEntities(
+				getAdaptedJpaRepository().findAll(toAdaptedSpecification(spec), toAdaptedSort(sort)),
+				getCurrentView()));
+	}
+
+	@Override
+	public long count(@Nullable DozerSpecification<T> spec) {
+		return record("count", () -> getAdaptedJpaRepository().count(toAdaptedSpecification(spec)));
+	}
+
+	@Override
+	public <S extends T> Optional<S> findOne(Example<S> example) {
+		return record("findOne", () -> getAdaptedJpaRepository().findOne(toAdaptedExample(example))
+				.map(source -> toDozerEntity(source, example.getProbeType(), getCurrentView())));
+	}
+
+	@Override
+	public <S extends T> Iterable<S> findAll(Example<S> example) {
+		return record("findAll", () -> toDozerEntities(getAdaptedJpaRepository().findAll(toAdaptedExample(example)),
+				example.getProbeType(), getCurrentView()));
+	}
+
+	@Override
+	public <S extends T> Iterable<S> findAll(Example<S> example, Sort sort) {
+		return record("findAll",
+				() -> toDozerEntities(
+						getAdaptedJpaRepository().findAll(toAdaptedExample(example), toAdaptedSort(sort)),
+						example.getProbeType(), getCurrentView()));
+	}
+
+	@Override
+	public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+		return record("findAll", () -> {
+			DozerView view = getCurrentView();
+			return getAdaptedJpaRepository().findAll(toAdaptedExample(example), toAdaptedPageable(pageable))
+					.map(source -> toDozerEntity(source, example.getProbeType(), view));
+		});
+	}
+
+	@Override
+	public <S extends T> long count(Example<S> example) {
+		return record("count", () -> getAdaptedJpaRepository().count(toAdaptedExample(example)));
+	}
+
+	@Override
+	public <S extends T> boolean exists(Example<S> example) {
+		return record("exists", () -> getAdaptedJpaRepository().exists(toAdaptedExample(example)));
+	}
+
+	@Override
+	public CompletableFuture<T> saveAsync(T entity) {
+		Assert.notNull(entity, "Entity must not be null!");
+
+		Object adaptedEntity = toAdaptedEntity(entity);
+		return getWriteBehindSaveQueue().enqueue(getAdaptedJpaEntityInformation().getId(adaptedEntity),
+				adaptedEntity);
+	}
+
+	@Override
+	public void flushSaves() {
+		WriteBehindSaveQueue<T> queue = writeBehindSaveQueue;
+		if (queue != null) {
+			queue.flush();
+		}
+	}
+
+	private WriteBehindSaveQueue<T> getWriteBehindSaveQueue() {
+		WriteBehindSaveQueue<T> queue = writeBehindSaveQueue;
+		if (queue == null) {
+			synchronized (writeBehindMonitor) {
+				queue = writeBehindSaveQueue;
+				if (queue == null) {
+					queue = WriteBehindSaveQueue.create(repositoryInterface, getTransactionManager(),
+							this::writeAdaptedEntities);
+					writeBehindSaveQueue = queue;
+				}
+			}
+		}
+		return queue;
+	}
+
+	private List<T> writeAdaptedEntities(List<Object> adaptedEntities) {
+		List<Object> merged = new ArrayList<>(adaptedEntities.size());
+		for (Object adaptedEntity : adaptedEntities) {
+			merged.add(entityManager.merge(adaptedEntity));
+		}
+		entityManager.flush();
+
+		return toDozerEntities(merged, null);
+	}
+
+	@Transactional
+	@Override
+	public long upsertAll(Iterable<? extends T> entities) {
+		Assert.notNull(entities, "Entities must not be null!");
+
+		return record("upsertAll", () -> upsertSupport.get().upsertAll(entities, this::toAdaptedEntity));
+	}
+
+	@Override
+	public DozerScrollIterator<T> scroll(@Nullable Object checkpoint) {
+		return scroll(null, checkpoint);
+	}
+
+	@Override
+	public DozerScrollIterator<T> scroll(@Nullable DozerSpecification<T> spec, @Nullable Object checkpoint) {
+		Assert.state(entityManager != null, "EntityManager must not be null!");
+
+		JpaEntityInformation<Object, Object> information = getAdaptedJpaEntityInformation();
+		Assert.state(!information.hasCompositeId() && information.getIdAttribute() != null,
+				"Scrolling requires an entity with a single id attribute!");
+
+		DozerView view = getCurrentView();
+		Specification<Object> adaptedSpec = toAdaptedSpecification(spec);
+
+		AdaptedKeysetQueries queries = keysetQueries.get();
+		TransactionTemplate transactionTemplate = createChunkTransactionTemplate();
+
+		return new KeysetScrollIterator<>(getScrollConfiguration(), checkpoint,
+				(after, fetchSize) -> record("scroll", () -> transactionTemplate == null
+						? queries.findChunk(adaptedSpec, after, fetchSize)
+						: transactionTemplate.execute(status -> queries.findChunk(adaptedSpec, after, fetchSize))),
+				adaptedEntity -> toScrolledDozerEntity(adaptedEntity, view), information::getId,
+				rowWidthEstimator.get());
+	}
+
+	/**
+	 * Returns a template reading a chunk in a read-only transaction, or joining
+	 * the surrounding one, or {@literal null} if no transaction manager is
+	 * configured.
+	 */
+	@Nullable
+	private TransactionTemplate createChunkTransactionTemplate() {
+		if (transactionManagerName == null) {
+			return null;
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+		transactionTemplate.setReadOnly(true);
+		return transactionTemplate;
+	}
+
+	private DozerScroll getScrollConfiguration() {
+		DozerScroll configuration = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface, DozerScroll.class);
+		return configuration != null ? configuration
+				: AnnotationUtils.synthesizeAnnotation(Collections.emptyMap(), DozerScroll.class, null);
+	}
+
+	@Override
+	public void findAllPartitioned(@Nullable DozerSpecification<T> spec, int partitions, Consumer<? super T> action) {
+		findAllPartitioned(spec, null, partitions, action);
+	}
+
+	@Override
+	public void findAllPartitioned(@Nullable DozerSpecification<T> spec, @Nullable String property, int partitions,
+			Consumer<? super T> action) {
+		Assert.notNull(action, "Action must not be null!");
+
+		createPartitionedScan(spec, property, partitions).run(action);
+	}
+
+	@Override
+	public Stream<T> streamAllPartitioned(@Nullable DozerSpecification<T> spec, int partitions) {
+		return streamAllPartitioned(spec, null, partitions);
+	}
+
+	@Override
+	public Stream<T> streamAllPartitioned(@Nullable DozerSpecification<T> spec, @Nullable String property,
+			int partitions) {
+		return createPartitionedScan(spec, property, partitions).stream();
+	}
+
+	private PartitionedScan<T> createPartitionedScan(@Nullable DozerSpecification<T> spec, @Nullable String property,
+			int partitions) {
+		Assert.isTrue(partitions > 0, "Partitions must be greater than zero!");
+		Assert.state(entityManager != null, "EntityManager must not be null!");
+
+		JpaEntityInformation<Object, Object> information = getAdaptedJpaEntityInformation();
+		Assert.state(!information.hasCompositeId() && information.getIdAttribute() != null,
+				"Partitioned scans require an entity with a single id attribute!");
+
+		Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName.getNullable();
+		String attribute = property == null ? information.getIdAttribute().getName()
+				: fieldNames == null ? property : fieldNames.getOrDefault(property, property);
+		Specification<Object> adaptedSpec = toAdaptedSpecification(spec);
+
+		AdaptedKeysetQueries queries = keysetQueries.get();
+		List<Specification<Object>> ranges = new ArrayList<>(partitions);
+		for (Specification<Object> range : queries.createRanges(adaptedSpec, attribute, partitions)) {
+			ranges.add(adaptedSpec == null ? range : adaptedSpec.and(range));
+		}
+
+		DozerScroll configuration = getScrollConfiguration();
+		DozerView view = getCurrentView();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(getTransactionManager());
+		transactionTemplate.setReadOnly(true);
+
+		return new PartitionedScan<>(repositoryInterface.getSimpleName(), ranges,
+				range -> new KeysetScrollIterator<>(configuration, null,
+						(after, fetchSize) -> record("findAllPartitioned",
+								() -> queries.findChunk(range, after, fetchSize)),
+						adaptedEntity -> toScrolledDozerEntity(adaptedEntity, view), information::getId,
+						rowWidthEstimator.get()),
+				transactionTemplate, configuration.maxPartitionThreads());
+	}
+
+	@Override
+	public DozerChangeSet<T> findChanges(@Nullable DozerWatermark watermark, int limit) {
+		return findChanges(null, watermark, limit);
+	}
+
+	@Override
+	public DozerChangeSet<T> findChanges(@Nullable DozerSpecification<T> spec, @Nullable DozerWatermark watermark,
+			int limit) {
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+		Assert.state(entityManager != null, "EntityManager must not be null!");
+
+		JpaEntityInformation<Object, Object> information = getAdaptedJpaEntityInformation();
+		Assert.state(!information.hasCompositeId() && information.getIdAttribute() != null,
+				"Change feeds require an entity with a single id attribute!");
+
+		return record("findChanges", () -> {
+			DozerChangeSet<Object> changes = changeFeedSupport.get().findChanges(toAdaptedSpecification(spec),
+					watermark, limit);
+
+			DozerView view = getCurrentView();
+			List<T> result = new ArrayList<>(changes.getChanges().size());
+			for (Object change : changes.getChanges()) {
+				result.add(toScrolledDozerEntity(change, view));
+			}
+
+			return new DozerChangeSet<>(result, changes.getWatermark(), changes.hasMore());
+		});
 	}
 
+	private T toScrolledDozerEntity(Object adaptedEntity, @Nullable DozerView view) {
+		T result = toDozerEntity(adaptedEntity, view);
+
+		// keep the persistence context of a surrounding transaction from growing with
+		// every chunk
+		if (entityManager.contains(adaptedEntity)) {
+			entityManager.detach(adaptedEntity);
+		}
+
+		return result;
+	}
+
+	@Override
+	public long export(@Nullable DozerSpecification<T> spec, DozerExportFormat format, Writer writer)
+			throws IOException {
+		DozerView view = getCurrentView();
+		DozerExporter exporter = new DozerExporter(dozerEntityMetadata.getJavaType(), format,
+				view == null ? null : view.fields());
+
+		try (DozerScrollIterator<T> entities = scroll(spec, null)) {
+			return exporter.write(entities, writer);
+		}
+	}
+
+	@Override
+	public long export(@Nullable DozerSpecification<T> spec, DozerExportFormat format, OutputStream out)
+			throws IOException {
+		Assert.notNull(out, "OutputStream must not be null!");
+
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		long count = export(spec, format, writer);
+		writer.flush();
+
+		return count;
+	}
+
+	@Override
+	public long[] findAllLongIds(@Nullable DozerSpecification<T> spec) {
+		return record("findAllLongIds", () -> streamAllLongIds(spec).toArray());
+	}
+
+	@Override
+	public int[] findAllIntIds(@Nullable DozerSpecification<T> spec) {
+		return record("findAllIntIds", () -> streamAllLongIds(spec).mapToInt(Math::toIntExact).toArray());
+	}
+
+	@Override
+	public LongStream streamAllLongIds(@Nullable DozerSpecification<T> spec) {
+		Assert.state(entityManager != null, "EntityManager must not be null!");
+		Assert.state(!getAdaptedJpaEntityInformation().hasCompositeId()
+				&& Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(
+						getAdaptedJpaEntityInformation().getIdType())),
+				"Reading primitive ids requires an entity with a single numeric id attribute!");
+
+		return keysetQueries.get().streamIds(toAdaptedSpecification(spec));
+	}
+
+	/**
+	 * Releases the resources held by this repository, writing all pending saves.
+	 */
+	public void destroy() {
+		WriteBehindSaveQueue<T> queue = writeBehindSaveQueue;
+		if (queue != null) {
+			queue.close();
+		}
+	}
+
+	@Nullable
+	protected DozerView getCurrentView() {
+		return DozerViewMapper.getCurrentView(dozerEntityMetadata.getJavaType());
+	}
+
+	/**
+	 * Runs the given repository operation recording it through
+	 * {@link DozerRepositoryRecording}.
+	 *
+	 * @param operation the name of the repository operation.
+	 * @param action    the operation.
+	 * @return the result of the operation
+	 */
+	protected <R> R record(String operation, Supplier<R> action) {
+		DozerRepositoryRecording recording = DozerRepositoryRecording.start(repositoryInterface, operation);
+		if (!recording.isEnabled()) {
+			return action.get();
+		}
+
+		R result = action.get();
+
+		DozerView view = getCurrentView();
+		// counts and upsert results are not rows
+		recording.end(result instanceof Number ? DozerRepositoryRecording.UNKNOWN_ROW_COUNT
+				: DozerRepositoryRecording.getRowCount(result),
+				view == null ? mappingEngineResolver.getMappingStrategy(dozerEntityMetadata) : "view:" + view.name());
+
+		return result;
+	}
+
+	/**
+	 * Maps the given adapted entity to the dozer entity type of this repository,
+	 * restricted to the given view if any.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param view   can be {@literal null}.
+	 * @return
+	 */
+	protected T toDozerEntity(Object source, @Nullable DozerView view) {
+		return toDozerEntity(source, dozerEntityMetadata.getJavaType(), view);
+	}
+
+	/**
+	 * Populates the {@link DozerLazyCollection} properties of a dozer entity mapped
+	 * without access to its adapted entity. The associations are re-fetched by the
+	 * id of the dozer entity.
+	 *
+	 * @param dozerEntity can be {@literal null}.
+	 * @return the given dozer entity
+	 */
+	protected T applyLazyCollections(T dozerEntity) {
+		if (dozerEntity == null || lazyCollectionSupport == null
+				|| !lazyCollectionSupport.hasLazyCollections(dozerEntity.getClass())) {
+			return dozerEntity;
+		}
+
+		Object id = dozerEntityInformation.getId(dozerEntity);
+		if (id != null) {
+			lazyCollectionSupport.apply(dozerEntity, dozerEntityMetadata.getAdaptedJavaType(), toAdaptedId(id));
+		}
+
+		return dozerEntity;
+	}
+
+	protected Iterable<T> applyLazyCollectionsToAll(Iterable<T> dozerEntities) {
+		if (lazyCollectionSupport != null
+				&& lazyCollectionSupport.hasLazyCollections(dozerEntityMetadata.getJavaType())) {
+			dozerEntities.forEach(this::applyLazyCollections);
+		}
+
+		return dozerEntities;
+	}
+
+	/**
+	 * Maps the given adapted entity to the given subtype of the dozer entity
+	 * type, restricted to the given view if any.
+	 *
+	 * @param source must not be {@literal null}.
+	 * @param type   must not be {@literal null}.
+	 * @param view   can be {@literal null}.
+	 * @return
+	 */
+	protected <S extends T> S toDozerEntity(Object source, Class<S> type, @Nullable DozerView view) {
+		S target;
+		if (view != null) {
+			target = viewMapper.map(source, type, view, dozerEntityFieldNameToAdaptedFieldName.getNullable());
+		} else {
+			target = getMappingEngine().map(source, type, dozerEntityMetadata.getDozerMapId());
+		}
+
+		if (lazyCollectionSupport != null) {
+			lazyCollectionSupport.apply(target, source, dozerEntityMetadata.getAdaptedJavaType());
+		}
+
+		return target;
+	}
+
+	protected <S extends T> List<S> toDozerEntities(Iterable<?> sources, Class<S> type, @Nullable DozerView view) {
+		List<S> result = new ArrayList<>();
+		for (Object source : sources) {
+			result.add(toDozerEntity(source, type, view));
+		}
+
+		return result;
+	}
+
+	protected List<T> toDozerEntities(Iterable<?> sources, @Nullable DozerView view) {
+		List<T> result = new ArrayList<>();
+		for (Object source : sources) {
+			result.add(toDozerEntity(source, view));
+		}
+
+		return result;
+	}
+
+	protected MappingEngine getMappingEngine() {
+		return mappingEngineResolver.getMappingEngine(dozerEntityMetadata);
+	}
+
+	/**
+	 * Returns whether the dozer entity type is mapped by an engine selected with
+	 * {@link DozerEntityMapping} or memoized with {@link DozerMappingCache}, which
+	 * the mapping of the inherited repository operations does not know about.
+	 *
+	 * @return
+	 */
+	protected boolean hasCustomMappingEngine() {
+		MappingEngine engine = getMappingEngine();
+		return !(engine instanceof DozerMappingEngine) && !(engine instanceof ConversionServiceMappingEngine);
+	}
+
+	private <S extends T> List<S> saveAdapted(Iterable<S> resources) {
+		List<S> result = new ArrayList<>();
+		List<Object> savedEntities = new ArrayList<>();
+		for (S resource : resources) {
+			result.add(resource);
+			savedEntities.add(getAdaptedJpaRepository().save(toAdaptedEntity(resource)));
+		}
+
+		MappingEngine engine = getMappingEngine();
+		if (engine instanceof MemoizingMappingEngine) {
+			// the version only changes on flush, the cache may hold the state before the save
+			entityManager.flush();
+			engine = ((MemoizingMappingEngine) engine).getDelegate();
+		}
+
+		for (int i = 0; i < result.size(); i++) {
+			@SuppressWarnings("unchecked")
+			Class<S> type = (Class<S>) result.get(i).getClass();
+			Object savedEntity = savedEntities.get(i);
+			S target = engine.map(savedEntity, type, dozerEntityMetadata.getDozerMapId());
+			if (lazyCollectionSupport != null) {
+				lazyCollectionSupport.apply(target, savedEntity, dozerEntityMetadata.getAdaptedJavaType());
+			}
+			result.set(i, target);
+		}
+
+		return result;
+	}
+
+	private Object toAdaptedId(Object id) {
+		return DefaultConversionService.getSharedInstance().convert(id,
+				getAdaptedJpaEntityInformation().getIdType());
+	}
+
+	protected Sort toAdaptedSort(Sort sort) {
+		Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName.getNullable();
+		if (sort.isSorted() && fieldNames != null && !fieldNames.isEmpty()) {
+			return Sort.by(sort.toList().stream()
+					.map(it -> it.withProperty(fieldNames.getOrDefault(it.getProperty(), it.getProperty())))
+					.collect(Collectors.toList()));
+		}
+
+		return sort;
+	}
+
+	protected Pageable toAdaptedPageable(Pageable pageable) {
+		return pageable.isPaged() && pageable.getSort().isSorted()
+				? PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), toAdaptedSort(pageable.getSort()))
+				: pageable;
+	}
+
+	protected Specification<Object> toAdaptedSpecification(@Nullable DozerSpecification<T> spec) {
+		if (spec == null) {
+			return null;
+		}
+
+		Map<String, String> fieldNames = dozerEntityFieldNameToAdaptedFieldName.getNullable();
+		return (root, query, builder) -> spec.toPredicate(new DozerRoot(root, fieldNames), query, builder);
+	}
+
+	protected Object toAdaptedEntity(Object dozerEntity) {
+		return getMappingEngine().map(dozerEntity, dozerEntityMetadata.getAdaptedJavaType(),
+				dozerEntityMetadata.getDozerMapId());
+	}
+
+	/**
+	 * Translates an {@link Example} of the dozer entity into an example of the
+	 * adapted entity.
+	 *
+	 * @param example must not be {@literal null}.
+	 * @return
+	 * @see DozerExampleTranslator
+	 */
+	protected Example<Object> toAdaptedExample(Example<? extends T> example) {
+		return exampleTranslator.get().toAdaptedExample(example);
+	}
 }
@@ -0,0 +1,285 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.dozer.jpa.repository.DozerWriteBehind;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded queue of adapted entities written in batches by a background thread.
+ * Entries with the same key are coalesced, keeping the latest entity and
+ * completing all futures of the entry with the result of its single write.
+ * Batches are written one at a time, in queueing order.
+ *
+ * @param <T> the type of the write results
+ */
+@Slf4j
+class WriteBehindSaveQueue<T> implements AutoCloseable {
+
+	private final int maxBatchSize;
+	private final int capacity;
+	private final long offerTimeoutNanos;
+	private final TransactionTemplate transactionTemplate;
+	private final Function<List<Object>, List<T>> writer;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notFull = lock.newCondition();
+	private final Map<Object, PendingSave<T>> pending = new LinkedHashMap<>();
+	private final ReentrantLock flushLock = new ReentrantLock();
+	private final AtomicBoolean flushRequested = new AtomicBoolean();
+	private final ScheduledExecutorService scheduler;
+	private boolean closed;
+
+	/**
+	 * @param name                the name of the queue used for its thread.
+	 * @param configuration       must not be {@literal null}.
+	 * @param transactionTemplate the template each batch is written in.
+	 * @param writer              writes a batch of adapted entities, returning
+	 *                            one result per entity in the same order.
+	 */
+	WriteBehindSaveQueue(String name, DozerWriteBehind configuration, TransactionTemplate transactionTemplate,
+			Function<List<Object>, List<T>> writer) {
+		Assert.isTrue(configuration.maxBatchSize() > 0, "Max batch size must be greater than zero!");
+		Assert.isTrue(configuration.capacity() >= configuration.maxBatchSize(),
+				"Capacity must not be less than the max batch size!");
+		Assert.isTrue(configuration.flushIntervalMillis() > 0, "Flush interval must be greater than zero!");
+
+		this.maxBatchSize = configuration.maxBatchSize();
+		this.capacity = configuration.capacity();
+		this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(configuration.offerTimeoutMillis());
+		this.transactionTemplate = transactionTemplate;
+		this.writer = writer;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(name + "-write-behind-");
+		threadFactory.setDaemon(true);
+		this.scheduler = new ScheduledThreadPoolExecutor(1, threadFactory);
+		this.scheduler.scheduleWithFixedDelay(this::flushScheduled, configuration.flushIntervalMillis(),
+				configuration.flushIntervalMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Creates a queue configured by the {@link DozerWriteBehind} annotation of the
+	 * given repository interface, or its defaults, writing each batch in a new
+	 * transaction.
+	 *
+	 * @param repositoryInterface must not be {@literal null}.
+	 * @param transactionManager  must not be {@literal null}.
+	 * @param writer              writes a batch of adapted entities, returning
+	 *                            one result per entity in the same order.
+	 * @return
+	 */
+	static <T> WriteBehindSaveQueue<T> create(Class<?> repositoryInterface,
+			PlatformTransactionManager transactionManager, Function<List<Object>, List<T>> writer) {
+		DozerWriteBehind configuration = AnnotatedElementUtils.findMergedAnnotation(repositoryInterface,
+				DozerWriteBehind.class);
+		if (configuration == null) {
+			configuration = AnnotationUtils.synthesizeAnnotation(Collections.emptyMap(), DozerWriteBehind.class,
+					null);
+		}
+
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+		return new WriteBehindSaveQueue<>(repositoryInterface.getSimpleName(), configuration, transactionTemplate,
+				writer);
+	}
+
+	/**
+	 * Queues the given entity.
+	 *
+	 * @param key    the coalescing key, {@literal null} for entities that must not
+	 *               be coalesced.
+	 * @param entity must not be {@literal null}.
+	 * @return
+	 */
+	CompletableFuture<T> enqueue(@Nullable Object key, Object entity) {
+		CompletableFuture<T> future = new CompletableFuture<>();
+		boolean batchReady;
+
+		lock.lock();
+		try {
+			Assert.state(!closed, "Write-behind queue has been closed!");
+
+			PendingSave<T> existing = key == null ? null : pending.get(key);
+			if (existing != null) {
+				existing.entity = entity;
+				existing.futures.add(future);
+				return future;
+			}
+
+			long nanos = offerTimeoutNanos;
+			while (pending.size() >= capacity) {
+				if (nanos <= 0) {
+					throw new RejectedExecutionException("Write-behind queue is full (" + capacity + " entities)!");
+				}
+				nanos = notFull.awaitNanos(nanos);
+				Assert.state(!closed, "Write-behind queue has been closed!");
+			}
+
+			pending.put(key == null ? new Object() : key, new PendingSave<>(entity, future));
+			batchReady = pending.size() >= maxBatchSize;
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new RejectedExecutionException("Interrupted while waiting for the write-behind queue!", ex);
+		} finally {
+			lock.unlock();
+		}
+
+		if (batchReady && flushRequested.compareAndSet(false, true)) {
+			try {
+				scheduler.execute(this::flushScheduled);
+			} catch (RejectedExecutionException ex) {
+				// closed concurrently, the entity was queued before and is written by the final flush
+				flushRequested.set(false);
+			}
+		}
+
+		return future;
+	}
+
+	/**
+	 * Writes all pending entities in the calling thread.
+	 */
+	void flush() {
+		while (flushBatch() > 0) {
+		}
+	}
+
+	private void flushScheduled() {
+		flushRequested.set(false);
+		try {
+			flush();
+		} catch (RuntimeException ex) {
+			log.error("Write-behind flush failed", ex);
+		}
+	}
+
+	private int flushBatch() {
+		flushLock.lock();
+		try {
+			List<PendingSave<T>> batch = drainBatch();
+			if (batch.isEmpty()) {
+				return 0;
+			}
+
+			List<Object> entities = new ArrayList<>(batch.size());
+			for (PendingSave<T> save : batch) {
+				entities.add(save.entity);
+			}
+
+			try {
+				List<T> results = transactionTemplate.execute(status -> writer.apply(entities));
+				for (int i = 0; i < batch.size(); i++) {
+					batch.get(i).complete(results.get(i));
+				}
+			} catch (RuntimeException ex) {
+				log.warn("Write-behind batch of {} entities failed", batch.size(), ex);
+				for (PendingSave<T> save : batch) {
+					save.fail(ex);
+				}
+			}
+
+			return batch.size();
+		} finally {
+			flushLock.unlock();
+		}
+	}
+
+	private List<PendingSave<T>> drainBatch() {
+		lock.lock();
+		try {
+			List<PendingSave<T>> batch = new ArrayList<>(Math.min(pending.size(), maxBatchSize));
+			Iterator<PendingSave<T>> iterator = pending.values().iterator();
+			while (iterator.hasNext() && batch.size() < maxBatchSize) {
+				batch.add(iterator.next());
+				iterator.remove();
+			}
+
+			if (!batch.isEmpty()) {
+				notFull.signalAll();
+			}
+			return batch;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	/**
+	 * Stops accepting entities and writes all pending ones. Threads waiting for
+	 * capacity are released with an {@link IllegalStateException}, and entities
+	 * that could not be written are failed.
+	 */
+	@Override
+	public void close() {
+		lock.lock();
+		try {
+			closed = true;
+			notFull.signalAll();
+		} finally {
+			lock.unlock();
+		}
+
+		scheduler.shutdown();
+		try {
+			flush();
+		} finally {
+			failPending(new IllegalStateException("Write-behind queue has been closed!"));
+		}
+	}
+
+	private void failPending(Throwable ex) {
+		List<PendingSave<T>> remaining;
+		lock.lock();
+		try {
+			remaining = new ArrayList<>(pending.values());
+			pending.clear();
+		} finally {
+			lock.unlock();
+		}
+
+		for (PendingSave<T> save : remaining) {
+			save.fail(ex);
+		}
+	}
+
+	private static class PendingSave<T> {
+		private Object entity;
+		private final List<CompletableFuture<T>> futures = new ArrayList<>(1);
+
+		PendingSave(Object entity, CompletableFuture<T> future) {
+			this.entity = entity;
+			this.futures.add(future);
+		}
+
+		void complete(T result) {
+			futures.forEach(future -> future.complete(result));
+		}
+
+		void fail(Throwable ex) {
+			futures.forEach(future -> future.completeExceptionally(ex));
+		}
+	}
+}
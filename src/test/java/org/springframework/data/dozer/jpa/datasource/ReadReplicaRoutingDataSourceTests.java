@@ -0,0 +1,254 @@
+package org.springframework.data.dozer.jpa.datasource;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.dozer.jpa.repository.config.EnableDozerJpaRepositories;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.github.dozermapper.core.Mapper;
+
+/**
+ * Tests {@link ReadReplicaRoutingDataSource} behind a
+ * {@link LazyConnectionDataSourceProxy} with two embedded databases holding
+ * the same book under different titles, so that every read shows the database
+ * it was routed to.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration
+public class ReadReplicaRoutingDataSourceTests {
+
+	static final AtomicReference<Duration> REPLICA_LAG = new AtomicReference<>(Duration.ZERO);
+
+	@Configuration
+	@EnableTransactionManagement
+	@EnableJpaRepositories(basePackageClasses = BookEntityRepository.class)
+	@EnableDozerJpaRepositories(basePackageClasses = BookRepository.class, readReplicaRouting = true)
+	static class Config {
+
+		@Bean
+		public EmbeddedDatabase primaryDataSource() {
+			return createDatabase("primary");
+		}
+
+		@Bean
+		public EmbeddedDatabase replicaDataSource() {
+			return createDatabase("replica");
+		}
+
+		@Bean
+		public ReadReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+				@Qualifier("replicaDataSource") DataSource replica) {
+			ReadReplicaRoutingDataSource dataSource = new ReadReplicaRoutingDataSource(primary, replica);
+			dataSource.setReplicaLagProvider(REPLICA_LAG::get);
+			dataSource.setLagCheckInterval(Duration.ZERO);
+			return dataSource;
+		}
+
+		@Bean
+		@Primary
+		public DataSource dataSource(ReadReplicaRoutingDataSource routingDataSource) {
+			return new LazyConnectionDataSourceProxy(routingDataSource);
+		}
+
+		@Bean
+		public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+			return DozerJpaTestConfiguration.createEntityManagerFactory(dataSource, false);
+		}
+
+		@Bean
+		public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+			return new JpaTransactionManager(entityManagerFactory);
+		}
+
+		@Bean
+		public Mapper dozerMapper() {
+			return DozerJpaTestConfiguration.createDozerMapper();
+		}
+
+		@Bean
+		public ConversionService defaultConversionService() {
+			return new DefaultConversionService();
+		}
+
+		private static EmbeddedDatabase createDatabase(String title) {
+			EmbeddedDatabase database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+					.generateUniqueName(true).addScript("org/springframework/data/dozer/jpa/sample/book-schema.sql")
+					.build();
+			new JdbcTemplate(database).update("INSERT INTO BOOK VALUES (1, ?, 'Herbert', 0, TRUE, 1)", title);
+			return database;
+		}
+	}
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	PlatformTransactionManager transactionManager;
+
+	@Autowired
+	ReadReplicaRoutingDataSource routingDataSource;
+
+	@Autowired
+	DataSource dataSource;
+
+	@Autowired
+	@Qualifier("primaryDataSource")
+	DataSource primaryDataSource;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	DataSource replicaDataSource;
+
+	@After
+	public void tearDown() {
+		REPLICA_LAG.set(Duration.ZERO);
+		routingDataSource.setReadYourWritesWindow(Duration.ZERO);
+		ReadReplicaRoutingContextHolder.resetLastWrite();
+		new JdbcTemplate(primaryDataSource).update("DELETE FROM BOOK WHERE ID <> 1");
+	}
+
+	@Test
+	public void readOnlyRepositoryCallsUseReplica() {
+		assertEquals("replica", repository.findById(1L).get().getTitle());
+	}
+
+	@Test
+	public void readOnlyTransactionsUseReplica() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.setReadOnly(true);
+
+		assertEquals("replica", template.execute(status -> repository.findById(1L).get().getTitle()));
+	}
+
+	@Test
+	public void readWriteTransactionsUsePrimary() {
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+
+		assertEquals("primary", template.execute(status -> repository.findById(1L).get().getTitle()));
+	}
+
+	@Test
+	public void writesUsePrimary() {
+		Book book = new Book();
+		book.setId(2L);
+		book.setTitle("Emma");
+		repository.save(book);
+
+		assertEquals(Integer.valueOf(1), countBook(primaryDataSource, 2L));
+		assertEquals(Integer.valueOf(0), countBook(replicaDataSource, 2L));
+	}
+
+	@Test
+	public void laggingReplicaFallsBackToPrimary() {
+		REPLICA_LAG.set(Duration.ofMinutes(1));
+
+		assertEquals("primary", repository.findById(1L).get().getTitle());
+
+		REPLICA_LAG.set(Duration.ZERO);
+
+		assertEquals("replica", repository.findById(1L).get().getTitle());
+	}
+
+	@Test
+	public void readsAfterCommittedWriteUsePrimary() {
+		routingDataSource.setReadYourWritesWindow(Duration.ofMinutes(1));
+
+		assertEquals("replica", repository.findById(1L).get().getTitle());
+
+		saveBook(2L);
+
+		assertEquals("primary", repository.findById(1L).get().getTitle());
+	}
+
+	@Test
+	public void readYourWritesWindowStartsAtCommit() {
+		routingDataSource.setReadYourWritesWindow(Duration.ofMillis(500));
+
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.execute(status -> {
+			// the connection is obtained here, the transaction outlives the window from then on
+			repository.findById(1L);
+			sleep(Duration.ofMillis(600));
+			saveBook(2L);
+			return null;
+		});
+
+		assertEquals("primary", repository.findById(1L).get().getTitle());
+	}
+
+	@Test
+	public void rolledBackWritesDoNotStickToPrimary() {
+		routingDataSource.setReadYourWritesWindow(Duration.ofMinutes(1));
+
+		TransactionTemplate template = new TransactionTemplate(transactionManager);
+		template.execute(status -> {
+			saveBook(2L);
+			status.setRollbackOnly();
+			return null;
+		});
+
+		assertEquals("replica", repository.findById(1L).get().getTitle());
+	}
+
+	@Test
+	public void nonTransactionalReadsDoNotStickToPrimary() {
+		routingDataSource.setReadYourWritesWindow(Duration.ofMinutes(1));
+
+		assertEquals("primary",
+				new JdbcTemplate(dataSource).queryForObject("SELECT TITLE FROM BOOK WHERE ID = 1", String.class));
+		assertEquals("replica", repository.findById(1L).get().getTitle());
+	}
+
+	private void saveBook(long id) {
+		Book book = new Book();
+		book.setId(id);
+		book.setTitle("Emma");
+		repository.save(book);
+	}
+
+	private static void sleep(Duration duration) {
+		try {
+			Thread.sleep(duration.toMillis());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static Integer countBook(DataSource dataSource, long id) {
+		return new JdbcTemplate(dataSource).queryForObject("SELECT COUNT(*) FROM BOOK WHERE ID = ?", Integer.class,
+				id);
+	}
+}
@@ -0,0 +1,108 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.dozer.annotation.DozerEntity;
+import org.springframework.data.dozer.jpa.repository.DozerEntityMapping;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.repository.query.DefaultDozerEntityMetadata;
+
+import com.github.dozermapper.core.metadata.MetadataLookupException;
+
+/**
+ * Tests for {@link MappingEngineResolver}.
+ */
+public class MappingEngineResolverTests {
+
+	MappingEngine customEngine = new MappingEngine() {
+
+		@Override
+		public boolean canMap(Class<?> sourceType, Class<?> targetType, String mapId) {
+			return targetType == CustomMappedBook.class;
+		}
+
+		@Override
+		public <T> T map(Object source, Class<T> targetType, String mapId) {
+			return targetType.cast(new CustomMappedBook());
+		}
+	};
+
+	MappingEngineResolver resolver;
+
+	@Before
+	public void setUp() {
+		DefaultConversionService conversionService = new DefaultConversionService();
+		conversionService.addConverter(BookEntity.class, ConvertedBook.class, entity -> new ConvertedBook());
+		conversionService.addConverter(BookEntity.class, CachedBook.class, entity -> new CachedBook());
+
+		DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("conversionService", conversionService);
+		beanFactory.registerSingleton("customEngine", customEngine);
+
+		resolver = new MappingEngineResolver(DozerJpaTestConfiguration.createDozerMapper(), "conversionService",
+				beanFactory);
+	}
+
+	@Test
+	public void prefersDozerMapping() {
+		DefaultDozerEntityMetadata<Book> metadata = new DefaultDozerEntityMetadata<>(Book.class);
+
+		assertTrue(resolver.isDozerMapped(metadata));
+		assertEquals("dozer", resolver.getMappingStrategy(metadata));
+	}
+
+	@Test
+	public void fallsBackToConversionService() {
+		DefaultDozerEntityMetadata<ConvertedBook> metadata = new DefaultDozerEntityMetadata<>(ConvertedBook.class);
+
+		assertFalse(resolver.isDozerMapped(metadata));
+		assertEquals("conversion-service", resolver.getMappingStrategy(metadata));
+	}
+
+	@Test
+	public void usesConfiguredEngine() {
+		assertSame(customEngine,
+				resolver.getMappingEngine(new DefaultDozerEntityMetadata<>(CustomMappedBook.class)));
+	}
+
+	@Test
+	public void memoizesAnnotatedTypes() {
+		MappingEngine engine = resolver.getMappingEngine(new DefaultDozerEntityMetadata<>(CachedBook.class));
+
+		assertTrue(engine instanceof MemoizingMappingEngine);
+		assertEquals("cached-conversion-service", engine.getName());
+	}
+
+	@Test(expected = MetadataLookupException.class)
+	public void rejectsUnmappableTypes() {
+		resolver.getMappingEngine(new DefaultDozerEntityMetadata<>(UnmappedBook.class));
+	}
+
+	@DozerEntity(adaptedDomainClass = BookEntity.class)
+	static class ConvertedBook {
+	}
+
+	@DozerEntity(adaptedDomainClass = BookEntity.class)
+	@DozerEntityMapping(engine = "customEngine")
+	static class CustomMappedBook {
+	}
+
+	@DozerEntity(adaptedDomainClass = BookEntity.class)
+	@DozerMappingCache
+	static class CachedBook {
+	}
+
+	@DozerEntity(adaptedDomainClass = BookEntity.class)
+	static class UnmappedBook {
+	}
+}
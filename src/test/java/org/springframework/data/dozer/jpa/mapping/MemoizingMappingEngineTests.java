@@ -0,0 +1,93 @@
+package org.springframework.data.dozer.jpa.mapping;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+
+/**
+ * Tests for {@link MemoizingMappingEngine}.
+ */
+public class MemoizingMappingEngineTests {
+
+	final AtomicInteger mappings = new AtomicInteger();
+
+	final MappingEngine delegate = new MappingEngine() {
+
+		@Override
+		public boolean canMap(Class<?> sourceType, Class<?> targetType, String mapId) {
+			return true;
+		}
+
+		@Override
+		public <T> T map(Object source, Class<T> targetType, String mapId) {
+			mappings.incrementAndGet();
+
+			BookEntity entity = (BookEntity) source;
+			Book book = new Book();
+			book.setId(entity.getId());
+			book.setTitle(entity.getTitle());
+			book.setVersion(entity.getVersion());
+			return targetType.cast(book);
+		}
+	};
+
+	@Test
+	public void mapsEachIdAndVersionOnce() {
+		MappingEngine engine = createEngine(10, false);
+		BookEntity entity = new BookEntity(1L, "Dune", "Herbert");
+
+		Book first = engine.map(entity, Book.class, null);
+		first.setTitle("Changed");
+		Book second = engine.map(entity, Book.class, null);
+
+		assertEquals(1, mappings.get());
+		assertNotSame(first, second);
+		assertEquals("Dune", second.getTitle());
+
+		entity.setVersion(1);
+		engine.map(entity, Book.class, null);
+
+		assertEquals(2, mappings.get());
+	}
+
+	@Test
+	public void returnsCachedInstanceOfImmutableType() {
+		MappingEngine engine = createEngine(10, true);
+		BookEntity entity = new BookEntity(1L, "Dune", "Herbert");
+
+		assertSame(engine.map(entity, Book.class, null), engine.map(entity, Book.class, null));
+	}
+
+	@Test
+	public void evictsLeastRecentlyUsedEntries() {
+		MappingEngine engine = createEngine(1, false);
+		BookEntity dune = new BookEntity(1L, "Dune", "Herbert");
+		BookEntity emma = new BookEntity(2L, "Emma", "Austen");
+
+		engine.map(dune, Book.class, null);
+		engine.map(emma, Book.class, null);
+		engine.map(dune, Book.class, null);
+
+		assertEquals(3, mappings.get());
+	}
+
+	private MappingEngine createEngine(int maxEntries, boolean immutable) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("maxEntries", maxEntries);
+		attributes.put("immutable", immutable);
+		DozerMappingCache configuration = AnnotationUtils.synthesizeAnnotation(attributes, DozerMappingCache.class,
+				null);
+
+		return new MemoizingMappingEngine(delegate, Book.class, BookEntity.class, configuration);
+	}
+}
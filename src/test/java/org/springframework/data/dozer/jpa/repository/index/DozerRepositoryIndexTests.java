@@ -0,0 +1,80 @@
+package org.springframework.data.dozer.jpa.repository.index;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Collections;
+import java.util.Properties;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+
+/**
+ * Tests for {@link DozerRepositoryIndex}.
+ */
+public class DozerRepositoryIndexTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void resolvesIndexedTypes() throws IOException {
+		Properties entries = new Properties();
+		entries.setProperty(BookRepository.class.getName(), DozerRepositoryIndex.REPOSITORY);
+		entries.setProperty(BookRepository.class.getName() + DozerRepositoryIndex.ADAPTED_REPOSITORY_SUFFIX,
+				BookEntityRepository.class.getName());
+		entries.setProperty(BookRepository.class.getName() + DozerRepositoryIndex.DOMAIN_TYPE_SUFFIX,
+				Book.class.getName());
+		entries.setProperty(BookRepository.class.getName() + DozerRepositoryIndex.STREAM_SUFFIX, "false");
+		entries.setProperty(BookRepository.class.getName() + DozerRepositoryIndex.MAPPING_VIEWS_SUFFIX, "true");
+		entries.setProperty(Book.class.getName(), DozerRepositoryIndex.ENTITY);
+		entries.setProperty(Book.class.getName() + DozerRepositoryIndex.ADAPTED_DOMAIN_TYPE_SUFFIX,
+				BookEntity.class.getName());
+
+		DozerRepositoryIndex index = DozerRepositoryIndex.get(createClassLoader(entries));
+
+		assertEquals(Collections.singleton(BookRepository.class.getName()), index.getRepositories());
+		assertEquals(Collections.singleton(Book.class.getName()), index.getEntities());
+		assertEquals(BookEntityRepository.class, index.getAdaptedRepositoryInterface(BookRepository.class));
+		assertEquals(BookEntity.class, index.getAdaptedDomainType(Book.class));
+		assertEquals(Book.class.getName(), index.getDomainTypeName(BookRepository.class.getName()));
+		assertFalse(index.hasMethodReturningStream(BookRepository.class));
+		assertTrue(index.hasMappingViews(BookRepository.class));
+	}
+
+	@Test
+	public void leavesTypesOutsideTheIndexToTheCaller() throws IOException {
+		DozerRepositoryIndex index = DozerRepositoryIndex.get(createClassLoader(new Properties()));
+
+		assertTrue(index.isEmpty());
+		assertNull(index.getAdaptedDomainType(Book.class));
+		assertNull(index.hasMethodReturningStream(BookRepository.class));
+	}
+
+	private ClassLoader createClassLoader(Properties entries) throws IOException {
+		File root = folder.newFolder();
+		if (!entries.isEmpty()) {
+			File file = new File(root, DozerRepositoryIndex.INDEX_LOCATION);
+			file.getParentFile().mkdirs();
+			try (OutputStream out = new FileOutputStream(file)) {
+				entries.store(out, null);
+			}
+		}
+
+		// no parent, so that only the index written here is visible
+		return new URLClassLoader(new URL[] { root.toURI().toURL() }, null);
+	}
+}
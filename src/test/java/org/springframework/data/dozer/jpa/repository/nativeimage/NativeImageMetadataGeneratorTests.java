@@ -0,0 +1,53 @@
+package org.springframework.data.dozer.jpa.repository.nativeimage;
+
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.data.dozer.jpa.repository.index.DozerRepositoryIndex;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+
+/**
+ * Tests for {@link NativeImageMetadataGenerator}.
+ */
+public class NativeImageMetadataGeneratorTests {
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void writesProxyEntriesForAdaptedRepositoriesOfOtherCompilations() throws IOException {
+		// the adapted repository is not part of the index, as if compiled separately
+		NativeImageMetadataGenerator generator = new NativeImageMetadataGenerator(
+				createIndexClassLoader(BookRepository.class.getName() + "=repository\n" + BookRepository.class.getName()
+						+ ".adaptedRepository=" + BookEntityRepository.class.getName() + "\n"));
+
+		StringWriter writer = new StringWriter();
+		generator.writeProxyConfig(writer);
+
+		assertTrue(writer.toString().contains("{\"interfaces\": [\"" + BookRepository.class.getName() + "\""));
+		assertTrue(writer.toString().contains("{\"interfaces\": [\"" + BookEntityRepository.class.getName() + "\""));
+	}
+
+	private ClassLoader createIndexClassLoader(String index) throws IOException {
+		Path root = folder.newFolder().toPath();
+		Path location = root.resolve(DozerRepositoryIndex.INDEX_LOCATION);
+		Files.createDirectories(location.getParent());
+		try (Writer writer = Files.newBufferedWriter(location, StandardCharsets.ISO_8859_1)) {
+			writer.write(index);
+		}
+
+		return new URLClassLoader(new URL[] { root.toUri().toURL() }, getClass().getClassLoader());
+	}
+}
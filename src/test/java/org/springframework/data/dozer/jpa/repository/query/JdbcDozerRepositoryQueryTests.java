@@ -0,0 +1,75 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookJdbcRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests {@link JdbcDozerRepositoryQuery} through a repository.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class JdbcDozerRepositoryQueryTests {
+
+	@Autowired
+	BookJdbcRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		entityRepository.saveAll(Arrays.asList(createEntity(1L, "Persuasion", "Austen", 250),
+				createEntity(2L, "Emma", "Austen", 480), createEntity(3L, "Dune", "Herbert", 600)));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void mapsDerivedQueryResultsIntoDozerEntities() {
+		List<Book> books = repository.findByAuthorOrderByTitleAsc("Austen");
+
+		assertEquals(Arrays.asList("Emma", "Persuasion"),
+				books.stream().map(Book::getTitle).collect(Collectors.toList()));
+		assertEquals(Long.valueOf(2), books.get(0).getId());
+		assertEquals(480, books.get(0).getPages());
+	}
+
+	@Test
+	public void runsDerivedProjections() {
+		assertEquals(2, repository.countByAuthor("Austen"));
+		assertTrue(repository.existsByTitle("Dune"));
+		assertFalse(repository.existsByTitle("Ulysses"));
+	}
+
+	@Test
+	public void bindsNamedParametersOfDeclaredQuery() {
+		List<Book> books = repository.findWithPages(480);
+
+		assertEquals(Arrays.asList(2L, 3L), books.stream().map(Book::getId).collect(Collectors.toList()));
+		assertEquals("Herbert", books.get(1).getAuthor());
+	}
+
+	private static BookEntity createEntity(Long id, String title, String author, int pages) {
+		BookEntity entity = new BookEntity(id, title, author);
+		entity.setPages(pages);
+		return entity;
+	}
+}
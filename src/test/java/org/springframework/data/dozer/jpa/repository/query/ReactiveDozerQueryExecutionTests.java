@@ -0,0 +1,72 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.repository.support.DozerReactiveSupport;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.ReactiveBookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Tests reactive query methods and scrolls. The queries run on the scheduler of
+ * {@link DozerReactiveSupport}, so the entities are committed first.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+public class ReactiveDozerQueryExecutionTests {
+
+	@Autowired
+	ReactiveBookRepository repository;
+
+	@Autowired
+	BookRepository bookRepository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		entityRepository.saveAll(Arrays.asList(new BookEntity(1L, "Persuasion", "Austen"),
+				new BookEntity(2L, "Dune", "Herbert"), new BookEntity(3L, "Emma", "Austen")));
+	}
+
+	@After
+	public void tearDown() {
+		entityRepository.deleteAllInBatch();
+	}
+
+	@Test
+	public void publishesMappedRowsOfFluxMethod() {
+		List<Book> books = repository.findByAuthorOrderByIdAsc("Austen").collectList().block();
+
+		assertEquals(Arrays.asList("Persuasion", "Emma"),
+				books.stream().map(Book::getTitle).collect(Collectors.toList()));
+	}
+
+	@Test
+	public void publishesResultOfMonoMethod() {
+		assertEquals(Long.valueOf(2), repository.findByTitle("Dune").block().getId());
+	}
+
+	@Test
+	public void publishesScroll() {
+		List<Long> ids = DozerReactiveSupport.scroll(bookRepository, null, 1L).map(Book::getId).collectList()
+				.block();
+
+		assertEquals(Arrays.asList(2L, 3L), ids);
+	}
+}
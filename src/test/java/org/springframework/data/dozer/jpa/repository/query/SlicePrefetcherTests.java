@@ -0,0 +1,102 @@
+package org.springframework.data.dozer.jpa.repository.query;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.dozer.jpa.repository.DozerPrefetch;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+/**
+ * Tests for {@link SlicePrefetcher}.
+ */
+public class SlicePrefetcherTests {
+
+	@Test
+	public void prefetchesNextPageInReadOnlyTransaction() {
+		AtomicReference<TransactionDefinition> definition = new AtomicReference<>();
+		SlicePrefetcher prefetcher = new SlicePrefetcher(createConfiguration(1000), 0,
+				() -> new RecordingTransactionManager(definition));
+
+		Object[] parameters = { PageRequest.of(0, 1) };
+		prefetcher.prefetchNext(createSlice("first", PageRequest.of(0, 1)), parameters, null,
+				next -> createSlice("second", (Pageable) next[0]));
+
+		Object prefetched = prefetcher.get(new Object[] { PageRequest.of(1, 1) }, null);
+
+		assertEquals(Collections.singletonList("second"), ((SliceImpl<?>) prefetched).getContent());
+		assertTrue(definition.get().isReadOnly());
+		assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.get().getPropagationBehavior());
+	}
+
+	@Test
+	public void doesNotWaitForSlowPrefetchLongerThanConfigured() {
+		CountDownLatch release = new CountDownLatch(1);
+		SlicePrefetcher prefetcher = new SlicePrefetcher(createConfiguration(10), 0, null);
+
+		Object[] parameters = { PageRequest.of(0, 1) };
+		prefetcher.prefetchNext(createSlice("first", PageRequest.of(0, 1)), parameters, null, next -> {
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			return createSlice("second", (Pageable) next[0]);
+		});
+
+		try {
+			assertNull(prefetcher.get(new Object[] { PageRequest.of(1, 1) }, null));
+		} finally {
+			release.countDown();
+		}
+	}
+
+	private static SliceImpl<String> createSlice(String content, Pageable pageable) {
+		List<String> list = Collections.singletonList(content);
+		return new SliceImpl<>(list, pageable, true);
+	}
+
+	private static DozerPrefetch createConfiguration(long awaitMillis) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("awaitMillis", awaitMillis);
+		return AnnotationUtils.synthesizeAnnotation(attributes, DozerPrefetch.class, null);
+	}
+
+	private static class RecordingTransactionManager implements PlatformTransactionManager {
+		private final AtomicReference<TransactionDefinition> definition;
+
+		RecordingTransactionManager(AtomicReference<TransactionDefinition> definition) {
+			this.definition = definition;
+		}
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			this.definition.set(definition);
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	}
+}
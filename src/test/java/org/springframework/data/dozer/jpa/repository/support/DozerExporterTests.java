@@ -0,0 +1,46 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.springframework.data.dozer.jpa.repository.DozerExportFormat;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+
+/**
+ * Tests for {@link DozerExporter}.
+ */
+public class DozerExporterTests {
+
+	@Test
+	public void writesCsvColumnsInDeclarationOrder() throws IOException {
+		StringWriter writer = new StringWriter();
+
+		new DozerExporter(Book.class, DozerExportFormat.CSV).write(Arrays.asList(createBook()).iterator(), writer);
+
+		assertEquals("id,title,author,pages,version\r\n1,\"Dune, Part One\",Herbert,412,3\r\n", writer.toString());
+	}
+
+	@Test
+	public void writesCsvColumnsInGivenOrder() throws IOException {
+		StringWriter writer = new StringWriter();
+
+		new DozerExporter(Book.class, DozerExportFormat.CSV, new String[] { "title", "id" })
+				.write(Arrays.asList(createBook()).iterator(), writer);
+
+		assertEquals("title,id\r\n\"Dune, Part One\",1\r\n", writer.toString());
+	}
+
+	private static Book createBook() {
+		Book book = new Book();
+		book.setId(1L);
+		book.setTitle("Dune, Part One");
+		book.setAuthor("Herbert");
+		book.setPages(412);
+		book.setVersion(3);
+		return book;
+	}
+}
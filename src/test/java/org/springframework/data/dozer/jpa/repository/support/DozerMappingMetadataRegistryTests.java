@@ -0,0 +1,50 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.repository.query.DefaultDozerEntityMetadata;
+
+/**
+ * Tests for {@link DozerMappingMetadataRegistry}.
+ */
+public class DozerMappingMetadataRegistryTests {
+
+	DozerMappingMetadataRegistry registry = new DozerMappingMetadataRegistry();
+
+	@Test
+	public void sharesMetadataAcrossMappers() {
+		DozerMappingMetadata first = registry.getMappingMetadata(new DefaultDozerEntityMetadata<>(Book.class),
+				DozerJpaTestConfiguration.createDozerMapper());
+		DozerMappingMetadata second = registry.getMappingMetadata(new DefaultDozerEntityMetadata<>(Book.class),
+				DozerJpaTestConfiguration.createDozerMapper());
+
+		assertSame(first, second);
+		assertSame(registry.getTypeMetadata(Book.class), first.getTypeMetadata());
+		assertEquals(1, registry.getMappingMetadataCount());
+		assertEquals(1, registry.getTypeMetadataCount());
+	}
+
+	@Test
+	public void collectsDeclaredViews() {
+		DozerTypeMetadata metadata = registry.getTypeMetadata(Book.class);
+
+		assertEquals("title", metadata.getView("summary").fields()[0]);
+		assertFalse(metadata.hasLazyCollections());
+	}
+
+	@Test
+	public void recomputesMetadataAfterClear() {
+		DozerTypeMetadata metadata = registry.getTypeMetadata(Book.class);
+
+		registry.clear();
+
+		assertEquals(0, registry.getTypeMetadataCount());
+		assertNotSame(metadata, registry.getTypeMetadata(Book.class));
+	}
+}
@@ -0,0 +1,115 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link DozerQueryStatistics}.
+ */
+public class DozerQueryStatisticsTests {
+
+	@Test
+	public void recommendsNothingBeforeWarmUp() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		for (int i = 0; i < 9; i++) {
+			statistics.record(1000, 0, TimeUnit.MILLISECONDS.toNanos(10));
+		}
+
+		assertEquals(0, statistics.getRecommendedFetchSize());
+		assertFalse(statistics.isParallelMappingRecommended());
+	}
+
+	@Test
+	public void recommendsFetchSizeAboveAverageRows() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		for (int i = 0; i < 10; i++) {
+			statistics.record(100, 0, 0);
+		}
+
+		assertEquals(1000, statistics.getRows());
+		assertEquals(126, statistics.getRecommendedFetchSize());
+
+		// a row width of 1 MB leaves room for 8 rows, raised to the minimum
+		statistics.recordRowWidth(1024 * 1024);
+
+		assertEquals(10, statistics.getRecommendedFetchSize());
+	}
+
+	@Test
+	public void recommendsParallelMappingForLargeExpensiveResults() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		for (int i = 0; i < 10; i++) {
+			statistics.record(1000, 0, TimeUnit.MILLISECONDS.toNanos(10));
+		}
+
+		assertTrue(statistics.isParallelMappingRecommended());
+
+		statistics.reset();
+
+		assertEquals(0, statistics.getInvocations());
+		assertFalse(statistics.isParallelMappingRecommended());
+	}
+
+	@Test
+	public void ignoresMappingTimeOfParallelMapping() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		for (int i = 0; i < 10; i++) {
+			statistics.record(1000, 0, TimeUnit.MILLISECONDS.toNanos(2));
+		}
+
+		assertTrue(statistics.isParallelMappingRecommended());
+
+		// mapping in parallel cuts the wall time below the threshold
+		for (int i = 0; i < 20; i++) {
+			statistics.record(1000, 0, TimeUnit.MICROSECONDS.toNanos(250), true);
+		}
+
+		assertEquals(2000, statistics.getAverageMappingNanosPerRow(), 0.001);
+		assertTrue(statistics.isParallelMappingRecommended());
+	}
+
+	@Test
+	public void keepsParallelMappingUntilCostFallsWellBelowThreshold() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		for (int i = 0; i < 10; i++) {
+			statistics.record(1000, 0, TimeUnit.MILLISECONDS.toNanos(2));
+		}
+
+		assertTrue(statistics.isParallelMappingRecommended());
+
+		for (int i = 0; i < 30; i++) {
+			statistics.record(1000, 0, TimeUnit.MICROSECONDS.toNanos(800));
+		}
+
+		assertTrue(statistics.isParallelMappingRecommended());
+
+		for (int i = 0; i < 30; i++) {
+			statistics.record(1000, 0, TimeUnit.MICROSECONDS.toNanos(300));
+		}
+
+		assertFalse(statistics.isParallelMappingRecommended());
+
+		// switching back on needs the full threshold again
+		for (int i = 0; i < 30; i++) {
+			statistics.record(1000, 0, TimeUnit.MICROSECONDS.toNanos(800));
+		}
+
+		assertFalse(statistics.isParallelMappingRecommended());
+	}
+
+	@Test
+	public void ignoresUnknownRowCounts() {
+		DozerQueryStatistics statistics = new DozerQueryStatistics("test");
+		statistics.record(DozerRepositoryRecording.UNKNOWN_ROW_COUNT, 5, 7);
+
+		assertEquals(1, statistics.getInvocations());
+		assertEquals(0, statistics.getRows());
+		assertEquals(5, statistics.getQueryTimeNanos());
+		assertTrue(Double.isNaN(statistics.getAverageRows()));
+	}
+}
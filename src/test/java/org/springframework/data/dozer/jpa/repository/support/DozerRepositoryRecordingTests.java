@@ -0,0 +1,37 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.dozer.jpa.repository.DozerChangeSet;
+
+/**
+ * Tests for {@link DozerRepositoryRecording}.
+ */
+public class DozerRepositoryRecordingTests {
+
+	@Test
+	public void countsRowsOfMaterializedResults() {
+		assertEquals(0, DozerRepositoryRecording.getRowCount(null));
+		assertEquals(2, DozerRepositoryRecording.getRowCount(Arrays.asList("a", "b")));
+		assertEquals(3, DozerRepositoryRecording.getRowCount(new long[] { 1, 2, 3 }));
+		assertEquals(1, DozerRepositoryRecording.getRowCount(new PageImpl<>(Collections.singletonList("a"))));
+		assertEquals(1, DozerRepositoryRecording
+				.getRowCount(new DozerChangeSet<>(Collections.singletonList("a"), null, false)));
+		assertEquals(0, DozerRepositoryRecording.getRowCount(Optional.empty()));
+		assertEquals(1, DozerRepositoryRecording.getRowCount("a"));
+	}
+
+	@Test
+	public void doesNotCountRowsOfLazyResults() {
+		assertEquals(DozerRepositoryRecording.UNKNOWN_ROW_COUNT, DozerRepositoryRecording.getRowCount(Stream.of("a")));
+		assertEquals(DozerRepositoryRecording.UNKNOWN_ROW_COUNT,
+				DozerRepositoryRecording.getRowCount((Iterable<String>) () -> Collections.singleton("a").iterator()));
+	}
+}
@@ -0,0 +1,54 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * Tests for {@link LazyMappedList} and {@link LazyMappedSet}.
+ */
+public class LazyMappedCollectionTests {
+
+	@Test
+	public void loadsListOnceOnFirstAccess() {
+		AtomicInteger loads = new AtomicInteger();
+		LazyMappedList<String> list = new LazyMappedList<>(() -> {
+			loads.incrementAndGet();
+			return new ArrayList<>(Arrays.asList("a", "b"));
+		});
+
+		assertFalse(list.isInitialized());
+		assertEquals(0, loads.get());
+
+		assertEquals("a", list.get(0));
+		list.add("c");
+
+		assertTrue(list.isInitialized());
+		assertEquals(Arrays.asList("a", "b", "c"), list);
+		assertEquals(1, loads.get());
+	}
+
+	@Test
+	public void loadsSetOnceOnFirstAccess() {
+		AtomicInteger loads = new AtomicInteger();
+		LazyMappedSet<String> set = new LazyMappedSet<>(() -> {
+			loads.incrementAndGet();
+			return new LinkedHashSet<>(Arrays.asList("a", "b"));
+		});
+
+		assertFalse(set.isInitialized());
+
+		assertTrue(set.contains("a"));
+		set.remove("b");
+
+		assertEquals(1, set.size());
+		assertEquals(1, loads.get());
+	}
+}
@@ -0,0 +1,76 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Map;
+import java.util.UUID;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Runs the statements of {@link NativeUpsertStatement} against H2 in the
+ * compatibility modes of the databases whose syntax it supports. The
+ * {@code ON CONFLICT} statement of PostgreSQL and the {@code MERGE} statement of
+ * Oracle are not covered.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+public class NativeUpsertStatementTests {
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Test
+	public void upsertsOnH2() {
+		assertUpserts("H2", "");
+	}
+
+	@Test
+	public void upsertsOnMySql() {
+		assertUpserts("MySQL", ";MODE=MySQL");
+	}
+
+	private void assertUpserts(String databaseProductName, String urlOptions) {
+		JdbcTemplate jdbcTemplate = createDatabase(urlOptions);
+		NativeUpsertStatement statement = NativeUpsertStatement.create(entityManager, BookEntity.class,
+				databaseProductName);
+
+		BookEntity book = new BookEntity(1L, "Dune", "Herbert");
+		book.setVersion(42);
+		jdbcTemplate.update(statement.getSql(), statement.getParameters(book));
+
+		Map<String, Object> row = jdbcTemplate.queryForMap("SELECT TITLE, VERSION FROM BOOK WHERE ID = 1");
+		assertEquals("Dune", row.get("TITLE"));
+		assertEquals(1L, ((Number) row.get("VERSION")).longValue());
+
+		book.setTitle("Dune Messiah");
+		jdbcTemplate.update(statement.getSql(), statement.getParameters(book));
+
+		row = jdbcTemplate.queryForMap("SELECT TITLE, VERSION FROM BOOK WHERE ID = 1");
+		assertEquals("Dune Messiah", row.get("TITLE"));
+		assertEquals(2L, ((Number) row.get("VERSION")).longValue());
+	}
+
+	private static JdbcTemplate createDatabase(String urlOptions) {
+		DriverManagerDataSource dataSource = new DriverManagerDataSource(
+				"jdbc:h2:mem:" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1" + urlOptions, "sa", "");
+		DatabasePopulatorUtils.execute(
+				new ResourceDatabasePopulator(
+						new ClassPathResource("org/springframework/data/dozer/jpa/sample/book-schema.sql")),
+				dataSource);
+		return new JdbcTemplate(dataSource);
+	}
+}
@@ -0,0 +1,170 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.lang.Nullable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link PartitionedScan}.
+ */
+public class PartitionedScanTests {
+
+	@Test
+	public void splitsRangeIntoPartitionsOfEqualWidth() {
+		List<long[]> ranges = PartitionedScan.splitRange(1, 10, 3);
+
+		assertEquals(3, ranges.size());
+		assertArrayEquals(new long[] { 1, 4 }, ranges.get(0));
+		assertArrayEquals(new long[] { 5, 8 }, ranges.get(1));
+		assertArrayEquals(new long[] { 9, 10 }, ranges.get(2));
+	}
+
+	@Test
+	public void createsFewerPartitionsThanValues() {
+		List<long[]> ranges = PartitionedScan.splitRange(5, 6, 4);
+
+		assertEquals(2, ranges.size());
+		assertArrayEquals(new long[] { 5, 5 }, ranges.get(0));
+		assertArrayEquals(new long[] { 6, 6 }, ranges.get(1));
+	}
+
+	@Test
+	public void splitsSingleValue() {
+		List<long[]> ranges = PartitionedScan.splitRange(Long.MAX_VALUE, Long.MAX_VALUE, 4);
+
+		assertEquals(1, ranges.size());
+		assertArrayEquals(new long[] { Long.MAX_VALUE, Long.MAX_VALUE }, ranges.get(0));
+	}
+
+	@Test
+	public void splitsFullLongRangeWithoutOverflow() {
+		List<long[]> ranges = PartitionedScan.splitRange(Long.MIN_VALUE, Long.MAX_VALUE, 4);
+
+		assertEquals(4, ranges.size());
+		assertArrayEquals(new long[] { Long.MIN_VALUE, Long.MIN_VALUE / 2 - 1 }, ranges.get(0));
+		assertArrayEquals(new long[] { Long.MIN_VALUE / 2, -1 }, ranges.get(1));
+		assertArrayEquals(new long[] { 0, Long.MAX_VALUE / 2 }, ranges.get(2));
+		assertArrayEquals(new long[] { Long.MAX_VALUE / 2 + 1, Long.MAX_VALUE }, ranges.get(3));
+	}
+
+	@Test
+	public void splitsRangeEndingAtMaxValue() {
+		List<long[]> ranges = PartitionedScan.splitRange(Long.MAX_VALUE - 9, Long.MAX_VALUE, 3);
+
+		assertEquals(3, ranges.size());
+		assertArrayEquals(new long[] { Long.MAX_VALUE - 1, Long.MAX_VALUE }, ranges.get(2));
+	}
+
+	@Test(timeout = 10000)
+	public void firstFailingPartitionStopsTheOthers() {
+		Specification<Object> endless = (root, query, builder) -> null;
+		Specification<Object> failing = (root, query, builder) -> null;
+
+		// the endless partition is submitted first and only ends when cancelled
+		PartitionedScan<String> scan = new PartitionedScan<>("test", Arrays.asList(endless, failing),
+				partition -> partition == endless ? iterate(Stream.generate(() -> "endless"))
+						: iterate(Stream.of("failing")),
+				createTransactionTemplate(), 2);
+
+		try {
+			scan.run(value -> {
+				if ("failing".equals(value)) {
+					throw new IllegalStateException("Partition failed");
+				}
+			});
+			fail("Expected the partition failure to be rethrown");
+		} catch (IllegalStateException ex) {
+			assertEquals("Partition failed", ex.getMessage());
+		}
+	}
+
+	@Test
+	public void readsAllPartitionsWithBoundedThreads() {
+		List<Specification<Object>> partitions = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			partitions.add((root, query, builder) -> null);
+		}
+		Set<String> threads = ConcurrentHashMap.newKeySet();
+		AtomicInteger read = new AtomicInteger();
+
+		PartitionedScan<String> scan = new PartitionedScan<>("test", partitions,
+				partition -> iterate(Stream.of("a", "b")), createTransactionTemplate(), 3);
+		scan.run(value -> {
+			threads.add(Thread.currentThread().getName());
+			read.incrementAndGet();
+		});
+
+		assertEquals(20, read.get());
+		assertTrue(threads.size() <= 3);
+	}
+
+	private static DozerScrollIterator<String> iterate(Stream<String> values) {
+		Iterator<String> iterator = values.iterator();
+		return new DozerScrollIterator<String>() {
+
+			@Override
+			public boolean hasNext() {
+				return iterator.hasNext();
+			}
+
+			@Override
+			public String next() {
+				return iterator.next();
+			}
+
+			@Override
+			public void close() {
+				values.close();
+			}
+
+			@Override
+			@Nullable
+			public Object getCheckpoint() {
+				return null;
+			}
+
+			@Override
+			public int getFetchSize() {
+				return 1;
+			}
+		};
+	}
+
+	private static TransactionTemplate createTransactionTemplate() {
+		return new TransactionTemplate(new PlatformTransactionManager() {
+
+			@Override
+			public TransactionStatus getTransaction(@Nullable TransactionDefinition definition) {
+				return new SimpleTransactionStatus();
+			}
+
+			@Override
+			public void commit(TransactionStatus status) {
+			}
+
+			@Override
+			public void rollback(TransactionStatus status) {
+			}
+		});
+	}
+}
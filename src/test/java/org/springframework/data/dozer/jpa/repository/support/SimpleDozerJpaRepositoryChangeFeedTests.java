@@ -0,0 +1,88 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.repository.DozerChangeSet;
+import org.springframework.data.dozer.jpa.repository.DozerWatermark;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests the change feed of {@link SimpleDozerJpaRepository}.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryChangeFeedTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		entityRepository.saveAll(Arrays.asList(createEntity(1L, 100), createEntity(2L, 200), createEntity(3L, 100)));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void readsChangesInWatermarkAndIdOrder() {
+		DozerChangeSet<Book> first = repository.findChanges(null, 2);
+
+		assertEquals(Arrays.asList(1L, 3L), getIds(first));
+		assertTrue(first.hasMore());
+		assertEquals(100, ((Number) first.getWatermark().getValue()).intValue());
+		assertEquals(3L, first.getWatermark().getId());
+
+		DozerChangeSet<Book> second = repository.findChanges(first.getWatermark(), 2);
+
+		assertEquals(Arrays.asList(2L), getIds(second));
+		assertFalse(second.hasMore());
+
+		DozerChangeSet<Book> last = repository.findChanges(second.getWatermark(), 2);
+
+		assertTrue(last.getChanges().isEmpty());
+		assertEquals(second.getWatermark(), last.getWatermark());
+	}
+
+	@Test
+	public void readsAllChangesWithMaximumLimit() {
+		DozerChangeSet<Book> changes = repository.findChanges(DozerWatermark.of(0), Integer.MAX_VALUE);
+
+		assertEquals(Arrays.asList(1L, 3L, 2L), getIds(changes));
+		assertFalse(changes.hasMore());
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void rejectsEntitiesWithoutWatermarkProperty() {
+		DozerChangeFeedSupport.resolveAttribute(BookEntityRepository.class, BookEntity.class, null);
+	}
+
+	private static List<Long> getIds(DozerChangeSet<Book> changes) {
+		return changes.getChanges().stream().map(Book::getId).collect(Collectors.toList());
+	}
+
+	private static BookEntity createEntity(Long id, int pages) {
+		BookEntity entity = new BookEntity(id, "Title " + id, "Author");
+		entity.setPages(pages);
+		return entity;
+	}
+}
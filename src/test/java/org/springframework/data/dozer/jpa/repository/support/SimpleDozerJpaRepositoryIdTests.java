@@ -0,0 +1,54 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertArrayEquals;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests reading primitive ids through {@link SimpleDozerJpaRepository}.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryIdTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		entityRepository.saveAll(Arrays.asList(new BookEntity(3L, "Emma", "Austen"),
+				new BookEntity(1L, "Dune", "Herbert"), new BookEntity(2L, "Persuasion", "Austen")));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void readsIdsInAscendingOrder() {
+		assertArrayEquals(new long[] { 1L, 2L, 3L }, repository.findAllLongIds(null));
+		assertArrayEquals(new int[] { 1, 2, 3 }, repository.findAllIntIds(null));
+	}
+
+	@Test
+	public void streamsIdsMatchingSpecification() {
+		DozerSpecification<Book> byAusten = (root, query, builder) -> builder.equal(root.get("author"), "Austen");
+
+		assertArrayEquals(new long[] { 2L, 3L }, repository.streamAllLongIds(byAusten).toArray());
+	}
+}
@@ -0,0 +1,66 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.domain.CachedBook;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.CachedBookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests that writes of {@link SimpleDozerJpaRepository} are not answered from
+ * the cache of a {@link org.springframework.data.dozer.jpa.repository.DozerMappingCache}
+ * type.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryMappingCacheTests {
+
+	@Autowired
+	CachedBookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		// the cache outlives the rolled back test transactions, so every test uses its own id
+		entityRepository.saveAll(Arrays.asList(new BookEntity(41L, "Dune", "Herbert"),
+				new BookEntity(42L, "Emma", "Austen")));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void saveThenReadReturnsSavedState() {
+		CachedBook book = repository.findById(41L).get();
+		book.setTitle("Dune Messiah");
+
+		CachedBook saved = repository.save(book);
+
+		assertEquals("Dune Messiah", saved.getTitle());
+		assertEquals(book.getVersion() + 1, saved.getVersion());
+		assertEquals("Dune Messiah", repository.findById(41L).get().getTitle());
+	}
+
+	@Test
+	public void saveAllThenReadReturnsSavedState() {
+		CachedBook book = repository.findById(42L).get();
+		book.setAuthor("Jane Austen");
+
+		repository.saveAll(Collections.singletonList(book));
+
+		assertEquals("Jane Austen", repository.findById(42L).get().getAuthor());
+	}
+}
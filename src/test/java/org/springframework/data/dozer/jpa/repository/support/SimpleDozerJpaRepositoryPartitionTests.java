@@ -0,0 +1,85 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.domain.DozerSpecification;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Tests partitioned scans of {@link SimpleDozerJpaRepository}. The partitions
+ * are read on worker threads, so the entities are committed first.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+public class SimpleDozerJpaRepositoryPartitionTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		List<BookEntity> entities = new ArrayList<>();
+		for (long id = 1; id <= 10; id++) {
+			BookEntity entity = new BookEntity(id, "Book " + id, id % 2 == 0 ? "Even" : "Odd");
+			entity.setPages((int) id * 100);
+			entities.add(entity);
+		}
+		entityRepository.saveAll(entities);
+	}
+
+	@After
+	public void tearDown() {
+		entityRepository.deleteAllInBatch();
+	}
+
+	@Test
+	public void passesAllEntitiesToAction() {
+		Queue<Long> ids = new ConcurrentLinkedQueue<>();
+
+		repository.findAllPartitioned(null, 3, book -> ids.add(book.getId()));
+
+		assertEquals(Arrays.asList(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L),
+				ids.stream().sorted().collect(Collectors.toList()));
+	}
+
+	@Test
+	public void streamsEntitiesMatchingSpecificationPartitionedByProperty() {
+		DozerSpecification<Book> even = (root, query, builder) -> builder.equal(root.get("author"), "Even");
+
+		try (Stream<Book> books = repository.streamAllPartitioned(even, "pages", 4)) {
+			assertEquals(Arrays.asList(2L, 4L, 6L, 8L, 10L),
+					books.map(Book::getId).sorted().collect(Collectors.toList()));
+		}
+	}
+
+	@Test
+	public void readsNothingWithoutMatchingEntities() {
+		DozerSpecification<Book> none = (root, query, builder) -> builder.equal(root.get("author"), "None");
+
+		try (Stream<Book> books = repository.streamAllPartitioned(none, 2)) {
+			assertEquals(0, books.count());
+		}
+	}
+}
@@ -0,0 +1,80 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.ExampleMatcher;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.domain.PaperbackBook;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests the query by example support of {@link SimpleDozerJpaRepository}.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryQueryByExampleTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		BookEntity dune = new BookEntity(1L, "Dune", "Herbert");
+		dune.setAvailable(false);
+		entityRepository.saveAll(Arrays.asList(dune, new BookEntity(2L, "Emma", "Austen")));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void ignoresAdaptedAttributesNotSetOnProbe() {
+		Book probe = new Book();
+		probe.setTitle("Dune");
+
+		List<Book> books = (List<Book>) repository.findAll(Example.of(probe));
+
+		assertEquals(1, books.size());
+		assertEquals("Herbert", books.get(0).getAuthor());
+	}
+
+	@Test
+	public void translatesMatcherPaths() {
+		Book probe = new Book();
+		probe.setTitle("d");
+
+		ExampleMatcher matcher = ExampleMatcher.matching().withMatcher("title",
+				ExampleMatcher.GenericPropertyMatchers.startsWith().ignoreCase());
+
+		assertEquals(1, repository.count(Example.of(probe, matcher)));
+	}
+
+	@Test
+	public void mapsResultsToProbeSubtype() {
+		PaperbackBook probe = new PaperbackBook();
+		probe.setAuthor("Austen");
+
+		List<PaperbackBook> books = (List<PaperbackBook>) repository.findAll(Example.of(probe));
+
+		assertEquals(1, books.size());
+		assertTrue(books.get(0) instanceof PaperbackBook);
+		assertEquals("Emma", books.get(0).getTitle());
+	}
+}
@@ -0,0 +1,83 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.repository.DozerScrollIterator;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+
+/**
+ * Tests keyset scrolling of {@link SimpleDozerJpaRepository} outside of a
+ * transaction.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+public class SimpleDozerJpaRepositoryScrollTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		List<BookEntity> entities = new ArrayList<>();
+		for (long id = 1; id <= 5; id++) {
+			entities.add(new BookEntity(id, "Book " + id, "Author " + id));
+		}
+		entityRepository.saveAll(entities);
+	}
+
+	@After
+	public void tearDown() {
+		entityRepository.deleteAllInBatch();
+	}
+
+	@Test
+	public void scrollsAllEntitiesInIdOrder() {
+		List<Long> ids = new ArrayList<>();
+		try (DozerScrollIterator<Book> books = repository.scroll(null)) {
+			books.forEachRemaining(book -> ids.add(book.getId()));
+		}
+
+		assertEquals(5, ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			assertEquals(Long.valueOf(i + 1), ids.get(i));
+		}
+	}
+
+	@Test
+	public void resumesFromCheckpoint() {
+		Object checkpoint;
+		try (DozerScrollIterator<Book> books = repository.scroll(null)) {
+			assertNull(books.getCheckpoint());
+			books.next();
+			books.next();
+			checkpoint = books.getCheckpoint();
+		}
+
+		try (DozerScrollIterator<Book> books = repository.scroll(checkpoint)) {
+			assertEquals(checkpoint, books.getCheckpoint());
+			assertEquals(Long.valueOf(3), books.next().getId());
+			books.next();
+			books.next();
+			assertFalse(books.hasNext());
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.Arrays;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests the native upserts of {@link SimpleDozerJpaRepository}.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryUpsertTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@PersistenceContext
+	EntityManager entityManager;
+
+	@Test
+	public void upsertsEntitiesAndMaintainsVersion() {
+		BookEntity managed = entityRepository.saveAndFlush(new BookEntity(1L, "Dune", "Herbert"));
+		long version = managed.getVersion();
+
+		assertEquals(2, repository.upsertAll(Arrays.asList(createBook(1L, "Dune Messiah"), createBook(2L, "Emma"))));
+
+		assertFalse(entityManager.contains(managed));
+
+		BookEntity updated = entityRepository.findById(1L).get();
+		assertEquals("Dune Messiah", updated.getTitle());
+		assertEquals(version + 1, updated.getVersion());
+
+		BookEntity inserted = entityRepository.findById(2L).get();
+		assertEquals("Emma", inserted.getTitle());
+		assertEquals(1, inserted.getVersion());
+	}
+
+	private static Book createBook(Long id, String title) {
+		Book book = new Book();
+		book.setId(id);
+		book.setTitle(title);
+		book.setVersion(42);
+		return book;
+	}
+}
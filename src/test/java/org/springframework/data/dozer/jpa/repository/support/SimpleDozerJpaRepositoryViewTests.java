@@ -0,0 +1,89 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.dozer.jpa.repository.DozerMappingViewHolder;
+import org.springframework.data.dozer.jpa.sample.DozerJpaTestConfiguration;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.domain.CachedBook;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.CachedBookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit4.SpringRunner;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Tests that the {@link org.springframework.data.dozer.jpa.repository.DozerView}
+ * bound to the current thread applies to every read of
+ * {@link SimpleDozerJpaRepository}.
+ */
+@RunWith(SpringRunner.class)
+@ContextConfiguration(classes = DozerJpaTestConfiguration.class)
+@Transactional
+public class SimpleDozerJpaRepositoryViewTests {
+
+	@Autowired
+	BookRepository repository;
+
+	@Autowired
+	CachedBookRepository cachedBookRepository;
+
+	@Autowired
+	BookEntityRepository entityRepository;
+
+	@Before
+	public void setUp() {
+		entityRepository.saveAll(Arrays.asList(new BookEntity(1L, "Dune", "Herbert"),
+				new BookEntity(2L, "Emma", "Austen")));
+		entityRepository.flush();
+	}
+
+	@Test
+	public void findByIdAppliesCurrentView() {
+		Book book = DozerMappingViewHolder.withView("summary", () -> repository.findById(1L)).get();
+
+		assertEquals("Dune", book.getTitle());
+		assertNull(book.getAuthor());
+	}
+
+	@Test
+	public void findAllByIdAppliesCurrentView() {
+		List<Book> books = DozerMappingViewHolder.withView("summary",
+				() -> (List<Book>) repository.findAllById(Arrays.asList(1L, 2L)));
+
+		assertEquals(2, books.size());
+		for (Book book : books) {
+			assertNull(book.getAuthor());
+		}
+	}
+
+	@Test
+	public void findByIdWithoutViewMapsAllFields() {
+		Book book = repository.findById(1L).get();
+
+		assertEquals("Dune", book.getTitle());
+		assertEquals("Herbert", book.getAuthor());
+	}
+
+	@Test
+	public void typesWithoutCurrentViewMapAllFields() {
+		DozerMappingViewHolder.withView("summary", () -> {
+			CachedBook cachedBook = cachedBookRepository.findById(2L).get();
+			Book book = repository.findById(2L).get();
+
+			assertEquals("Austen", cachedBook.getAuthor());
+			assertNull(book.getAuthor());
+			return null;
+		});
+	}
+}
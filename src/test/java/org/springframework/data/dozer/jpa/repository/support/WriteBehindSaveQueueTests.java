@@ -0,0 +1,170 @@
+package org.springframework.data.dozer.jpa.repository.support;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.junit.Test;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.data.dozer.jpa.repository.DozerWriteBehind;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Tests for {@link WriteBehindSaveQueue}.
+ */
+public class WriteBehindSaveQueueTests {
+
+	static final TransactionTemplate TRANSACTION_TEMPLATE = new TransactionTemplate(new PlatformTransactionManager() {
+
+		@Override
+		public TransactionStatus getTransaction(TransactionDefinition definition) {
+			return new SimpleTransactionStatus();
+		}
+
+		@Override
+		public void commit(TransactionStatus status) {
+		}
+
+		@Override
+		public void rollback(TransactionStatus status) {
+		}
+	});
+
+	@Test
+	public void coalescesSavesOfTheSameKey() throws Exception {
+		List<List<Object>> batches = Collections.synchronizedList(new ArrayList<>());
+
+		try (WriteBehindSaveQueue<Object> queue = createQueue(10, 10, batches::add)) {
+			CompletableFuture<Object> first = queue.enqueue(1L, "first");
+			CompletableFuture<Object> second = queue.enqueue(1L, "second");
+			CompletableFuture<Object> other = queue.enqueue(2L, "other");
+
+			queue.flush();
+
+			assertEquals("second", first.get(1, TimeUnit.SECONDS));
+			assertEquals("second", second.get(1, TimeUnit.SECONDS));
+			assertEquals("other", other.get(1, TimeUnit.SECONDS));
+			assertEquals(1, batches.size());
+		}
+	}
+
+	@Test
+	public void closeWritesPendingSavesAndRejectsNewOnes() throws Exception {
+		WriteBehindSaveQueue<Object> queue = createQueue(10, 10, batch -> {
+		});
+		CompletableFuture<Object> future = queue.enqueue(1L, "pending");
+
+		queue.close();
+
+		assertEquals("pending", future.get(1, TimeUnit.SECONDS));
+		try {
+			queue.enqueue(2L, "late");
+			fail("Expected IllegalStateException");
+		} catch (IllegalStateException ex) {
+			// expected
+		}
+	}
+
+	@Test
+	public void closeReleasesThreadsWaitingForCapacity() throws Exception {
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		WriteBehindSaveQueue<Object> queue = createQueue(1, 1, batch -> {
+			writing.countDown();
+			await(release);
+		});
+
+		CompletableFuture<Object> written = queue.enqueue(1L, "written");
+		await(writing);
+		CompletableFuture<Object> queued = queue.enqueue(2L, "queued");
+
+		AtomicReference<Exception> waitingFailure = new AtomicReference<>();
+		Thread waiting = new Thread(() -> {
+			try {
+				queue.enqueue(3L, "waiting");
+			} catch (Exception ex) {
+				waitingFailure.set(ex);
+			}
+		});
+		waiting.start();
+		while (waiting.getState() != Thread.State.TIMED_WAITING) {
+			Thread.sleep(1);
+		}
+
+		Thread closing = new Thread(queue::close);
+		closing.start();
+		waiting.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertTrue(waitingFailure.get() instanceof IllegalStateException);
+
+		release.countDown();
+		closing.join(TimeUnit.SECONDS.toMillis(5));
+
+		assertEquals("written", written.get(1, TimeUnit.SECONDS));
+		assertEquals("queued", queued.get(1, TimeUnit.SECONDS));
+	}
+
+	@Test
+	public void createsQueueFromRepositoryConfiguration() throws Exception {
+		List<List<Object>> batches = Collections.synchronizedList(new ArrayList<>());
+		Function<List<Object>, List<Object>> writer = batch -> {
+			batches.add(batch);
+			return batch;
+		};
+
+		try (WriteBehindSaveQueue<Object> queue = WriteBehindSaveQueue.create(ConfiguredRepository.class,
+				TRANSACTION_TEMPLATE.getTransactionManager(), writer)) {
+			queue.enqueue(1L, "first");
+			CompletableFuture<Object> second = queue.enqueue(2L, "second");
+
+			// a full batch is written without waiting for the flush interval
+			assertEquals("second", second.get(5, TimeUnit.SECONDS));
+			assertEquals(1, batches.size());
+		}
+	}
+
+	private static WriteBehindSaveQueue<Object> createQueue(int maxBatchSize, int capacity,
+			Consumer<List<Object>> listener) {
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("maxBatchSize", maxBatchSize);
+		attributes.put("capacity", capacity);
+		attributes.put("flushIntervalMillis", TimeUnit.MINUTES.toMillis(1));
+		attributes.put("offerTimeoutMillis", TimeUnit.MINUTES.toMillis(1));
+		DozerWriteBehind configuration = AnnotationUtils.synthesizeAnnotation(attributes, DozerWriteBehind.class,
+				null);
+
+		Function<List<Object>, List<Object>> writer = batch -> {
+			listener.accept(batch);
+			return batch;
+		};
+		return new WriteBehindSaveQueue<>("test", configuration, TRANSACTION_TEMPLATE, writer);
+	}
+
+	@DozerWriteBehind(maxBatchSize = 2, flushIntervalMillis = 60000)
+	interface ConfiguredRepository {
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,97 @@
+package org.springframework.data.dozer.jpa.sample;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.dozer.jpa.repository.config.EnableDozerJpaRepositories;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.dozer.jpa.sample.domain.CachedBook;
+import org.springframework.data.dozer.jpa.sample.repository.dozer.BookRepository;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.orm.jpa.vendor.EclipseLinkJpaVendorAdapter;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import com.github.dozermapper.core.DozerBeanMapperBuilder;
+import com.github.dozermapper.core.Mapper;
+import com.github.dozermapper.core.loader.api.BeanMappingBuilder;
+
+/**
+ * Test context with an embedded H2 database, EclipseLink and the sample
+ * {@link BookRepository} adapting {@link BookEntityRepository}.
+ */
+@Configuration
+@EnableTransactionManagement
+@EnableJpaRepositories(basePackageClasses = BookEntityRepository.class)
+@EnableDozerJpaRepositories(basePackageClasses = BookRepository.class)
+public class DozerJpaTestConfiguration {
+
+	@Bean
+	public DataSource dataSource() {
+		return new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+	}
+
+	@Bean
+	public LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource) {
+		return createEntityManagerFactory(dataSource, true);
+	}
+
+	@Bean
+	public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+		return new JpaTransactionManager(entityManagerFactory);
+	}
+
+	@Bean
+	public Mapper dozerMapper() {
+		return createDozerMapper();
+	}
+
+	@Bean
+	public ConversionService defaultConversionService() {
+		return new DefaultConversionService();
+	}
+
+	public static LocalContainerEntityManagerFactoryBean createEntityManagerFactory(DataSource dataSource,
+			boolean generateDdl) {
+		EclipseLinkJpaVendorAdapter vendorAdapter = new EclipseLinkJpaVendorAdapter();
+		vendorAdapter.setDatabase(Database.H2);
+		vendorAdapter.setGenerateDdl(generateDdl);
+
+		Map<String, Object> properties = new HashMap<>();
+		properties.put("eclipselink.weaving", "false");
+		properties.put("eclipselink.logging.level", "WARNING");
+		// every read has to hit the database the tests look at
+		properties.put("eclipselink.cache.shared.default", "false");
+
+		LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+		factory.setDataSource(dataSource);
+		factory.setJpaVendorAdapter(vendorAdapter);
+		factory.setPackagesToScan(BookEntity.class.getPackage().getName());
+		factory.setJpaPropertyMap(properties);
+		return factory;
+	}
+
+	public static Mapper createDozerMapper() {
+		return DozerBeanMapperBuilder.create().withMappingBuilder(new BeanMappingBuilder() {
+			@Override
+			protected void configure() {
+				mapping(Book.class, BookEntity.class);
+				mapping(CachedBook.class, BookEntity.class);
+			}
+		}).build();
+	}
+}
@@ -0,0 +1,58 @@
+package org.springframework.data.dozer.jpa.sample.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.dozer.annotation.DozerEntity;
+import org.springframework.data.dozer.jpa.repository.DozerView;
+
+@DozerEntity(adaptedDomainClass = BookEntity.class)
+@DozerView(name = "summary", fields = "title")
+public class Book {
+	@Id
+	private Long id;
+	private String title;
+	private String author;
+	private int pages;
+	@Version
+	private long version;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(String author) {
+		this.author = author;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public void setPages(int pages) {
+		this.pages = pages;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+}
@@ -0,0 +1,88 @@
+package org.springframework.data.dozer.jpa.sample.domain;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import javax.persistence.Version;
+
+@Entity
+@Table(name = "BOOK")
+public class BookEntity {
+	@Id
+	@Column(name = "ID")
+	private Long id;
+
+	@Column(name = "TITLE", length = 200)
+	private String title;
+
+	@Column(name = "AUTHOR", length = 100)
+	private String author;
+
+	@Column(name = "PAGES")
+	private int pages;
+
+	@Column(name = "AVAILABLE")
+	private boolean available = true;
+
+	@Version
+	@Column(name = "VERSION")
+	private long version;
+
+	protected BookEntity() {
+	}
+
+	public BookEntity(Long id, String title, String author) {
+		this.id = id;
+		this.title = title;
+		this.author = author;
+	}
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(String author) {
+		this.author = author;
+	}
+
+	public int getPages() {
+		return pages;
+	}
+
+	public void setPages(int pages) {
+		this.pages = pages;
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	public void setAvailable(boolean available) {
+		this.available = available;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+}
@@ -0,0 +1,49 @@
+package org.springframework.data.dozer.jpa.sample.domain;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.dozer.annotation.DozerEntity;
+import org.springframework.data.dozer.jpa.repository.DozerMappingCache;
+
+@DozerEntity(adaptedDomainClass = BookEntity.class)
+@DozerMappingCache
+public class CachedBook {
+	@Id
+	private Long id;
+	private String title;
+	private String author;
+	@Version
+	private long version;
+
+	public Long getId() {
+		return id;
+	}
+
+	public void setId(Long id) {
+		this.id = id;
+	}
+
+	public String getTitle() {
+		return title;
+	}
+
+	public void setTitle(String title) {
+		this.title = title;
+	}
+
+	public String getAuthor() {
+		return author;
+	}
+
+	public void setAuthor(String author) {
+		this.author = author;
+	}
+
+	public long getVersion() {
+		return version;
+	}
+
+	public void setVersion(long version) {
+		this.version = version;
+	}
+}
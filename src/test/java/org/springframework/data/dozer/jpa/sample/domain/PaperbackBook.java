@@ -0,0 +1,4 @@
+package org.springframework.data.dozer.jpa.sample.domain;
+
+public class PaperbackBook extends Book {
+}
@@ -0,0 +1,26 @@
+package org.springframework.data.dozer.jpa.sample.repository.dozer;
+
+import java.util.List;
+
+import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.repository.DozerJdbcQuery;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.repository.Repository;
+import org.springframework.data.repository.query.Param;
+
+@DozerRepository(adaptedRepositoryClass = BookEntityRepository.class)
+public interface BookJdbcRepository extends Repository<Book, Long> {
+
+	@DozerJdbcQuery
+	List<Book> findByAuthorOrderByTitleAsc(String author);
+
+	@DozerJdbcQuery
+	long countByAuthor(String author);
+
+	@DozerJdbcQuery
+	boolean existsByTitle(String title);
+
+	@DozerJdbcQuery("SELECT ID, TITLE, AUTHOR, PAGES, VERSION FROM BOOK WHERE PAGES >= :pages ORDER BY ID")
+	List<Book> findWithPages(@Param("pages") int pages);
+}
@@ -0,0 +1,20 @@
+package org.springframework.data.dozer.jpa.sample.repository.dozer;
+
+import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.repository.DozerChangeFeed;
+import org.springframework.data.dozer.jpa.repository.DozerChangeFeedExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerIdExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerPartitionExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerScrollExecutor;
+import org.springframework.data.dozer.jpa.repository.DozerUpsertExecutor;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+import org.springframework.data.repository.query.QueryByExampleExecutor;
+
+@DozerRepository(adaptedRepositoryClass = BookEntityRepository.class)
+@DozerChangeFeed(property = "pages")
+public interface BookRepository extends PagingAndSortingRepository<Book, Long>, QueryByExampleExecutor<Book>,
+		DozerScrollExecutor<Book>, DozerUpsertExecutor<Book>, DozerChangeFeedExecutor<Book>,
+		DozerIdExecutor<Book>, DozerPartitionExecutor<Book> {
+}
@@ -0,0 +1,10 @@
+package org.springframework.data.dozer.jpa.sample.repository.dozer;
+
+import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.sample.domain.CachedBook;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.repository.PagingAndSortingRepository;
+
+@DozerRepository(adaptedRepositoryClass = BookEntityRepository.class)
+public interface CachedBookRepository extends PagingAndSortingRepository<CachedBook, Long> {
+}
@@ -0,0 +1,17 @@
+package org.springframework.data.dozer.jpa.sample.repository.dozer;
+
+import org.springframework.data.dozer.annotation.DozerRepository;
+import org.springframework.data.dozer.jpa.sample.domain.Book;
+import org.springframework.data.dozer.jpa.sample.repository.jpa.BookEntityRepository;
+import org.springframework.data.repository.Repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@DozerRepository(adaptedRepositoryClass = BookEntityRepository.class)
+public interface ReactiveBookRepository extends Repository<Book, Long> {
+
+	Flux<Book> findByAuthorOrderByIdAsc(String author);
+
+	Mono<Book> findByTitle(String title);
+}
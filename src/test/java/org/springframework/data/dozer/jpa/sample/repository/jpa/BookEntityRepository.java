@@ -0,0 +1,7 @@
+package org.springframework.data.dozer.jpa.sample.repository.jpa;
+
+import org.springframework.data.dozer.jpa.sample.domain.BookEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BookEntityRepository extends JpaRepository<BookEntity, Long> {
+}
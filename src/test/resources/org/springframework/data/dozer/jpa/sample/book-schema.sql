@@ -0,0 +1,2 @@
+CREATE TABLE BOOK (ID BIGINT PRIMARY KEY, TITLE VARCHAR(200), AUTHOR VARCHAR(100), PAGES INT, AVAILABLE BOOLEAN,
+	VERSION BIGINT);